@@ -0,0 +1,46 @@
+package binding;
+
+import android.os.Handler;
+import android.os.Looper;
+import binding.utils.TimerWheel;
+
+/**
+ * Timer wheel driven by main thread {@link Handler}, so timeouts fire on UI thread. Used by bindings with
+ * {@link UpdateSourceTrigger#Debounce} and {@link UpdateSourceTrigger#Throttle} modes. Handler ticks only
+ * while there are scheduled timeouts. Should be used on UI thread only.
+ *
+ * @author igor.kostromin
+ *         02.08.13 17:30
+ */
+public class AndroidTimerWheel extends TimerWheel {
+    private static final int TICK_MILLIS = 10;
+    private static final int SLOTS_COUNT = 512;
+
+    private final Handler handler = new Handler( Looper.getMainLooper() );
+    private boolean ticking;
+    private final Runnable tick = new Runnable() {
+        @Override
+        public void run() {
+            if (!ticking) return;
+            advance();
+            if (ticking) handler.postDelayed( this, TICK_MILLIS );
+        }
+    };
+
+    public AndroidTimerWheel() {
+        super( TICK_MILLIS, SLOTS_COUNT );
+    }
+
+    @Override
+    protected void startTicking() {
+        if (ticking) return;
+        ticking = true;
+        handler.postDelayed( tick, TICK_MILLIS );
+    }
+
+    @Override
+    protected void stopTicking() {
+        ticking = false;
+        handler.removeCallbacks( tick );
+    }
+}
@@ -0,0 +1,42 @@
+package binding;
+
+import android.view.View;
+import binding.utils.TimerWheel;
+
+/**
+ * Android hooks for bindings to UI targets : focus changes of views and {@link AndroidTimerWheel}
+ * shared by all bindings. View has only one focus change listener, so LostFocus binding replaces
+ * listener set before and removes it when unbound.
+ *
+ * @author igor.kostromin
+ *         02.08.13 17:20
+ */
+public class AndroidUiPlatform extends UiPlatform {
+    public static final AndroidUiPlatform INSTANCE = new AndroidUiPlatform();
+
+    private AndroidTimerWheel timerWheel;
+
+    @Override
+    public Object addLostFocusListener( Object target, final Runnable listener ) {
+        View.OnFocusChangeListener focusListener = new View.OnFocusChangeListener() {
+            @Override
+            public void onFocusChange( View view, boolean hasFocus ) {
+                if (!hasFocus) listener.run();
+            }
+        };
+        ((View) target).setOnFocusChangeListener( focusListener );
+        return focusListener;
+    }
+
+    @Override
+    public void removeLostFocusListener( Object target, Object registration ) {
+        View view = (View) target;
+        if (view.getOnFocusChangeListener() == registration) view.setOnFocusChangeListener( null );
+    }
+
+    @Override
+    public TimerWheel getTimerWheel() {
+        if (null == timerWheel) timerWheel = new AndroidTimerWheel();
+        return timerWheel;
+    }
+}
@@ -16,6 +16,10 @@ public class BindingSettings extends BindingSettingsBase {
         ANDROID_DEFAULT_SETTINGS.initializeDefault();
     }
 
+    public BindingSettings() {
+        setUiPlatform( AndroidUiPlatform.INSTANCE );
+    }
+
     @Override
     public void initializeDefault() {
         super.initializeDefault();
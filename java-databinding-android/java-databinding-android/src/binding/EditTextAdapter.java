@@ -6,6 +6,7 @@ import binding.UpdateSourceTrigger;
 import android.widget.EditText;
 import binding.BindingMode;
 import binding.IPropertyChangedListener;
+import binding.adapters.IUiBindingAdapter;
 
 /**
  * @author igor.kostromin
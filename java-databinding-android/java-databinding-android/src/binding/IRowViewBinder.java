@@ -0,0 +1,23 @@
+package binding;
+
+import android.view.View;
+import android.view.ViewGroup;
+
+/**
+ * Creates row views of {@link ObservableListAdapter} and fills them with item data.
+ *
+ * @author igor.kostromin
+ *         02.08.13 15:30
+ */
+public interface IRowViewBinder<T> {
+    /**
+     * Creates new row view.
+     */
+    View newView( ViewGroup parent );
+
+    /**
+     * Shows item in view. Called when view is created or recycled for another item,
+     * and when property of item shown by view is changed.
+     */
+    void bindView( View view, T item );
+}
@@ -0,0 +1,100 @@
+package binding;
+
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.BaseAdapter;
+import binding.observables.IListRowsListener;
+import binding.observables.IObservableList;
+import binding.observables.ObservableListRows;
+
+/**
+ * {@link BaseAdapter} over {@link IObservableList}, so AdapterView (ListView, GridView, Spinner) shows
+ * list and follows its changes without manual notifyDataSetChanged() calls. Row views are recycled :
+ * view passed to getView() as convertView is bound to new item. Items implementing
+ * {@link INotifyPropertyChanged} are observed only while they are shown, and property change updates
+ * only view showing the item. Translation of list changes is done by {@link ObservableListRows}.
+ * Typical usage scenario:
+ * <p><blockquote><pre>
+ * ObservableListAdapter&lt;Customer&gt; adapter = new ObservableListAdapter&lt;Customer&gt;( model.getCustomers(),
+ *     new IRowViewBinder&lt;Customer&gt;() {
+ *         public View newView( ViewGroup parent ) { return new TextView( parent.getContext() ); }
+ *         public void bindView( View view, Customer item ) { ((TextView) view).setText( item.getName() ); }
+ *     } );
+ * listView.setAdapter( adapter );
+ * ...
+ * adapter.dispose();
+ * </pre></blockquote></p>
+ * List should be changed on UI thread.
+ *
+ * @author igor.kostromin
+ *         02.08.13 15:40
+ */
+public class ObservableListAdapter<T> extends BaseAdapter implements IListRowsListener<View> {
+    private final IObservableList<T> list;
+    private final IRowViewBinder<T> binder;
+    private final ObservableListRows<View> rows;
+
+    public ObservableListAdapter( IObservableList<T> list, IRowViewBinder<T> binder ) {
+        if (null == binder) throw new IllegalArgumentException( "binder is null" );
+        this.list = list;
+        this.binder = binder;
+        this.rows = new ObservableListRows<View>( list, this );
+        rows.attach();
+    }
+
+    public IObservableList<T> getList() {
+        return list;
+    }
+
+    /**
+     * Stops observing list and items.
+     */
+    public void dispose() {
+        rows.detach();
+    }
+
+    @Override
+    public int getCount() {
+        return list.size();
+    }
+
+    @Override
+    public T getItem( int position ) {
+        return list.get( position );
+    }
+
+    @Override
+    public long getItemId( int position ) {
+        return position;
+    }
+
+    @Override
+    public View getView( int position, View convertView, ViewGroup parent ) {
+        View view = null != convertView ? convertView : binder.newView( parent );
+        binder.bindView( view, (T) rows.bindView( view, position ) );
+        return view;
+    }
+
+    // BaseAdapter has no range notifications, AdapterView rebinds only its visible children
+    // and coalesces relayout requests made during one loop iteration
+
+    @Override
+    public void rowsInserted( int position, int count ) {
+        notifyDataSetChanged();
+    }
+
+    @Override
+    public void rowsRemoved( int position, int count ) {
+        notifyDataSetChanged();
+    }
+
+    @Override
+    public void rowsChanged( int position, int count ) {
+        notifyDataSetChanged();
+    }
+
+    @Override
+    public void rowPropertyChanged( View view, Object item, String propertyName ) {
+        binder.bindView( view, (T) item );
+    }
+}
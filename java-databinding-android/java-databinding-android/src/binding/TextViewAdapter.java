@@ -4,6 +4,7 @@ import android.widget.TextView;
 import binding.BindingMode;
 import binding.IPropertyChangedListener;
 import binding.UpdateSourceTrigger;
+import binding.adapters.IUiBindingAdapter;
 
 /**
  * @author igor.kostromin
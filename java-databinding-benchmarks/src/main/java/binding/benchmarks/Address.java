@@ -0,0 +1,20 @@
+package binding.benchmarks;
+
+import binding.PropertyChangedSupport;
+
+/**
+ * @author igor.kostromin
+ *         31.07.13 11:07
+ */
+public class Address extends PropertyChangedSupport {
+    private String city;
+
+    public String getCity() {
+        return city;
+    }
+
+    public void setCity( String city ) {
+        this.city = city;
+        raisePropertyChange( "city" );
+    }
+}
@@ -0,0 +1,29 @@
+package binding.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs benchmarks of this module reporting throughput together with allocation rate
+ * (gc.alloc.rate.norm is bytes allocated per operation). Optional argument is regexp
+ * filtering benchmarks, for example "UpdateBenchmark". Usage :
+ * <p><blockquote><pre>
+ * mvn package
+ * java -jar target/benchmarks.jar [regexp]
+ * </pre></blockquote></p>
+ *
+ * @author igor.kostromin
+ *         31.07.13 12:50
+ */
+public class BenchmarkRunner {
+    public static void main( String[] args ) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include( args.length > 0 ? args[0] : BenchmarkRunner.class.getPackage().getName() + ".*" )
+                .addProfiler( GCProfiler.class )
+                .build();
+        new Runner( options ).run();
+    }
+}
@@ -0,0 +1,64 @@
+package binding.benchmarks;
+
+import binding.BindingGroup;
+import binding.BindingMode;
+import org.openjdk.jmh.annotations.*;
+
+import javax.swing.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link BindingGroup} bind of 100 and 1000 prototypes to Swing text fields :
+ * first bind creating binding objects and rebind reusing them. OneWay mode is used : in TwoWay mode
+ * each bound field writes the value back to shared Source property, so cost grows quadratically.
+ * Runs in headless mode.
+ *
+ * @author igor.kostromin
+ *         31.07.13 12:30
+ */
+@BenchmarkMode( Mode.Throughput )
+@OutputTimeUnit( TimeUnit.SECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( value = 1, jvmArgsAppend = "-Djava.awt.headless=true" )
+@State( Scope.Thread )
+public class BindingGroupBenchmark {
+    @Param( { "100", "1000" } )
+    public int protos;
+
+    private Customer customer;
+    private JTextField[] fields;
+    private BindingGroup group;
+
+    @Setup
+    public void setup() {
+        customer = new Customer();
+        customer.setName( "John" );
+        fields = new JTextField[protos];
+        for ( int i = 0; i < protos; i++ ) {
+            fields[i] = new JTextField(  );
+        }
+        group = createGroup();
+    }
+
+    private BindingGroup createGroup() {
+        BindingGroup created = new BindingGroup( customer );
+        for ( JTextField field : fields ) {
+            created.add( field, "text", "name", BindingMode.OneWay );
+        }
+        return created;
+    }
+
+    @Benchmark
+    public void firstBind() {
+        BindingGroup created = createGroup();
+        created.bind();
+        created.unbind();
+    }
+
+    @Benchmark
+    public void rebind() {
+        group.bind();
+        group.unbind();
+    }
+}
@@ -0,0 +1,56 @@
+package binding.benchmarks;
+
+import binding.BindingBase;
+import binding.BindingMode;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link BindingBase#bind()} and {@link BindingBase#unbind()} of single binding.
+ *
+ * @author igor.kostromin
+ *         31.07.13 11:30
+ */
+@BenchmarkMode( Mode.Throughput )
+@OutputTimeUnit( TimeUnit.MILLISECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+@State( Scope.Thread )
+public class BindingLifecycleBenchmark {
+    private Customer customer;
+    private Form form;
+    private BindingBase binding;
+    private BindingBase pathBinding;
+
+    @Setup
+    public void setup() {
+        customer = new Customer();
+        customer.setName( "John" );
+        customer.setAddress( new Address() );
+        customer.getAddress().setCity( "Moscow" );
+        form = new Form();
+        binding = new BindingBase( form, "text", customer, "name", BindingMode.TwoWay );
+        pathBinding = new BindingBase( form, "text", customer, "address.city", BindingMode.TwoWay );
+    }
+
+    @Benchmark
+    public void bindUnbind() {
+        binding.bind();
+        binding.unbind();
+    }
+
+    @Benchmark
+    public void bindUnbindPath() {
+        pathBinding.bind();
+        pathBinding.unbind();
+    }
+
+    @Benchmark
+    public void createBindUnbind() {
+        BindingBase created = new BindingBase( form, "text", customer, "name", BindingMode.TwoWay );
+        created.bind();
+        created.unbind();
+    }
+}
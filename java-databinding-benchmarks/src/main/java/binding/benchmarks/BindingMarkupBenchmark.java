@@ -0,0 +1,79 @@
+package binding.benchmarks;
+
+import binding.BindingMode;
+import binding.expressions.BindingMarkup;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures binding markup parsing : parsing of distinct markup strings (as on first inflation of layout),
+ * parsing of already seen string (as on repeated inflations) and parsing with String.split()
+ * as it was done before.
+ *
+ * @author igor.kostromin
+ *         24.07.13 14:30
+ */
+@BenchmarkMode( Mode.Throughput )
+@OutputTimeUnit( TimeUnit.MILLISECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+@State( Scope.Thread )
+public class BindingMarkupBenchmark {
+    // more distinct strings than cache can hold, so cycling through them never hits the cache
+    private static final int COUNT = BindingMarkup.CACHE_CAPACITY * 8;
+
+    private String[] markups;
+    private int next;
+
+    @Setup
+    public void setup() {
+        markups = new String[COUNT];
+        for ( int i = 0; i < COUNT; i++ )
+            markups[i] = String.format( "{Path=item%d.name, Mode=TwoWay, UpdateSourceTrigger=LostFocus}", i );
+    }
+
+    private String nextMarkup() {
+        String markup = markups[next];
+        next = (next + 1) % COUNT;
+        return markup;
+    }
+
+    /**
+     * Old split() based parsing, kept for comparison.
+     */
+    private static Object[] parseWithSplit( String expr ) {
+        String body = expr.substring( 1, expr.length() - 1 );
+        String path = null;
+        BindingMode mode = null;
+        String trigger = null;
+        for ( String part : body.split( "," ) ) {
+            String[] leftAndRight = part.trim().split( "=" );
+            if (leftAndRight.length != 2) throw new RuntimeException( "Invalid syntax" );
+            String lowercasedKey = leftAndRight[0].toLowerCase();
+            if ("path".equals( lowercasedKey )) path = leftAndRight[1];
+            else if ("mode".equals( lowercasedKey )) {
+                String s = leftAndRight[1].toLowerCase();
+                for ( BindingMode bindingMode : BindingMode.values() )
+                    if (bindingMode.name().toLowerCase().equals( s )) mode = bindingMode;
+            } else if ("updatesourcetrigger".equals( lowercasedKey )) trigger = leftAndRight[1].toLowerCase();
+        }
+        return new Object[] { path, mode, trigger };
+    }
+
+    @Benchmark
+    public BindingMarkup parseDistinct() {
+        return BindingMarkup.parse( nextMarkup() );
+    }
+
+    @Benchmark
+    public BindingMarkup parseCached() {
+        return BindingMarkup.parse( markups[0] );
+    }
+
+    @Benchmark
+    public Object[] parseWithSplit() {
+        return parseWithSplit( nextMarkup() );
+    }
+}
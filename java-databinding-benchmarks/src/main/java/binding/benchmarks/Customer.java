@@ -0,0 +1,61 @@
+package binding.benchmarks;
+
+import binding.PropertyChangedSupport;
+import binding.observables.IObservableList;
+import binding.observables.ObservableList;
+
+import java.util.ArrayList;
+
+/**
+ * Benchmark Source model.
+ *
+ * @author igor.kostromin
+ *         31.07.13 11:05
+ */
+public class Customer extends PropertyChangedSupport {
+    private String name;
+    private Integer age;
+    private String comment;
+    private Address address;
+    private final IObservableList<String> orders = new ObservableList<String>( new ArrayList<String>(  ) );
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName( String name ) {
+        this.name = name;
+        raisePropertyChange( "name" );
+    }
+
+    public Integer getAge() {
+        return age;
+    }
+
+    public void setAge( Integer age ) {
+        this.age = age;
+        raisePropertyChange( "age" );
+    }
+
+    public String getComment() {
+        return comment;
+    }
+
+    public void setComment( String comment ) {
+        this.comment = comment;
+        raisePropertyChange( "comment" );
+    }
+
+    public Address getAddress() {
+        return address;
+    }
+
+    public void setAddress( Address address ) {
+        this.address = address;
+        raisePropertyChange( "address" );
+    }
+
+    public IObservableList<String> getOrders() {
+        return orders;
+    }
+}
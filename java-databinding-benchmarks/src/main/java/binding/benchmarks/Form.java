@@ -0,0 +1,51 @@
+package binding.benchmarks;
+
+import binding.PropertyChangedSupport;
+import binding.observables.IObservableList;
+import binding.observables.ObservableList;
+
+import java.util.ArrayList;
+
+/**
+ * Benchmark Target model, stands for UI form without toolkit overhead.
+ *
+ * @author igor.kostromin
+ *         31.07.13 11:10
+ */
+public class Form extends PropertyChangedSupport {
+    private String text;
+    private String count;
+    private String comment;
+    private final IObservableList<String> items = new ObservableList<String>( new ArrayList<String>(  ) );
+
+    public String getText() {
+        return text;
+    }
+
+    public void setText( String text ) {
+        this.text = text;
+        raisePropertyChange( "text" );
+    }
+
+    public String getCount() {
+        return count;
+    }
+
+    public void setCount( String count ) {
+        this.count = count;
+        raisePropertyChange( "count" );
+    }
+
+    public String getComment() {
+        return comment;
+    }
+
+    public void setComment( String comment ) {
+        this.comment = comment;
+        raisePropertyChange( "comment" );
+    }
+
+    public IObservableList<String> getItems() {
+        return items;
+    }
+}
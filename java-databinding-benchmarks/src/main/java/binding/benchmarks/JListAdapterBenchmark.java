@@ -0,0 +1,128 @@
+package binding.benchmarks;
+
+import binding.Binding;
+import binding.BindingMode;
+import binding.observables.IObservableList;
+import binding.observables.IObservableListListener;
+import org.openjdk.jmh.annotations.*;
+
+import javax.swing.*;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures bulk and incremental inserts into Source list bound to JList "items" property,
+ * including firing ListDataEvents in the end of EDT cycle. With legacyUpdateUI the list
+ * additionally calls jList.updateUI() on every change as JListAdapter did before.
+ *
+ * @author igor.kostromin
+ *         31.07.13 18:40
+ */
+@BenchmarkMode( Mode.Throughput )
+@OutputTimeUnit( TimeUnit.SECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( value = 1, jvmArgsAppend = "-Djava.awt.headless=true" )
+@State( Scope.Thread )
+public class JListAdapterBenchmark {
+    @Param( { "false", "true" } )
+    public boolean legacyUpdateUI;
+
+    @Param( { "10000" } )
+    public int size;
+
+    private Customer customer;
+    private JList jList;
+    private Binding binding;
+    private List<String> items;
+
+    private Runnable bulkInsert;
+    private Runnable incrementalInsert;
+    private final Runnable nothing = new Runnable() {
+        public void run() {
+        }
+    };
+
+    private static void onEdt( Runnable runnable ) {
+        try {
+            SwingUtilities.invokeAndWait( runnable );
+        } catch ( InterruptedException e ) {
+            throw new RuntimeException( e );
+        } catch ( InvocationTargetException e ) {
+            throw new RuntimeException( e );
+        }
+    }
+
+    @Setup
+    public void setup() {
+        customer = new Customer();
+        items = new ArrayList<String>( size );
+        for ( int i = 0; i < size; i++ ) {
+            items.add( "item" + i );
+        }
+        onEdt( new Runnable() {
+            public void run() {
+                jList = new JList(  );
+                binding = new Binding( jList, "items", customer, "orders", BindingMode.OneWay );
+                binding.bind();
+                if (legacyUpdateUI) {
+                    IObservableList target = (IObservableList) jList.getClientProperty( "BINDING_MODEL_ITEMS" );
+                    target.addObservableListListener( new IObservableListListener() {
+                        public void listElementsAdded( IObservableList list, int index, int length ) {
+                            jList.updateUI();
+                        }
+
+                        public void listElementsRemoved( IObservableList list, int index, List oldElements ) {
+                            jList.updateUI();
+                        }
+
+                        public void listElementReplaced( IObservableList list, int index, Object oldElement ) {
+                            jList.updateUI();
+                        }
+                    } );
+                }
+            }
+        } );
+        bulkInsert = new Runnable() {
+            public void run() {
+                customer.getOrders().addAll( items );
+                jList.getPreferredSize();
+                customer.getOrders().clear();
+            }
+        };
+        incrementalInsert = new Runnable() {
+            public void run() {
+                List<String> orders = customer.getOrders();
+                for ( int i = 0; i < size; i++ ) {
+                    orders.add( items.get( i ) );
+                }
+                jList.getPreferredSize();
+                orders.clear();
+            }
+        };
+    }
+
+    @TearDown
+    public void tearDown() {
+        onEdt( new Runnable() {
+            public void run() {
+                binding.unbind();
+            }
+        } );
+    }
+
+    @Benchmark
+    public void bulkInsert() {
+        onEdt( bulkInsert );
+        // wait for events fired in the end of cycle
+        onEdt( nothing );
+    }
+
+    @Benchmark
+    public void incrementalInsert() {
+        onEdt( incrementalInsert );
+        onEdt( nothing );
+    }
+}
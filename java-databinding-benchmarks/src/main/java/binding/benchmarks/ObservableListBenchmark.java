@@ -0,0 +1,83 @@
+package binding.benchmarks;
+
+import binding.BindingBase;
+import binding.BindingMode;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link binding.observables.ObservableList} operations without listeners
+ * and with Target list synchronized by OneWay binding.
+ *
+ * @author igor.kostromin
+ *         31.07.13 12:05
+ */
+@BenchmarkMode( Mode.Throughput )
+@OutputTimeUnit( TimeUnit.MILLISECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+@State( Scope.Thread )
+public class ObservableListBenchmark {
+    @Param( { "false", "true" } )
+    public boolean synced;
+
+    @Param( { "1000" } )
+    public int size;
+
+    private Customer customer;
+    private Form form;
+    private BindingBase binding;
+    private List<String> items;
+
+    @Setup
+    public void setup() {
+        customer = new Customer();
+        form = new Form();
+        items = new ArrayList<String>( size );
+        for ( int i = 0; i < size; i++ ) {
+            items.add( "item" + i );
+        }
+        if (synced) {
+            binding = new BindingBase( form, "items", customer, "orders", BindingMode.OneWay );
+            binding.bind();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (null != binding) binding.unbind();
+    }
+
+    @Benchmark
+    public int addAllClear() {
+        customer.getOrders().addAll( items );
+        customer.getOrders().clear();
+        return form.getItems().size();
+    }
+
+    @Benchmark
+    public int addRemoveEach() {
+        List<String> orders = customer.getOrders();
+        for ( int i = 0; i < size; i++ ) {
+            orders.add( items.get( i ) );
+        }
+        while ( !orders.isEmpty() ) {
+            orders.remove( orders.size() - 1 );
+        }
+        return form.getItems().size();
+    }
+
+    @Benchmark
+    public int setEach() {
+        List<String> orders = customer.getOrders();
+        if (orders.isEmpty()) orders.addAll( items );
+        for ( int i = 0; i < size; i++ ) {
+            orders.set( i, items.get( size - 1 - i ) );
+        }
+        return form.getItems().size();
+    }
+}
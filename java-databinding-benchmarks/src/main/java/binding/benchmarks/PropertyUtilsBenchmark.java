@@ -0,0 +1,31 @@
+package binding.benchmarks;
+
+import binding.utils.PropertyInfo;
+import binding.utils.PropertyUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures property accessors resolution done on every {@link binding.BindingBase#bind()}.
+ *
+ * @author igor.kostromin
+ *         31.07.13 11:20
+ */
+@BenchmarkMode( Mode.Throughput )
+@OutputTimeUnit( TimeUnit.MILLISECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+@State( Scope.Thread )
+public class PropertyUtilsBenchmark {
+    @Benchmark
+    public PropertyInfo getProperty() {
+        return PropertyUtils.getProperty( Customer.class, "name" );
+    }
+
+    @Benchmark
+    public PropertyInfo[] getPropertyPath() {
+        return PropertyUtils.getPropertyPath( Customer.class, "address.city" );
+    }
+}
@@ -0,0 +1,69 @@
+package binding.benchmarks;
+
+import binding.BindingBase;
+import binding.BindingMode;
+import binding.INotifyPropertyChanged;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures selection change latency in master-detail scenario : 100 bindings are switched from one Source
+ * to another. Compares {@link BindingBase#setSource(INotifyPropertyChanged)} fast path with explicit unbind/bind.
+ *
+ * @author igor.kostromin
+ *         19.07.13 16:02
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+@State( Scope.Thread )
+public class SetSourceBenchmark {
+    private static final int BINDINGS_COUNT = 100;
+
+    private Customer[] customers;
+    private BindingBase[] bindings;
+    private int next;
+
+    @Setup
+    public void setup() {
+        customers = new Customer[10];
+        for ( int i = 0; i < customers.length; i++ ) {
+            customers[i] = new Customer();
+            customers[i].setName( "customer" + i );
+        }
+        bindings = new BindingBase[BINDINGS_COUNT];
+        for ( int i = 0; i < BINDINGS_COUNT; i++ ) {
+            bindings[i] = new BindingBase( new Form(), "text", customers[0], "name", BindingMode.OneWay );
+            bindings[i].bind();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        for ( BindingBase binding : bindings ) binding.unbind();
+    }
+
+    private Customer nextCustomer() {
+        next = (next + 1) % customers.length;
+        return customers[next];
+    }
+
+    @Benchmark
+    public void setSource() {
+        Customer selected = nextCustomer();
+        for ( BindingBase binding : bindings ) binding.setSource( selected );
+    }
+
+    @Benchmark
+    public void unbindBind() {
+        Customer selected = nextCustomer();
+        for ( BindingBase binding : bindings ) {
+            binding.unbind();
+            binding.setSource( selected );
+            binding.bind();
+        }
+    }
+}
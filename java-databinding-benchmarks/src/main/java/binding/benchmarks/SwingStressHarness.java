@@ -0,0 +1,369 @@
+package binding.benchmarks;
+
+import binding.*;
+import binding.observables.IObservableList;
+import binding.observables.ObservableList;
+
+import javax.swing.*;
+import java.awt.*;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Headless stress harness for Swing adapters. Source property bound to component is changed
+ * at controlled rate, harness measures latency from Source change to the moment component state
+ * reflects it (percentiles) and EDT occupancy (share of wall time spent dispatching events).
+ * <p>Component state is checked after every event dispatched by EDT (instrumented {@link EventQueue}),
+ * so measurement does not depend on listeners provided by adapter. Changes overtaken by later ones
+ * before they reached component (coalesced) are counted as observed at the moment the later one
+ * is observed.</p>
+ * <p>Two scenarios are run : "worker" - Source is changed from worker thread, bindings marshal
+ * updates by {@link EdtThreadAffinity}; "edt" - Source changes are posted to EDT, bindings
+ * update component synchronously. Usage :</p>
+ * <p><blockquote><pre>
+ * java -Djava.awt.headless=true -cp target/benchmarks.jar binding.benchmarks.SwingStressHarness [rates] [seconds]
+ * </pre></blockquote></p>
+ * where rates is comma-separated list of change rates per second (default 100,1000,10000)
+ * and seconds is measurement duration for each rate (default 3).
+ *
+ * @author igor.kostromin
+ *         31.07.13 15:10
+ */
+public class SwingStressHarness {
+    private static final int WARMUP_SECONDS = 1;
+
+    public static class Model extends PropertyChangedSupport {
+        private String text;
+        // boolean can not encode change number, so number is kept and value is derived from its parity
+        private volatile int checkedSeq;
+        // number of the change read by binding last time
+        private volatile int deliveredCheckedSeq;
+        private final IObservableList<String> items = new ObservableList<String>( new ArrayList<String>(  ) );
+
+        public String getText() {
+            return text;
+        }
+
+        public void setText( String text ) {
+            this.text = text;
+            raisePropertyChange( "text" );
+        }
+
+        public Boolean getChecked() {
+            int seq = checkedSeq;
+            deliveredCheckedSeq = seq;
+            return (seq & 1) == 1;
+        }
+
+        public void setCheckedSeq( int seq ) {
+            this.checkedSeq = seq;
+            raisePropertyChange( "checked" );
+        }
+
+        public int getDeliveredCheckedSeq() {
+            return deliveredCheckedSeq;
+        }
+
+        public IObservableList<String> getItems() {
+            return items;
+        }
+    }
+
+    /**
+     * Bound component under test. Changes are numbered, component state is decoded back to number
+     * of the latest change it reflects.
+     */
+    private static abstract class Probe {
+        final String name;
+        final Model model = new Model();
+        JComponent component;
+        Binding binding;
+        // number of the latest issued change, written by producer
+        volatile int issued;
+
+        Probe( String name ) {
+            this.name = name;
+        }
+
+        /**
+         * Creates component and binding, called on EDT.
+         */
+        abstract void create( BindingSettingsBase settings );
+
+        /**
+         * Changes Source property to value encoding specified change number.
+         */
+        abstract void change( int seq );
+
+        /**
+         * Returns number of the latest change reflected by component, called on EDT.
+         */
+        abstract int observed();
+
+        static int parse( String text ) {
+            if (null == text || text.length() == 0) return 0;
+            return Integer.parseInt( text );
+        }
+    }
+
+    private static List<Probe> createProbes() {
+        List<Probe> probes = new ArrayList<Probe>(  );
+        probes.add( new Probe( "JTextField.text" ) {
+            void create( BindingSettingsBase settings ) {
+                component = new JTextField(  );
+                binding = new Binding( component, "text", model, "text", BindingMode.OneWay, UpdateSourceTrigger.Default, settings );
+            }
+
+            void change( int seq ) {
+                model.setText( String.valueOf( seq ) );
+            }
+
+            int observed() {
+                return parse( ((JTextField) component).getText() );
+            }
+        } );
+        probes.add( new Probe( "JPasswordField.text" ) {
+            void create( BindingSettingsBase settings ) {
+                component = new JPasswordField(  );
+                binding = new Binding( component, "text", model, "text", BindingMode.OneWay, UpdateSourceTrigger.Default, settings );
+            }
+
+            void change( int seq ) {
+                model.setText( String.valueOf( seq ) );
+            }
+
+            int observed() {
+                return parse( new String( ((JPasswordField) component).getPassword() ) );
+            }
+        } );
+        probes.add( new Probe( "JLabel.text" ) {
+            void create( BindingSettingsBase settings ) {
+                component = new JLabel(  );
+                binding = new Binding( component, "text", model, "text", BindingMode.OneWay, UpdateSourceTrigger.Default, settings );
+            }
+
+            void change( int seq ) {
+                model.setText( String.valueOf( seq ) );
+            }
+
+            int observed() {
+                return parse( ((JLabel) component).getText() );
+            }
+        } );
+        probes.add( new Probe( "JCheckBox.checked" ) {
+            void create( BindingSettingsBase settings ) {
+                component = new JCheckBox(  );
+                binding = new Binding( component, "checked", model, "checked", BindingMode.OneWay, UpdateSourceTrigger.Default, settings );
+            }
+
+            void change( int seq ) {
+                model.setCheckedSeq( seq );
+            }
+
+            int observed() {
+                // value read by binding is set to component in the same EDT event,
+                // state not matching it means the value is not delivered yet
+                int seq = model.getDeliveredCheckedSeq();
+                boolean selected = ((JCheckBox) component).isSelected();
+                return selected == ((seq & 1) == 1) ? seq : -1;
+            }
+        } );
+        probes.add( new Probe( "JList.items" ) {
+            void create( BindingSettingsBase settings ) {
+                model.getItems().add( "0" );
+                component = new JList(  );
+                binding = new Binding( component, "items", model, "items", BindingMode.OneWay, UpdateSourceTrigger.Default, settings );
+            }
+
+            void change( int seq ) {
+                model.getItems().set( 0, String.valueOf( seq ) );
+            }
+
+            int observed() {
+                ListModel listModel = ((JList) component).getModel();
+                return listModel.getSize() == 0 ? 0 : parse( (String) listModel.getElementAt( 0 ) );
+            }
+        } );
+        return probes;
+    }
+
+    /**
+     * Event queue measuring dispatch time and checking state of probe after each event.
+     */
+    private static class MeasuringEventQueue extends EventQueue {
+        // accessed on EDT only
+        private Probe probe;
+        private long busyNanos;
+        private int lastObserved;
+        private long[] issuedAt;
+        private long[] latencies;
+        private int latenciesCount;
+        private int observations;
+
+        @Override
+        protected void dispatchEvent( AWTEvent event ) {
+            long start = System.nanoTime();
+            super.dispatchEvent( event );
+            long end = System.nanoTime();
+            busyNanos += end - start;
+            if (null != probe) {
+                int observed = Math.min( probe.observed(), probe.issued );
+                if (observed > lastObserved) {
+                    observations++;
+                    for ( int seq = lastObserved + 1; seq <= observed; seq++ ) {
+                        latencies[latenciesCount++] = end - issuedAt[seq];
+                    }
+                    lastObserved = observed;
+                }
+            }
+        }
+
+        void start( Probe probe, long[] issuedAt ) {
+            this.probe = probe;
+            this.issuedAt = issuedAt;
+            this.latencies = new long[issuedAt.length];
+            this.latenciesCount = 0;
+            this.observations = 0;
+            this.lastObserved = 0;
+            this.busyNanos = 0;
+        }
+    }
+
+    private static void onEdt( Runnable runnable ) {
+        try {
+            SwingUtilities.invokeAndWait( runnable );
+        } catch ( InterruptedException e ) {
+            throw new RuntimeException( e );
+        } catch ( InvocationTargetException e ) {
+            throw new RuntimeException( e );
+        }
+    }
+
+    /**
+     * Sets Source property to change 0 and waits until component reflects it.
+     */
+    private static void reset( final Probe probe ) {
+        probe.issued = 0;
+        probe.change( 0 );
+        final int[] observed = { -1 };
+        while ( observed[0] != 0 ) {
+            onEdt( new Runnable() {
+                public void run() {
+                    observed[0] = probe.observed();
+                }
+            } );
+        }
+    }
+
+    private static String run( final MeasuringEventQueue queue, final Probe probe, int rate, int seconds, boolean worker ) {
+        reset( probe );
+        final int count = rate * seconds;
+        final long[] issuedAt = new long[count + 1];
+        onEdt( new Runnable() {
+            public void run() {
+                queue.start( probe, issuedAt );
+            }
+        } );
+        long interval = 1000000000L / rate;
+        long startTime = System.nanoTime();
+        for ( int seq = 1; seq <= count; seq++ ) {
+            long due = startTime + seq * interval;
+            long remaining;
+            while ( (remaining = due - System.nanoTime()) > 0 ) {
+                if (remaining > 100000) LockSupport.parkNanos( remaining - 50000 );
+            }
+            final int current = seq;
+            issuedAt[current] = System.nanoTime();
+            probe.issued = current;
+            if (worker) {
+                probe.change( current );
+            } else {
+                SwingUtilities.invokeLater( new Runnable() {
+                    public void run() {
+                        probe.change( current );
+                    }
+                } );
+            }
+        }
+        // wait for the last change to be observed
+        final int[] observed = new int[1];
+        long deadline = System.nanoTime() + 10000000000L;
+        while ( observed[0] < count && System.nanoTime() < deadline ) {
+            onEdt( new Runnable() {
+                public void run() {
+                    observed[0] = queue.lastObserved;
+                }
+            } );
+        }
+        final long wallNanos = System.nanoTime() - startTime;
+        final String[] result = new String[1];
+        onEdt( new Runnable() {
+            public void run() {
+                queue.probe = null;
+                result[0] = report( queue, count, wallNanos );
+            }
+        } );
+        return result[0];
+    }
+
+    private static String report( MeasuringEventQueue queue, int count, long wallNanos ) {
+        long[] sorted = Arrays.copyOf( queue.latencies, queue.latenciesCount );
+        Arrays.sort( sorted );
+        return String.format( Locale.US, "%8d %8d %8.1f %8.1f %8.1f %8.1f %9.1f %7.1f%%",
+                count - sorted.length, queue.observations,
+                percentile( sorted, 0.5 ), percentile( sorted, 0.9 ), percentile( sorted, 0.99 ),
+                percentile( sorted, 0.999 ), percentile( sorted, 1.0 ),
+                100.0 * queue.busyNanos / wallNanos );
+    }
+
+    /**
+     * Returns percentile in microseconds.
+     */
+    private static double percentile( long[] sorted, double p ) {
+        if (sorted.length == 0) return Double.NaN;
+        int index = (int) Math.ceil( p * sorted.length ) - 1;
+        return sorted[Math.max( 0, index )] / 1000.0;
+    }
+
+    public static void main( String[] args ) {
+        System.setProperty( "java.awt.headless", "true" );
+        String[] ratesArg = (args.length > 0 ? args[0] : "100,1000,10000").split( "," );
+        int seconds = args.length > 1 ? Integer.parseInt( args[1] ) : 3;
+
+        final MeasuringEventQueue queue = new MeasuringEventQueue();
+        Toolkit.getDefaultToolkit().getSystemEventQueue().push( queue );
+
+        System.out.println( String.format( "%-8s %-20s %7s %8s %8s %8s %8s %8s %8s %9s %8s",
+                "thread", "component", "rate/s", "lost", "updates", "p50,us", "p90,us", "p99,us", "p99.9,us", "max,us", "EDT" ) );
+        for ( final boolean worker : new boolean[] { true, false } ) {
+            final BindingSettings settings = new BindingSettings();
+            settings.initializeDefault();
+            settings.setThreadAffinity( worker ? EdtThreadAffinity.INSTANCE : ThreadAffinity.DIRECT );
+            for ( final Probe probe : createProbes() ) {
+                onEdt( new Runnable() {
+                    public void run() {
+                        probe.create( settings );
+                        probe.binding.bind();
+                    }
+                } );
+                for ( String rateArg : ratesArg ) {
+                    int rate = Integer.parseInt( rateArg.trim() );
+                    run( queue, probe, rate, WARMUP_SECONDS, worker );
+                    String result = run( queue, probe, rate, seconds, worker );
+                    System.out.println( String.format( "%-8s %-20s %7d %s",
+                            worker ? "worker" : "edt", probe.name, rate, result ) );
+                }
+                onEdt( new Runnable() {
+                    public void run() {
+                        probe.binding.unbind();
+                    }
+                } );
+            }
+        }
+        System.exit( 0 );
+    }
+}
@@ -0,0 +1,93 @@
+package binding.benchmarks;
+
+import binding.BindingBase;
+import binding.BindingMode;
+import binding.validators.RequiredValidator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures per-change cost of bound TwoWay bindings : Source change propagated to Target
+ * (updateTarget) and Target change propagated to Source (updateSource), plain, through
+ * String-Integer converter and through validator. Values are prepared before measurement.
+ *
+ * @author igor.kostromin
+ *         31.07.13 11:45
+ */
+@BenchmarkMode( Mode.Throughput )
+@OutputTimeUnit( TimeUnit.MILLISECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+@State( Scope.Thread )
+public class UpdateBenchmark {
+    private static final int VALUES_COUNT = 64;
+
+    private Customer customer;
+    private Form form;
+    private BindingBase plainBinding;
+    private BindingBase convertedBinding;
+    private BindingBase validatedBinding;
+    private final String[] strings = new String[VALUES_COUNT];
+    private final Integer[] numbers = new Integer[VALUES_COUNT];
+    private int i;
+
+    @Setup
+    public void setup() {
+        for ( int j = 0; j < VALUES_COUNT; j++ ) {
+            strings[j] = String.valueOf( 1000 + j );
+            numbers[j] = 1000 + j;
+        }
+        customer = new Customer();
+        form = new Form();
+        plainBinding = new BindingBase( form, "text", customer, "name", BindingMode.TwoWay );
+        convertedBinding = new BindingBase( form, "count", customer, "age", BindingMode.TwoWay );
+        validatedBinding = new BindingBase( form, "comment", customer, "comment", BindingMode.TwoWay );
+        validatedBinding.setValidator( new RequiredValidator() );
+        plainBinding.bind();
+        convertedBinding.bind();
+        validatedBinding.bind();
+    }
+
+    @TearDown
+    public void tearDown() {
+        plainBinding.unbind();
+        convertedBinding.unbind();
+        validatedBinding.unbind();
+    }
+
+    private int next() {
+        return i = (i + 1) & (VALUES_COUNT - 1);
+    }
+
+    @Benchmark
+    public String updateTarget() {
+        customer.setName( strings[next()] );
+        return form.getText();
+    }
+
+    @Benchmark
+    public String updateTargetConverted() {
+        customer.setAge( numbers[next()] );
+        return form.getCount();
+    }
+
+    @Benchmark
+    public String updateSource() {
+        form.setText( strings[next()] );
+        return customer.getName();
+    }
+
+    @Benchmark
+    public Integer updateSourceConverted() {
+        form.setCount( strings[next()] );
+        return customer.getAge();
+    }
+
+    @Benchmark
+    public String updateSourceValidated() {
+        form.setComment( strings[next()] );
+        return customer.getComment();
+    }
+}
@@ -3,8 +3,6 @@ package binding;
 import binding.adapters.IUiBindingAdapter;
 
 import javax.swing.*;
-import java.awt.event.FocusEvent;
-import java.awt.event.FocusListener;
 
 /**
  * Provides data sync connection between two objects - source and target. Both source and target can be just objects,
@@ -51,22 +49,23 @@ import java.awt.event.FocusListener;
  * Binding binding = new Binding(textField, "text", model, "name", BindingMode.TwoWay, UpdateSourceTrigger.PropertyChanged);
  * binding.bind();
  * </pre></blockquote></p>
+ * With {@link UpdateSourceTrigger#Debounce} and {@link UpdateSourceTrigger#Throttle} modes Source is updated after
+ * a delay set by {@link #setUpdateSourceDelay(int)}, timeouts of all bindings are scheduled in shared {@link SwingTimerWheel}.
+ * Target observing for each trigger is implemented by {@link BindingBase}, Swing focus events and timers are
+ * provided by {@link SwingUiPlatform}.
  *
  * @author igor.kostromin
  *         10.07.13 15:29
  */
 public class Binding extends BindingBase {
-    private UpdateSourceTrigger updateSourceTrigger;
-
-    // used instead targetListener if UpdateSourceTrigger set to LostFocus
-    private FocusListener targetFocusListener;
-
     public Binding( JComponent target, String targetProperty, INotifyPropertyChanged source, String sourceProperty, BindingMode mode,
                         UpdateSourceTrigger updateSourceTrigger, BindingSettingsBase settings ) {
         super( target, targetProperty, source, sourceProperty, mode, settings );
         //
         this.updateSourceTrigger = updateSourceTrigger;
         this.targetIsUi = true;
+        // focus events and timers are available even if settings are not Swing ones
+        this.defaultUiPlatform = SwingUiPlatform.INSTANCE;
     }
 
     public Binding( JComponent target, String targetProperty, INotifyPropertyChanged source, String sourceProperty, BindingMode mode,
@@ -74,6 +73,12 @@ public class Binding extends BindingBase {
         this(target, targetProperty, source, sourceProperty, mode, updateSourceTrigger, BindingSettings.SWING_DEFAULT_SETTINGS );
     }
 
+    public Binding( JComponent target, String targetProperty, INotifyPropertyChanged source, String sourceProperty, BindingMode mode,
+                        UpdateSourceTrigger updateSourceTrigger, int updateSourceDelay ) {
+        this(target, targetProperty, source, sourceProperty, mode, updateSourceTrigger );
+        setUpdateSourceDelay( updateSourceDelay );
+    }
+
     public Binding( JComponent target, String targetProperty, INotifyPropertyChanged source, String sourceProperty, BindingMode mode ) {
         this(target, targetProperty, source, sourceProperty, mode, UpdateSourceTrigger.Default );
     }
@@ -81,104 +86,4 @@ public class Binding extends BindingBase {
     public Binding( JComponent target, String targetProperty, INotifyPropertyChanged source, String sourceProperty ) {
         this(target, targetProperty, source, sourceProperty, BindingMode.Default, UpdateSourceTrigger.Default );
     }
-
-    private class TargetFocusListener implements FocusListener {
-        public void focusGained( FocusEvent e ) {
-        }
-
-        public void focusLost( FocusEvent e ) {
-            if (!ignoreTargetListener)
-                updateSource();
-        }
-    }
-
-    private UpdateSourceTrigger getRealUpdateSourceTrigger() {
-        assert targetIsUi;
-        if (updateSourceTrigger != UpdateSourceTrigger.Default)
-            return updateSourceTrigger;
-        else {
-            UpdateSourceTrigger real = ((IUiBindingAdapter ) adapter).getDefaultUpdateSourceTrigger();
-            if (real == UpdateSourceTrigger.Default) throw new AssertionError("Adapter cannot return UpdateSourceTrigger.Default");
-            return real;
-        }
-    }
-
-    @Override
-    protected void connectSourceAndTarget() {
-        switch ( realMode ) {
-            case OneTime:
-                break;
-            case OneWay:
-                sourceListener = new SourceChangeListener();
-                source.addPropertyChangedListener( sourceListener );
-                break;
-            case OneWayToSource:
-                if (!targetIsUi || getRealUpdateSourceTrigger() == UpdateSourceTrigger.PropertyChanged) {
-                    if (null == adapter) {
-                        targetListener = new TargetChangeListener();
-                        ((INotifyPropertyChanged) target).addPropertyChangedListener( targetListener );
-                    } else {
-                        targetListenerWrapper = adapter.addPropertyChangedListener( target, new TargetChangeListener() );
-                    }
-                } else {
-                    if (getRealUpdateSourceTrigger() == UpdateSourceTrigger.LostFocus) {
-                        targetFocusListener = new TargetFocusListener();
-                        ((JComponent) target).addFocusListener( targetFocusListener );
-                    }
-                }
-                break;
-            case TwoWay:
-                sourceListener = new SourceChangeListener();
-                source.addPropertyChangedListener( sourceListener );
-                //
-                if (!targetIsUi || getRealUpdateSourceTrigger() == UpdateSourceTrigger.PropertyChanged) {
-                    if (null == adapter) {
-                        targetListener = new TargetChangeListener();
-                        ((INotifyPropertyChanged) target).addPropertyChangedListener( targetListener );
-                    } else {
-                        targetListenerWrapper = adapter.addPropertyChangedListener( target, new TargetChangeListener() );
-                    }
-                } else {
-                    if (getRealUpdateSourceTrigger() == UpdateSourceTrigger.LostFocus) {
-                        targetFocusListener = new TargetFocusListener();
-                        ((JComponent) target).addFocusListener( targetFocusListener );
-                    }
-                }
-                break;
-        }
-    }
-
-    @Override
-    protected void disconnectSourceAndTarget() {
-        if (realMode == BindingMode.OneWay || realMode == BindingMode.TwoWay) {
-            // remove source listener
-            source.removePropertyChangedListener( sourceListener );
-            this.sourceListener = null;
-        }
-        if (realMode == BindingMode.OneWayToSource || realMode == BindingMode.TwoWay) {
-            // remove target listener
-            if (!targetIsUi || getRealUpdateSourceTrigger() == UpdateSourceTrigger.PropertyChanged) {
-                if (adapter == null) {
-                    ((INotifyPropertyChanged) target ).removePropertyChangedListener( targetListener );
-                    targetListener = null;
-                } else {
-                    adapter.removePropertyChangedListener( target, targetListenerWrapper );
-                    targetListenerWrapper = null;
-                }
-            } else {
-                if (getRealUpdateSourceTrigger() == UpdateSourceTrigger.LostFocus) {
-                    ((JComponent) target).removeFocusListener( targetFocusListener );
-                }
-            }
-        }
-
-        if (sourceList != null) {
-            sourceList.removeObservableListListener(sourceListListener);
-            sourceList = null;
-        }
-        if (targetList != null) {
-            targetList.removeObservableListListener(targetListListener);
-            targetList = null;
-        }
-    }
 }
@@ -21,12 +21,13 @@ import java.util.List;
  *         27.06.13 18:05
  */
 public class BindingGroup {
-    private static class BindingProto {
+    static class BindingProto {
         JComponent target;
         String targetProperty;
         String sourceProperty;
         BindingMode mode;
         UpdateSourceTrigger updateSourceTrigger;
+        int updateSourceDelay = Binding.DEFAULT_UPDATE_SOURCE_DELAY;
         IBindingValidator validator ;
 
         private BindingProto( JComponent target, String targetProperty, String sourceProperty, BindingMode mode,
@@ -42,6 +43,21 @@ public class BindingGroup {
         private BindingProto( JComponent target, String targetProperty, String sourceProperty, BindingMode mode ) {
             this(target, targetProperty, sourceProperty, mode, UpdateSourceTrigger.Default, null);
         }
+
+        BindingBase createBinding( INotifyPropertyChanged source, BindingSettingsBase settings ) {
+            Binding binding;
+            if (settings == null) {
+                binding = new Binding( target, targetProperty, source,
+                        sourceProperty, mode, updateSourceTrigger );
+            } else {
+                binding = new Binding( target, targetProperty, source,
+                        sourceProperty, mode, updateSourceTrigger, settings );
+            }
+            binding.setUpdateSourceDelay( updateSourceDelay );
+            if (validator != null)
+                binding.setValidator( validator );
+            return binding;
+        }
     }
 
     private INotifyPropertyChanged source;
@@ -98,6 +114,8 @@ public class BindingGroup {
         if (null == settings) throw new IllegalArgumentException( "settings is null" );
         if (bound) throw new IllegalStateException( "Cannot change binding settings in already bound group." );
         this.settings = settings;
+        // bindings created with old settings cannot be reused
+        bindings.clear();
     }
 
     /**
@@ -138,34 +156,57 @@ public class BindingGroup {
     }
 
     /**
-     * Creates all binding objects and binds them according to stored prototypes.
+     * Adds the binding prototype with {@link UpdateSourceTrigger#Debounce} or {@link UpdateSourceTrigger#Throttle}
+     * mode and specified delay in milliseconds to group.
+     */
+    public void add(JComponent target, String targetProperty, String sourceProperty, BindingMode mode,
+            UpdateSourceTrigger updateSourceTrigger, int updateSourceDelay, IBindingValidator validator) {
+        if (updateSourceDelay < 0) throw new IllegalArgumentException( "updateSourceDelay is negative" );
+        BindingProto proto = new BindingProto(target, targetProperty, sourceProperty, mode, updateSourceTrigger, validator);
+        proto.updateSourceDelay = updateSourceDelay;
+        protos.add( proto );
+    }
+
+    /**
+     * Creates binding objects for new prototypes and binds all of them to current Source.
+     * Binding objects are owned by group and reused in next {@link #bind()} calls.
      */
     public void bind() {
         if (null == source) throw new IllegalStateException( "source is not defined" );
-        for ( final BindingProto proto : this.protos ) {
-            BindingBase binding;
-            if (settings == null) {
-                binding = new Binding( proto.target, proto.targetProperty, source,
-                        proto.sourceProperty, proto.mode, proto.updateSourceTrigger );
-            } else {
-                binding = new Binding( proto.target, proto.targetProperty, source,
-                        proto.sourceProperty, proto.mode, proto.updateSourceTrigger, settings );
-            }
-            if (proto.validator != null)
-                binding.setValidator( proto.validator );
-            if (bindingResultsListener != null) {
-                binding.setResultListener( new IBindingResultListener() {
-                    @Override
-                    public void onBinding( BindingResult result ) {
-                        bindingResultsListener.onBinding( proto.sourceProperty, result );
-                    }
-                } );
-            }
+        if (bound) throw new IllegalStateException( "Binding group is already bound." );
+        // bindings list is parallel to protos list, so create objects only for recently added protos
+        for ( int i = bindings.size(); i < protos.size(); i++ ) {
+            bindings.add( createBinding( protos.get( i ) ) );
+        }
+        for ( BindingBase binding : bindings ) {
+            binding.setSource( source );
             binding.bind();
         }
         bound = true;
     }
 
+    private BindingBase createBinding( final BindingProto proto ) {
+        BindingBase binding = proto.createBinding( source, settings );
+        // results listener can be changed after binding creation, so it is resolved on each call
+        binding.setResultListener( new IBindingResultListener() {
+            @Override
+            public void onBinding( BindingResult result ) {
+                if (bindingResultsListener != null)
+                    bindingResultsListener.onBinding( proto.sourceProperty, result );
+            }
+        } );
+        return binding;
+    }
+
+    /**
+     * Compiles current prototypes into {@link BindingTemplate} that can be applied to many Source objects
+     * one after another without resolving bindings metadata again. Template does not depend on group,
+     * prototypes added later will not be included into it.
+     */
+    public BindingTemplate compile() {
+        return new BindingTemplate( new ArrayList<BindingProto>( protos ), settings );
+    }
+
     /**
      * Unbinds all bindings.
      */
@@ -199,10 +240,18 @@ public class BindingGroup {
         if (null == source) throw new IllegalArgumentException( "source is null" );
         if (!bound) {
             this.source = source;
-        } else {
+        } else if (bindings.size() < protos.size()) {
+            // some prototypes have been added after binding, so bindings should be created for them
             unbind();
-            this.source =source;
+            this.source = source;
             bind();
+        } else {
+            // each binding is retargeted to new Source reusing resolved properties info,
+            // converters and listeners if new Source has the same class
+            this.source = source;
+            for ( BindingBase binding : bindings ) {
+                binding.setSource( source );
+            }
         }
     }
 }
@@ -14,14 +14,25 @@ public class BindingSettings extends BindingSettingsBase {
         SWING_DEFAULT_SETTINGS.initializeDefault();
     }
 
+    public BindingSettings() {
+        setUiPlatform( SwingUiPlatform.INSTANCE );
+    }
+
     @Override
     public void initializeDefault() {
         super.initializeDefault();
 
         addAdapter( new JTextFieldAdapter() );
         addAdapter( new JPasswordFieldAdapter() );
+        addAdapter( new JFormattedTextFieldAdapter() );
+        addAdapter( new JTextAreaAdapter() );
+        addAdapter( new JEditorPaneAdapter() );
         addAdapter( new JCheckBoxAdapter() );
+        addAdapter( new JToggleButtonAdapter() );
+        addAdapter( new JRadioButtonAdapter() );
         addAdapter( new JListAdapter() );
+        addAdapter( new JTableAdapter() );
+        addAdapter( new JComboBoxAdapter() );
         addAdapter( new JLabelAdapter() );
     }
 }
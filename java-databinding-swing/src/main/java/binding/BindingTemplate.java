@@ -0,0 +1,107 @@
+package binding;
+
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Compiled form of {@link BindingGroup} prototypes. Useful when the same set of controls is bound to
+ * many Source objects one after another (for example, details form showing selected row of a table).
+ * Binding objects are created once, and resolved metadata (adapters, properties info, converters and modes)
+ * is cached by Source class, so applying template to a new Source only registers listeners and
+ * flushes initial values.
+ * Typical usage scenario:
+ * <p><blockquote><pre>
+ *     BindingGroup group = new BindingGroup();
+ *     group.add(jtextfield, "text", "name");
+ *     group.add(jlabel, "text", "description", BindingMode.OneWay);
+ *     BindingTemplate template = group.compile();
+ *     ...
+ *     // on each selection change
+ *     template.apply(selectedModel);
+ * </pre></blockquote></p>
+ *
+ * @author igor.kostromin
+ *         19.07.13 12:25
+ */
+public class BindingTemplate {
+    private final BindingGroup.BindingProto[] protos;
+    private final BindingSettingsBase settings;
+    // created lazily in first apply() call because binding cannot be created without Source
+    private BindingBase[] bindings;
+    private final HashMap<Class<?>, ResolvedBinding[]> resolvedCache = new HashMap<Class<?>, ResolvedBinding[]>(  );
+    private INotifyPropertyChanged source;
+    private IBindingResultsListener bindingResultsListener;
+
+    BindingTemplate( List<BindingGroup.BindingProto> protos, BindingSettingsBase settings ) {
+        this.protos = protos.toArray( new BindingGroup.BindingProto[protos.size()] );
+        this.settings = settings;
+    }
+
+    public IBindingResultsListener getBindingResultsListener() {
+        return bindingResultsListener;
+    }
+
+    public void setBindingResultsListener( IBindingResultsListener bindingResultsListener ) {
+        this.bindingResultsListener = bindingResultsListener;
+    }
+
+    /**
+     * Binds all template bindings to specified Source. If template is applied to another Source now,
+     * it will be unbound from it first.
+     */
+    public void apply( INotifyPropertyChanged source ) {
+        if (null == source) throw new IllegalArgumentException( "source is null" );
+        unbind();
+        if (null == bindings) createBindings( source );
+
+        ResolvedBinding[] resolved = resolvedCache.get( source.getClass() );
+        if (null == resolved) {
+            resolved = new ResolvedBinding[bindings.length];
+            for ( int i = 0; i < bindings.length; i++ ) {
+                bindings[i].setSource( source );
+                bindings[i].bind();
+                resolved[i] = bindings[i].getResolvedBinding();
+            }
+            resolvedCache.put( source.getClass(), resolved );
+        } else {
+            for ( int i = 0; i < bindings.length; i++ ) {
+                bindings[i].setSource( source );
+                bindings[i].bind( resolved[i] );
+            }
+        }
+        this.source = source;
+    }
+
+    private void createBindings( INotifyPropertyChanged source ) {
+        bindings = new BindingBase[protos.length];
+        for ( int i = 0; i < protos.length; i++ ) {
+            final BindingGroup.BindingProto proto = protos[i];
+            bindings[i] = proto.createBinding( source, settings );
+            bindings[i].setResultListener( new IBindingResultListener() {
+                @Override
+                public void onBinding( BindingResult result ) {
+                    if (bindingResultsListener != null)
+                        bindingResultsListener.onBinding( proto.sourceProperty, result );
+                }
+            } );
+        }
+    }
+
+    /**
+     * Unbinds all template bindings from current Source.
+     */
+    public void unbind() {
+        if (null == source) return;
+        for ( BindingBase binding : bindings ) {
+            binding.unbind();
+        }
+        source = null;
+    }
+
+    /**
+     * Returns the Source object template is applied to, or null if template is not applied.
+     */
+    public INotifyPropertyChanged getSource() {
+        return source;
+    }
+}
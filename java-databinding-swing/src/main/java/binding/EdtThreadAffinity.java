@@ -0,0 +1,31 @@
+package binding;
+
+import javax.swing.*;
+
+/**
+ * Thread affinity of Swing components : Target is updated on Event Dispatch Thread only.
+ * Changes made on other threads are posted using {@link SwingUtilities#invokeLater(Runnable)}.
+ * Typical usage scenario:
+ * <p><blockquote><pre>
+ * BindingSettings.SWING_DEFAULT_SETTINGS.setThreadAffinity( EdtThreadAffinity.INSTANCE );
+ * </pre></blockquote></p>
+ *
+ * @author igor.kostromin
+ *         26.07.13 11:05
+ */
+public final class EdtThreadAffinity extends ThreadAffinity {
+    public static final EdtThreadAffinity INSTANCE = new EdtThreadAffinity();
+
+    private EdtThreadAffinity() {
+    }
+
+    @Override
+    public boolean isTargetThread() {
+        return SwingUtilities.isEventDispatchThread();
+    }
+
+    @Override
+    public void post( Runnable task ) {
+        SwingUtilities.invokeLater( task );
+    }
+}
@@ -0,0 +1,53 @@
+package binding;
+
+import binding.utils.TimerWheel;
+
+import javax.swing.*;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+
+/**
+ * Timer wheel driven by single {@link javax.swing.Timer}, so timeouts fire on Event Dispatch Thread.
+ * Used by bindings with {@link UpdateSourceTrigger#Debounce} and {@link UpdateSourceTrigger#Throttle} modes :
+ * thousands of bindings share one timer instead of creating own timer each. Timer runs only while
+ * there are scheduled timeouts. Should be used on Event Dispatch Thread only.
+ *
+ * @author igor.kostromin
+ *         29.07.13 12:15
+ */
+public class SwingTimerWheel extends TimerWheel {
+    private static final int TICK_MILLIS = 10;
+    private static final int SLOTS_COUNT = 512;
+
+    private static SwingTimerWheel instance;
+
+    /**
+     * Returns wheel shared by all bindings.
+     */
+    public static SwingTimerWheel getInstance() {
+        if (null == instance) instance = new SwingTimerWheel();
+        return instance;
+    }
+
+    private final Timer timer;
+
+    public SwingTimerWheel() {
+        super( TICK_MILLIS, SLOTS_COUNT );
+        timer = new Timer( TICK_MILLIS, new ActionListener() {
+            public void actionPerformed( ActionEvent e ) {
+                advance();
+            }
+        } );
+        timer.setCoalesce( true );
+    }
+
+    @Override
+    protected void startTicking() {
+        timer.start();
+    }
+
+    @Override
+    protected void stopTicking() {
+        timer.stop();
+    }
+}
@@ -0,0 +1,41 @@
+package binding;
+
+import binding.utils.TimerWheel;
+
+import java.awt.*;
+import java.awt.event.FocusAdapter;
+import java.awt.event.FocusEvent;
+import java.awt.event.FocusListener;
+
+/**
+ * Swing hooks for bindings to UI targets : focus events of AWT components and {@link SwingTimerWheel}
+ * shared by all bindings.
+ *
+ * @author igor.kostromin
+ *         02.08.13 17:00
+ */
+public class SwingUiPlatform extends UiPlatform {
+    public static final SwingUiPlatform INSTANCE = new SwingUiPlatform();
+
+    @Override
+    public Object addLostFocusListener( Object target, final Runnable listener ) {
+        FocusListener focusListener = new FocusAdapter() {
+            @Override
+            public void focusLost( FocusEvent e ) {
+                listener.run();
+            }
+        };
+        ((Component) target).addFocusListener( focusListener );
+        return focusListener;
+    }
+
+    @Override
+    public void removeLostFocusListener( Object target, Object registration ) {
+        ((Component) target).removeFocusListener( (FocusListener) registration );
+    }
+
+    @Override
+    public TimerWheel getTimerWheel() {
+        return SwingTimerWheel.getInstance();
+    }
+}
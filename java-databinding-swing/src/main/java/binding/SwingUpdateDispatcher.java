@@ -0,0 +1,111 @@
+package binding;
+
+import javax.swing.*;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+/**
+ * Executor running deferred binding updates on Event Dispatch Thread. All tasks passed before flush
+ * are executed in single {@link SwingUtilities#invokeLater(Runnable)} pass. Since bindings pass
+ * one task per dirty binding and the task reads the latest Source value, model updated many times
+ * between flushes produces one target write per binding. Maximum flush frequency can be limited,
+ * so target updates will be bounded by frame rate instead of Source change rate.
+ * Typical usage scenario:
+ * <p><blockquote><pre>
+ * // not more than 30 UI updates per second
+ * BindingSettings.SWING_DEFAULT_SETTINGS.setUpdateExecutor( new SwingUpdateDispatcher( 30 ) );
+ * </pre></blockquote></p>
+ * Executor can be called from any thread.
+ *
+ * @author igor.kostromin
+ *         25.07.13 11:10
+ */
+public class SwingUpdateDispatcher implements Executor {
+    private final long minFlushIntervalNanos;
+
+    private final Object lock = new Object();
+    private List<Runnable> pending = new ArrayList<Runnable>(  );
+    private boolean flushScheduled;
+    private boolean flushed;
+    private long lastFlushNanos;
+
+    private final Runnable flushTask = new Runnable() {
+        public void run() {
+            flush();
+        }
+    };
+
+    private final Timer delayTimer;
+
+    /**
+     * Creates dispatcher flushing pending updates on each Event Dispatch Thread cycle.
+     */
+    public SwingUpdateDispatcher() {
+        this( 0 );
+    }
+
+    /**
+     * Creates dispatcher flushing pending updates not more often than specified number of times per second.
+     * @param maxFlushesPerSecond Maximum flush frequency, 0 means no limit
+     */
+    public SwingUpdateDispatcher( int maxFlushesPerSecond ) {
+        if (maxFlushesPerSecond < 0) throw new IllegalArgumentException( "maxFlushesPerSecond is negative" );
+        this.minFlushIntervalNanos = maxFlushesPerSecond == 0 ? 0 : 1000000000L / maxFlushesPerSecond;
+        this.delayTimer = new Timer( 0, new ActionListener() {
+            public void actionPerformed( ActionEvent e ) {
+                flush();
+            }
+        } );
+        this.delayTimer.setRepeats( false );
+    }
+
+    /**
+     * Returns current time in nanoseconds used to limit flush frequency.
+     */
+    protected long nanoTime() {
+        return System.nanoTime();
+    }
+
+    /**
+     * Schedules flush task to run on Event Dispatch Thread after delay, 0 means the next EDT cycle.
+     */
+    protected void scheduleFlush( Runnable flushTask, long delayMillis ) {
+        if (delayMillis == 0) {
+            SwingUtilities.invokeLater( flushTask );
+        } else {
+            // javax.swing.Timer is thread-safe and fires on Event Dispatch Thread
+            delayTimer.setInitialDelay( (int) delayMillis );
+            delayTimer.restart();
+        }
+    }
+
+    public void execute( Runnable command ) {
+        if (null == command) throw new IllegalArgumentException( "command is null" );
+        long delayNanos;
+        synchronized ( lock ) {
+            pending.add( command );
+            if (flushScheduled) return;
+            flushScheduled = true;
+            delayNanos = flushed ? minFlushIntervalNanos - (nanoTime() - lastFlushNanos) : 0;
+        }
+        scheduleFlush( flushTask, delayNanos <= 0 ? 0 : Math.max( 1, delayNanos / 1000000 ) );
+    }
+
+    /**
+     * Runs all pending updates. Called on Event Dispatch Thread.
+     */
+    private void flush() {
+        List<Runnable> tasks;
+        synchronized ( lock ) {
+            tasks = pending;
+            pending = new ArrayList<Runnable>(  );
+            flushScheduled = false;
+            flushed = true;
+            lastFlushNanos = nanoTime();
+        }
+        for ( Runnable task : tasks ) task.run();
+    }
+}
@@ -0,0 +1,199 @@
+package binding;
+
+import binding.observables.IObservableTextListener;
+import binding.observables.ObservableText;
+import binding.utils.PropertyInfo;
+import binding.utils.PropertyUtils;
+
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+import javax.swing.text.BadLocationException;
+import javax.swing.text.Document;
+import javax.swing.text.JTextComponent;
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+import java.lang.reflect.InvocationTargetException;
+
+/**
+ * Provides two-way data sync connection between document of text component and Source property of
+ * {@link ObservableText} class. Unlike binding of "text" property, whole text is copied only when
+ * binding is bound or Source property value is replaced : document insertions and removals are
+ * applied to Source text as edits, and edits of Source text are applied to document, so cost of
+ * edit does not depend on text length. Typical usage scenario (for multi-megabyte logs or editor buffers):
+ * <p><blockquote><pre>
+ * public class Model extends PropertyChangedSupport {
+ *   private final ObservableText log = new ObservableText();
+ *
+ *   public ObservableText getLog() { return log; }
+ * }
+ *
+ * TextDocumentBinding binding = new TextDocumentBinding( textArea, model, "log" );
+ * binding.bind();
+ * model.getLog().append( "line\n" );
+ * </pre></blockquote></p>
+ * Document and Source text should be changed on EDT.
+ *
+ * @author igor.kostromin
+ *         02.08.13 11:30
+ */
+public class TextDocumentBinding {
+    private final JTextComponent target;
+    private final INotifyPropertyChanged source;
+    private final String sourceProperty;
+    private PropertyInfo sourcePropertyInfo;
+    private boolean bound;
+
+    private Document document;
+    private ObservableText text;
+    // set while changes are being applied to other side, to avoid infinite recursive loop
+    private boolean updating;
+
+    private final DocumentListener documentListener = new DocumentListener() {
+        public void insertUpdate( DocumentEvent e ) {
+            if (updating || null == text) return;
+            String inserted;
+            try {
+                inserted = document.getText( e.getOffset(), e.getLength() );
+            } catch ( BadLocationException ex ) {
+                throw new RuntimeException( ex );
+            }
+            updating = true;
+            try {
+                text.insert( e.getOffset(), inserted );
+            } finally {
+                updating = false;
+            }
+        }
+
+        public void removeUpdate( DocumentEvent e ) {
+            if (updating || null == text) return;
+            updating = true;
+            try {
+                text.remove( e.getOffset(), e.getLength() );
+            } finally {
+                updating = false;
+            }
+        }
+
+        public void changedUpdate( DocumentEvent e ) {
+        }
+    };
+
+    private final IObservableTextListener textListener = new IObservableTextListener() {
+        public void textInserted( ObservableText text, int offset, int length ) {
+            if (updating) return;
+            updating = true;
+            try {
+                document.insertString( offset, text.getText( offset, length ), null );
+            } catch ( BadLocationException e ) {
+                throw new RuntimeException( e );
+            } finally {
+                updating = false;
+            }
+        }
+
+        public void textRemoved( ObservableText text, int offset, String removed ) {
+            if (updating) return;
+            updating = true;
+            try {
+                document.remove( offset, removed.length() );
+            } catch ( BadLocationException e ) {
+                throw new RuntimeException( e );
+            } finally {
+                updating = false;
+            }
+        }
+    };
+
+    private final IPropertyChangedListener sourceListener = new IPropertyChangedListener() {
+        public void propertyChanged( String propertyName ) {
+            if (sourceProperty.equals( propertyName )) attachText( readSourceText() );
+        }
+    };
+
+    private final PropertyChangeListener documentChangeListener = new PropertyChangeListener() {
+        public void propertyChange( PropertyChangeEvent evt ) {
+            attachDocument( target.getDocument() );
+        }
+    };
+
+    public TextDocumentBinding( JTextComponent target, INotifyPropertyChanged source, String sourceProperty ) {
+        if (null == target) throw new IllegalArgumentException( "target is null" );
+        if (null == source) throw new IllegalArgumentException( "source is null" );
+        if (null == sourceProperty) throw new IllegalArgumentException( "sourceProperty is null" );
+        this.target = target;
+        this.source = source;
+        this.sourceProperty = sourceProperty;
+    }
+
+    public boolean isBound() {
+        return bound;
+    }
+
+    /**
+     * Connects document and Source text. Document contents are replaced by Source text.
+     */
+    public void bind() {
+        if (bound) return;
+        sourcePropertyInfo = PropertyUtils.getProperty( source.getClass(), sourceProperty );
+        if (null == sourcePropertyInfo.getter) throw new RuntimeException( "Source property getter not found" );
+        if (!ObservableText.class.isAssignableFrom( sourcePropertyInfo.clazz ))
+            throw new RuntimeException( "Source property class have to be ObservableText" );
+        source.addPropertyChangedListener( sourceListener );
+        target.addPropertyChangeListener( "document", documentChangeListener );
+        attachDocument( target.getDocument() );
+        attachText( readSourceText() );
+        bound = true;
+    }
+
+    /**
+     * Disconnects document and Source text.
+     */
+    public void unbind() {
+        if (!bound) return;
+        source.removePropertyChangedListener( sourceListener );
+        target.removePropertyChangeListener( "document", documentChangeListener );
+        if (null != text) text.removeObservableTextListener( textListener );
+        text = null;
+        if (null != document) document.removeDocumentListener( documentListener );
+        document = null;
+        bound = false;
+    }
+
+    private ObservableText readSourceText() {
+        try {
+            return (ObservableText) sourcePropertyInfo.getter.invoke( source );
+        } catch ( IllegalAccessException e ) {
+            throw new RuntimeException( e );
+        } catch ( InvocationTargetException e ) {
+            throw new RuntimeException( e );
+        }
+    }
+
+    private void attachDocument( Document newDocument ) {
+        if (null != document) document.removeDocumentListener( documentListener );
+        document = newDocument;
+        if (null == document) return;
+        document.addDocumentListener( documentListener );
+        if (null != text) copyTextToDocument();
+    }
+
+    private void attachText( ObservableText newText ) {
+        if (null != text) text.removeObservableTextListener( textListener );
+        text = newText;
+        if (null != text) text.addObservableTextListener( textListener );
+        if (null != document) copyTextToDocument();
+    }
+
+    private void copyTextToDocument() {
+        updating = true;
+        try {
+            document.remove( 0, document.getLength() );
+            if (null != text) document.insertString( 0, text.toString(), null );
+        } catch ( BadLocationException e ) {
+            throw new RuntimeException( e );
+        } finally {
+            updating = false;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package binding.adapters;
+
+import binding.BindingMode;
+import binding.IPropertyChangedListener;
+import binding.UpdateSourceTrigger;
+import binding.observables.ObservableList;
+
+import javax.swing.*;
+import java.awt.event.ItemEvent;
+import java.awt.event.ItemListener;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Provides next virtual properties:
+ * ObservableList "items" (typically used in BindingMode.OneWay scenario)
+ * Object "selectedItem" (typically used in BindingMode.TwoWay scenario)
+ * <p>Items are synchronized incrementally through {@link ObservableComboBoxModel}. Selected item
+ * is set directly to combobox model, without search of item through all elements. Model is replaced
+ * when "items" are requested first time, selected item of previous model is kept, so "selectedItem"
+ * binding can be bound before "items" one.</p>
+ *
+ * @author igor.kostromin
+ *         01.08.13 19:50
+ */
+public class JComboBoxAdapter implements IUiBindingAdapter<JComboBox> {
+    private static final String ITEMS_PROPERTY = "BINDING_MODEL_ITEMS";
+
+    @Override
+    public UpdateSourceTrigger getDefaultUpdateSourceTrigger() {
+        return UpdateSourceTrigger.PropertyChanged;
+    }
+
+    @Override
+    public Class<JComboBox> getTargetClazz() {
+        return JComboBox.class;
+    }
+
+    @Override
+    public Class<?> getTargetPropertyClazz(String targetProperty) {
+        if ("items".equals( targetProperty ))
+            return List.class;
+        if ("selectedItem".equals( targetProperty ))
+            return Object.class;
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public <TValue> void setValue(JComboBox comboBox, String targetProperty, TValue value) {
+        if (!"selectedItem".equals( targetProperty )) throw new UnsupportedOperationException();
+        comboBox.getModel().setSelectedItem( value );
+    }
+
+    @Override
+    public <TValue> TValue getValue(JComboBox comboBox, String targetProperty) {
+        if ("items".equals( targetProperty )) {
+            Object items = comboBox.getClientProperty( ITEMS_PROPERTY );
+            if (null != items) return (TValue) items;
+            ObservableList list = new ObservableList( new ArrayList() );
+            ObservableComboBoxModel model = new ObservableComboBoxModel( list );
+            list.addObservableListListener( model );
+            // setModel() fires no item events, so selection bound before items should not be lost
+            model.setSelectedItem( comboBox.getModel().getSelectedItem() );
+            comboBox.setModel( model );
+            comboBox.putClientProperty( ITEMS_PROPERTY, list );
+            return (TValue) list;
+        }
+        if ("selectedItem".equals( targetProperty )) {
+            return (TValue) comboBox.getModel().getSelectedItem();
+        }
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Object addPropertyChangedListener(final JComboBox comboBox, final IPropertyChangedListener listener) {
+        ItemListener itemListener = new ItemListener() {
+            public void itemStateChanged( ItemEvent e ) {
+                // deselection of previous item is followed by selection of new one if it is not null
+                if (e.getStateChange() == ItemEvent.SELECTED || null == comboBox.getSelectedItem())
+                    listener.propertyChanged( "selectedItem" );
+            }
+        };
+        comboBox.addItemListener( itemListener );
+        return itemListener;
+    }
+
+    @Override
+    public void removePropertyChangedListener(JComboBox comboBox, Object listenerWrapper) {
+        comboBox.removeItemListener( (ItemListener) listenerWrapper );
+    }
+
+    @Override
+    public BindingMode getDefaultMode() {
+        return BindingMode.TwoWay;
+    }
+}
@@ -0,0 +1,17 @@
+package binding.adapters;
+
+import javax.swing.*;
+
+/**
+ * Provides next virtual properties:
+ * String "text" (can be used in any binding mode)
+ * Integer "length" and Boolean "dirty", see {@link TextComponentAdapterBase}
+ *
+ * @author igor.kostromin
+ *         01.08.13 21:20
+ */
+public class JEditorPaneAdapter extends TextComponentAdapterBase<JEditorPane> {
+    public Class<JEditorPane> getTargetClazz() {
+        return JEditorPane.class;
+    }
+}
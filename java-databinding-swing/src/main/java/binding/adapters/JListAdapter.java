@@ -4,20 +4,20 @@ import binding.BindingMode;
 import binding.IPropertyChangedListener;
 import binding.UpdateSourceTrigger;
 import binding.observables.IObservableList;
-import binding.observables.IObservableListListener;
 import binding.observables.ObservableList;
 
 import javax.swing.*;
 import javax.swing.event.ListSelectionEvent;
 import javax.swing.event.ListSelectionListener;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.List;
 
 /**
  * Provides next virtual properties:
  * ObservableList "items" (typically used in BindingMode.OneWay scenario)
- * ObservableList "selectedItems" (typically used in BindingMode.OneWayToSource scenario)
+ * ObservableList "selectedItems" (typically used in BindingMode.OneWayToSource scenario), items are
+ * ordered by their indexes in list
  *
  * User: igor.kostromin
  * Date: 01.07.13
@@ -53,67 +53,109 @@ public class JListAdapter implements IUiBindingAdapter<JList> {
         if (targetProperty.equals("items")) {
             Object binding_model = jList.getClientProperty("BINDING_MODEL_ITEMS");
             if (null != binding_model) return (TValue) binding_model;
-            // observable list is used only for automatically call jList.updateUI();
+            // list changes are translated into ListDataEvents by model
             final ObservableList list = new ObservableList(new ArrayList());
             jList.putClientProperty("BINDING_MODEL_ITEMS", list);
-            jList.setModel(new AbstractListModel() {
-                @Override
-                public int getSize() {
-                    return list.size();
-                }
-
-                @Override
-                public Object getElementAt(int index) {
-                    return list.get(index);
-                }
-            });
-            list.addObservableListListener(new IObservableListListener() {
-                @Override
-                public void listElementsAdded(IObservableList list, int index, int length) {
-                    jList.updateUI();
-                }
-
-                @Override
-                public void listElementsRemoved(IObservableList list, int index, List oldElements) {
-                    jList.updateUI();
-                }
-
-                @Override
-                public void listElementReplaced(IObservableList list, int index, Object oldElement) {
-                    jList.updateUI();
-                }
-            });
+            ObservableListModel model = new ObservableListModel( list );
+            list.addObservableListListener( model );
+            jList.setModel( model );
             return (TValue) list;
         }
         if ("selectedItems".equals(targetProperty)) {
             Object bindingModel = jList.getClientProperty("BINDING_MODEL_SELECTEDITEMS");
             if (null != bindingModel ) return (TValue) bindingModel;
             final ObservableList list = new ObservableList(new ArrayList());
-            // initialize selected items using jList current selection state
-            for ( Object selected : jList.getSelectedValues() ) {
-                list.add( selected );
-            }
-            //list.addAll(jList.getSelectedValuesList());
-            jList.addListSelectionListener(new ListSelectionListener() {
-                @Override
-                public void valueChanged(ListSelectionEvent e) {
-                    //List current = jList.getSelectedValuesList();
-                    List current = new ArrayList(  );
-                    Collections.addAll( current, jList.getSelectedValues() );
-                    List added = new ArrayList();
-                    List removed = new ArrayList();
-                    for (Object o : list) if (!current.contains(o)) removed.add(o);
-                    for (Object o : current) if (!list.contains(o)) added.add(o);
-                    for (Object o : removed) list.remove(o);
-                    for (Object o : added) list.add(o);
-                }
-            });
+            jList.addListSelectionListener( new SelectedItemsSync( jList, list ) );
             jList.putClientProperty("BINDING_MODEL_SELECTEDITEMS", list);
             return (TValue) list;
         }
         throw new UnsupportedOperationException();
     }
 
+    /**
+     * Keeps selected items list in sync with selection of JList. Selected items are kept in order of
+     * their indexes, the indexes are stored in sorted array parallel to the list. On selection change
+     * only indexes in changed range are checked, and stored block of this range is replaced by
+     * one removal and one addition. Intermediate events (value is adjusting) are skipped : final event
+     * covers all indexes changed during adjustment.
+     */
+    private static class SelectedItemsSync implements ListSelectionListener {
+        private final JList jList;
+        private final ObservableList list;
+        // sorted indexes of items in list
+        private int[] indexes = new int[16];
+        private int size;
+        private int[] changed = new int[16];
+
+        private SelectedItemsSync( JList jList, ObservableList list ) {
+            this.jList = jList;
+            this.list = list;
+            // initialize selected items using jList current selection state
+            int[] selected = jList.getSelectedIndices();
+            if (selected.length > 0) update( selected[0], selected[selected.length - 1] );
+        }
+
+        public void valueChanged( ListSelectionEvent e ) {
+            if (e.getValueIsAdjusting()) return;
+            update( e.getFirstIndex(), e.getLastIndex() );
+        }
+
+        private void update( int firstIndex, int lastIndex ) {
+            if (firstIndex < 0 || lastIndex < firstIndex) return;
+            ListModel model = jList.getModel();
+            // indexes beyond model size (after items removal) are deselected
+            int last = Math.min( lastIndex, model.getSize() - 1 );
+            int count = 0;
+            for ( int i = firstIndex; i <= last; i++ ) {
+                if (jList.isSelectedIndex( i )) {
+                    if (count == changed.length) changed = Arrays.copyOf( changed, count * 2 );
+                    changed[count++] = i;
+                }
+            }
+            // stored block [from, to) is replaced by changed[0, count)
+            int from = lowerBound( firstIndex );
+            int to = lowerBound( lastIndex + 1 );
+            int prefix = 0;
+            while ( prefix < count && from + prefix < to && indexes[from + prefix] == changed[prefix] ) prefix++;
+            int suffix = 0;
+            while ( suffix < count - prefix && to - suffix > from + prefix
+                    && indexes[to - 1 - suffix] == changed[count - 1 - suffix] ) suffix++;
+            int removeFrom = from + prefix;
+            int removeTo = to - suffix;
+            int addCount = count - prefix - suffix;
+            if (removeFrom == removeTo && addCount == 0) return;
+            // splice indexes
+            int newSize = size - (removeTo - removeFrom) + addCount;
+            if (newSize > indexes.length) indexes = Arrays.copyOf( indexes, Math.max( newSize, indexes.length * 2 ) );
+            System.arraycopy( indexes, removeTo, indexes, removeFrom + addCount, size - removeTo );
+            System.arraycopy( changed, prefix, indexes, removeFrom, addCount );
+            size = newSize;
+            // apply to list
+            if (removeTo > removeFrom) list.removeRange( removeFrom, removeTo );
+            if (addCount > 0) {
+                List added = new ArrayList( addCount );
+                for ( int i = 0; i < addCount; i++ ) {
+                    added.add( model.getElementAt( changed[prefix + i] ) );
+                }
+                list.addAll( removeFrom, added );
+            }
+        }
+
+        /**
+         * Returns position of first stored index which is not less than specified one.
+         */
+        private int lowerBound( int index ) {
+            int low = 0;
+            int high = size;
+            while ( low < high ) {
+                int mid = (low + high) >>> 1;
+                if (indexes[mid] < index) low = mid + 1;
+                else high = mid;
+            }
+            return low;
+        }
+    }
+
     @Override
     public Object addPropertyChangedListener(JList jList, IPropertyChangedListener listener) {
         return null;
@@ -0,0 +1,17 @@
+package binding.adapters;
+
+import javax.swing.*;
+
+/**
+ * Provides next virtual properties:
+ * Boolean "checked" (can be used in any binding mode)
+ *
+ * @author igor.kostromin
+ *         01.08.13 14:27
+ */
+public class JRadioButtonAdapter extends ToggleButtonAdapterBase<JRadioButton> {
+    @Override
+    public Class<JRadioButton> getTargetClazz() {
+        return JRadioButton.class;
+    }
+}
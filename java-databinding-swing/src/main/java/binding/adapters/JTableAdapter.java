@@ -0,0 +1,201 @@
+package binding.adapters;
+
+import binding.BindingMode;
+import binding.IPropertyChangedListener;
+import binding.UpdateSourceTrigger;
+import binding.observables.IObservableList;
+import binding.observables.ObservableList;
+
+import javax.swing.*;
+import javax.swing.event.ChangeEvent;
+import javax.swing.event.ChangeListener;
+import javax.swing.event.RowSorterEvent;
+import javax.swing.event.RowSorterListener;
+import java.awt.*;
+import java.awt.event.ComponentAdapter;
+import java.awt.event.ComponentEvent;
+import java.awt.event.HierarchyEvent;
+import java.awt.event.HierarchyListener;
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+import java.util.ArrayList;
+
+/**
+ * Provides next virtual properties:
+ * ObservableList "items" (typically used in BindingMode.OneWay scenario)
+ * <p>Columns should be defined by {@link #setColumns(JTable, String[], String[])} before binding.
+ * Table model is {@link ObservableTableModel} : rows are objects of items list, columns show their
+ * properties. Model observes property changes of visible rows only, visible rows are updated
+ * when viewport is scrolled, table is resized or rows are sorted. If table has RowSorter, exactly
+ * the model rows shown in visible view rows are observed.</p>
+ * <p><blockquote><pre>
+ * JTableAdapter.setColumns( table, new String[] { "Name", "Age" }, new String[] { "name", "age" } );
+ * Binding binding = new Binding( table, "items", model, "customers", BindingMode.OneWay );
+ * </pre></blockquote></p>
+ *
+ * @author igor.kostromin
+ *         01.08.13 16:50
+ */
+public class JTableAdapter implements IUiBindingAdapter<JTable> {
+    private static final String COLUMNS_PROPERTY = "BINDING_COLUMNS";
+    private static final String ITEMS_PROPERTY = "BINDING_MODEL_ITEMS";
+
+    /**
+     * Defines columns of table bound with "items" property.
+     * @param table Table
+     * @param columnNames Column headers
+     * @param properties Names of row properties shown in columns
+     */
+    public static void setColumns( JTable table, String[] columnNames, String[] properties ) {
+        if (null == columnNames || null == properties || columnNames.length != properties.length)
+            throw new IllegalArgumentException( "columnNames and properties should have the same length" );
+        table.putClientProperty( COLUMNS_PROPERTY, new String[][] { columnNames.clone(), properties.clone() } );
+    }
+
+    @Override
+    public UpdateSourceTrigger getDefaultUpdateSourceTrigger() {
+        return UpdateSourceTrigger.PropertyChanged;
+    }
+
+    @Override
+    public Class<JTable> getTargetClazz() {
+        return JTable.class;
+    }
+
+    @Override
+    public Class<?> getTargetPropertyClazz(String targetProperty) {
+        if ("items".equals( targetProperty ))
+            return IObservableList.class;
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public <TValue> void setValue(JTable table, String targetProperty, TValue value) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public <TValue> TValue getValue(JTable table, String targetProperty) {
+        if (!"items".equals( targetProperty )) throw new UnsupportedOperationException();
+        Object items = table.getClientProperty( ITEMS_PROPERTY );
+        if (null != items) return (TValue) items;
+        String[][] columns = (String[][]) table.getClientProperty( COLUMNS_PROPERTY );
+        if (null == columns) throw new IllegalStateException( "Columns are not defined, use JTableAdapter.setColumns()" );
+        ObservableList list = new ObservableList( new ArrayList() );
+        ObservableTableModel model = new ObservableTableModel( list, columns[0], columns[1] );
+        list.addObservableListListener( model );
+        table.setModel( model );
+        new VisibleRowsTracker( table, model ).install();
+        table.putClientProperty( ITEMS_PROPERTY, list );
+        return (TValue) list;
+    }
+
+    /**
+     * Updates visible rows of model when table is scrolled, resized or sorted.
+     */
+    private static class VisibleRowsTracker extends ComponentAdapter
+            implements ChangeListener, HierarchyListener, RowSorterListener, PropertyChangeListener {
+        private final JTable table;
+        private final ObservableTableModel model;
+        private JViewport viewport;
+        private RowSorter<?> sorter;
+
+        private VisibleRowsTracker( JTable table, ObservableTableModel model ) {
+            this.table = table;
+            this.model = model;
+        }
+
+        void install() {
+            table.addComponentListener( this );
+            table.addHierarchyListener( this );
+            table.addPropertyChangeListener( "rowSorter", this );
+            attachViewport();
+            attachSorter();
+            update();
+        }
+
+        private void attachSorter() {
+            RowSorter<?> current = table.getRowSorter();
+            if (current == sorter) return;
+            if (null != sorter) sorter.removeRowSorterListener( this );
+            sorter = current;
+            if (null != sorter) sorter.addRowSorterListener( this );
+        }
+
+        private void attachViewport() {
+            Container parent = table.getParent();
+            JViewport current = parent instanceof JViewport ? (JViewport) parent : null;
+            if (current == viewport) return;
+            if (null != viewport) viewport.removeChangeListener( this );
+            viewport = current;
+            if (null != viewport) viewport.addChangeListener( this );
+        }
+
+        private void update() {
+            if (table.getModel() != model) {
+                // model has been replaced, stop observing rows
+                model.setVisibleRows( -1, -1 );
+                return;
+            }
+            Rectangle visible = table.getVisibleRect();
+            int rowCount = table.getRowCount();
+            if (visible.isEmpty() || rowCount == 0) {
+                model.setVisibleRows( -1, -1 );
+                return;
+            }
+            int first = table.rowAtPoint( new Point( 0, visible.y ) );
+            int last = table.rowAtPoint( new Point( 0, visible.y + visible.height - 1 ) );
+            if (first < 0) first = 0;
+            if (last < 0) last = rowCount - 1;
+            if (null == table.getRowSorter()) {
+                model.setVisibleRows( first, last );
+            } else {
+                // rows are indexes of view, visible view rows can map to any model rows
+                int[] modelIndexes = new int[last - first + 1];
+                for ( int i = first; i <= last; i++ ) {
+                    modelIndexes[i - first] = table.convertRowIndexToModel( i );
+                }
+                model.setVisibleRows( modelIndexes );
+            }
+        }
+
+        public void sorterChanged( RowSorterEvent e ) {
+            if (e.getType() == RowSorterEvent.Type.SORTED) update();
+        }
+
+        public void propertyChange( PropertyChangeEvent evt ) {
+            attachSorter();
+            update();
+        }
+
+        public void stateChanged( ChangeEvent e ) {
+            update();
+        }
+
+        @Override
+        public void componentResized( ComponentEvent e ) {
+            update();
+        }
+
+        public void hierarchyChanged( HierarchyEvent e ) {
+            if ((e.getChangeFlags() & HierarchyEvent.PARENT_CHANGED) != 0) {
+                attachViewport();
+                update();
+            }
+        }
+    }
+
+    @Override
+    public Object addPropertyChangedListener(JTable table, IPropertyChangedListener listener) {
+        return null;
+    }
+
+    @Override
+    public void removePropertyChangedListener(JTable table, Object listenerWrapper) {
+    }
+
+    @Override
+    public BindingMode getDefaultMode() {
+        return BindingMode.OneWay;
+    }
+}
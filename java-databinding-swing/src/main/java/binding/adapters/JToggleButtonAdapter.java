@@ -0,0 +1,17 @@
+package binding.adapters;
+
+import javax.swing.*;
+
+/**
+ * Provides next virtual properties:
+ * Boolean "checked" (can be used in any binding mode)
+ *
+ * @author igor.kostromin
+ *         01.08.13 14:25
+ */
+public class JToggleButtonAdapter extends ToggleButtonAdapterBase<JToggleButton> {
+    @Override
+    public Class<JToggleButton> getTargetClazz() {
+        return JToggleButton.class;
+    }
+}
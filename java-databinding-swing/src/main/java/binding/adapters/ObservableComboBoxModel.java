@@ -0,0 +1,89 @@
+package binding.adapters;
+
+import binding.observables.IObservableList;
+
+import javax.swing.*;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link ComboBoxModel} over {@link IObservableList}. List changes are fired as in
+ * {@link ObservableListModel}, so additions do not recreate the model and do not close the popup.
+ * Model keeps identity index of list items (item -> count of its occurrences), so check whether
+ * selected item is still in list after removal costs O(1). If selected item is removed from list,
+ * selection is cleared.
+ *
+ * @author igor.kostromin
+ *         01.08.13 19:30
+ */
+public class ObservableComboBoxModel extends ObservableListModel implements ComboBoxModel {
+    private final Map<Object, int[]> counts = new IdentityHashMap<Object, int[]>(  );
+    private Object selectedItem;
+
+    public ObservableComboBoxModel( IObservableList list ) {
+        super( list );
+        for ( Object item : (List<?>) list ) {
+            increment( item );
+        }
+    }
+
+    public Object getSelectedItem() {
+        return selectedItem;
+    }
+
+    public void setSelectedItem( Object item ) {
+        if (selectedItem == item) return;
+        selectedItem = item;
+        // index -1 means change of selection, as in DefaultComboBoxModel
+        fireContentsChanged( this, -1, -1 );
+    }
+
+    /**
+     * Returns true if list contains item (compared by identity).
+     */
+    public boolean containsItem( Object item ) {
+        return counts.containsKey( item );
+    }
+
+    private void increment( Object item ) {
+        int[] count = counts.get( item );
+        if (null == count) counts.put( item, new int[] { 1 } );
+        else count[0]++;
+    }
+
+    private void decrement( Object item ) {
+        int[] count = counts.get( item );
+        if (null == count) return;
+        if (--count[0] == 0) counts.remove( item );
+    }
+
+    private void clearSelectionIfRemoved() {
+        if (null != selectedItem && !counts.containsKey( selectedItem )) setSelectedItem( null );
+    }
+
+    @Override
+    public void listElementsAdded( IObservableList list, int index, int length ) {
+        for ( int i = index; i < index + length; i++ ) {
+            increment( list.get( i ) );
+        }
+        super.listElementsAdded( list, index, length );
+    }
+
+    @Override
+    public void listElementsRemoved( IObservableList list, int index, List oldElements ) {
+        for ( Object item : oldElements ) {
+            decrement( item );
+        }
+        super.listElementsRemoved( list, index, oldElements );
+        clearSelectionIfRemoved();
+    }
+
+    @Override
+    public void listElementReplaced( IObservableList list, int index, Object oldElement ) {
+        decrement( oldElement );
+        increment( list.get( index ) );
+        super.listElementReplaced( list, index, oldElement );
+        clearSelectionIfRemoved();
+    }
+}
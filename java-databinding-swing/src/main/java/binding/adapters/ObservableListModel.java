@@ -0,0 +1,192 @@
+package binding.adapters;
+
+import binding.observables.IObservableList;
+import binding.observables.IObservableListListener;
+
+import javax.swing.*;
+import java.util.List;
+
+/**
+ * {@link ListModel} over {@link IObservableList}. Changes made during one EDT cycle are coalesced :
+ * adjacent additions, removals and replacements are merged into single intervals which are fired once
+ * in the end of cycle. If changes of cycle are merged into one interval, it is fired with precise range.
+ * Otherwise net change is fired (size change and contents change of common part), because listeners
+ * read the final state of the list and intervals of earlier changes do not match it. Model reads data
+ * from the list directly, if model is asked for size or element before pending events have been fired,
+ * they are fired first, so listeners never see size inconsistent with events received.
+ * List should be changed on EDT.
+ *
+ * @author igor.kostromin
+ *         31.07.13 17:20
+ */
+public class ObservableListModel extends AbstractListModel implements IObservableListListener {
+    // unmerged changes are fired as net change, pending ones are kept to merge changes cancelling each other
+    private static final int MAX_PENDING = 32;
+
+    private static final int ADDED = 0;
+    private static final int REMOVED = 1;
+    private static final int CHANGED = 2;
+
+    private final IObservableList list;
+    // pending changes : type, index, length
+    private int[] pendingTypes = new int[MAX_PENDING];
+    private int[] pendingIndexes = new int[MAX_PENDING];
+    private int[] pendingLengths = new int[MAX_PENDING];
+    private int pendingCount;
+    private boolean overflow;
+    private boolean flushScheduled;
+    private boolean firing;
+    // size known by listeners
+    private int firedSize;
+
+    private final Runnable flushTask = new Runnable() {
+        public void run() {
+            flush();
+        }
+    };
+
+    public ObservableListModel( IObservableList list ) {
+        if (null == list) throw new IllegalArgumentException( "list is null" );
+        this.list = list;
+        this.firedSize = list.size();
+    }
+
+    public IObservableList getList() {
+        return list;
+    }
+
+    public int getSize() {
+        flushIfPending();
+        return list.size();
+    }
+
+    public Object getElementAt( int index ) {
+        flushIfPending();
+        return list.get( index );
+    }
+
+    private void flushIfPending() {
+        if ((pendingCount > 0 || overflow) && !firing && SwingUtilities.isEventDispatchThread())
+            flush();
+    }
+
+    public void listElementsAdded( IObservableList list, int index, int length ) {
+        if (length == 0) return;
+        int last = pendingCount - 1;
+        if (last >= 0 && pendingTypes[last] == ADDED
+                && index >= pendingIndexes[last] && index <= pendingIndexes[last] + pendingLengths[last]) {
+            // insertion into or next to just added interval
+            pendingLengths[last] += length;
+        } else {
+            enqueue( ADDED, index, length );
+        }
+        scheduleFlush();
+    }
+
+    public void listElementsRemoved( IObservableList list, int index, List oldElements ) {
+        int length = oldElements.size();
+        if (length == 0) return;
+        int last = pendingCount - 1;
+        if (last >= 0 && pendingTypes[last] == REMOVED && index == pendingIndexes[last]) {
+            pendingLengths[last] += length;
+        } else if (last >= 0 && pendingTypes[last] == REMOVED && index + length == pendingIndexes[last]) {
+            pendingIndexes[last] = index;
+            pendingLengths[last] += length;
+        } else if (last >= 0 && pendingTypes[last] == ADDED && index >= pendingIndexes[last]
+                && index + length <= pendingIndexes[last] + pendingLengths[last]) {
+            // just added elements are removed, listeners need not to know about them
+            pendingLengths[last] -= length;
+            if (pendingLengths[last] == 0) pendingCount--;
+        } else {
+            enqueue( REMOVED, index, length );
+        }
+        scheduleFlush();
+    }
+
+    public void listElementReplaced( IObservableList list, int index, Object oldElement ) {
+        int last = pendingCount - 1;
+        if (last >= 0 && pendingTypes[last] == ADDED
+                && index >= pendingIndexes[last] && index < pendingIndexes[last] + pendingLengths[last]) {
+            // element is not known by listeners yet
+        } else if (last >= 0 && pendingTypes[last] == CHANGED
+                && index >= pendingIndexes[last] - 1 && index <= pendingIndexes[last] + pendingLengths[last]) {
+            int from = Math.min( index, pendingIndexes[last] );
+            int to = Math.max( index + 1, pendingIndexes[last] + pendingLengths[last] );
+            pendingIndexes[last] = from;
+            pendingLengths[last] = to - from;
+        } else {
+            enqueue( CHANGED, index, 1 );
+        }
+        scheduleFlush();
+    }
+
+    private void enqueue( int type, int index, int length ) {
+        if (overflow) return;
+        if (pendingCount == MAX_PENDING) {
+            overflow = true;
+            pendingCount = 0;
+            return;
+        }
+        pendingTypes[pendingCount] = type;
+        pendingIndexes[pendingCount] = index;
+        pendingLengths[pendingCount] = length;
+        pendingCount++;
+    }
+
+    private void scheduleFlush() {
+        if (flushScheduled) return;
+        flushScheduled = true;
+        SwingUtilities.invokeLater( flushTask );
+    }
+
+    /**
+     * Fires pending events. Called in the end of EDT cycle or when model is read.
+     */
+    public void flush() {
+        if (firing) {
+            // changes made by listeners will be fired by next flush
+            scheduleFlush();
+            return;
+        }
+        flushScheduled = false;
+        firing = true;
+        try {
+            fire();
+        } finally {
+            firing = false;
+        }
+    }
+
+    private void fire() {
+        if (overflow || pendingCount > 1) {
+            overflow = false;
+            pendingCount = 0;
+            int oldSize = firedSize;
+            int newSize = list.size();
+            firedSize = newSize;
+            int common = Math.min( oldSize, newSize );
+            if (oldSize > newSize) fireIntervalRemoved( this, newSize, oldSize - 1 );
+            else if (newSize > oldSize) fireIntervalAdded( this, oldSize, newSize - 1 );
+            if (common > 0) fireContentsChanged( this, 0, common - 1 );
+            return;
+        }
+        if (pendingCount == 0) return;
+        // listeners may read and change the model, so pending change is taken before firing
+        pendingCount = 0;
+        int index = pendingIndexes[0];
+        int length = pendingLengths[0];
+        switch ( pendingTypes[0] ) {
+            case ADDED:
+                firedSize += length;
+                fireIntervalAdded( this, index, index + length - 1 );
+                break;
+            case REMOVED:
+                firedSize -= length;
+                fireIntervalRemoved( this, index, index + length - 1 );
+                break;
+            case CHANGED:
+                fireContentsChanged( this, index, index + length - 1 );
+                break;
+        }
+    }
+}
@@ -0,0 +1,251 @@
+package binding.adapters;
+
+import binding.INotifyPropertyChanged;
+import binding.IPropertyChangedListener;
+import binding.observables.IObservableList;
+import binding.observables.IObservableListListener;
+import binding.utils.PropertyInfo;
+import binding.utils.PropertyUtils;
+
+import javax.swing.table.AbstractTableModel;
+import java.lang.reflect.InvocationTargetException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link javax.swing.table.TableModel} over {@link IObservableList} of rows. Each column shows
+ * a property of row object. List changes are translated into row-range TableModelEvents,
+ * property changes of rows implementing {@link INotifyPropertyChanged} are translated into
+ * cell updates. Model subscribes only to visible rows set by {@link #setVisibleRows(int, int)} or
+ * {@link #setVisibleRows(int[])}, so count of listeners does not depend on count of rows.
+ * Cells of columns having setter are editable.
+ *
+ * @author igor.kostromin
+ *         01.08.13 16:05
+ */
+public class ObservableTableModel extends AbstractTableModel implements IObservableListListener {
+    private final IObservableList rows;
+    private final String[] columnNames;
+    private final String[] properties;
+    private final Map<String, Integer> columnsByProperty = new HashMap<String, Integer>(  );
+
+    // accessors resolved for the last row class
+    private Class<?> rowClass;
+    private PropertyInfo[] rowProperties;
+
+    // sorted model indexes of visible rows
+    private int[] visible = new int[0];
+    private final Map<INotifyPropertyChanged, RowListener> subscribed =
+            new IdentityHashMap<INotifyPropertyChanged, RowListener>(  );
+
+    /**
+     * Creates table model.
+     * @param rows Rows list
+     * @param columnNames Column headers
+     * @param properties Names of row properties shown in columns
+     */
+    public ObservableTableModel( IObservableList rows, String[] columnNames, String[] properties ) {
+        if (null == rows) throw new IllegalArgumentException( "rows is null" );
+        if (null == columnNames) throw new IllegalArgumentException( "columnNames is null" );
+        if (null == properties) throw new IllegalArgumentException( "properties is null" );
+        if (columnNames.length != properties.length)
+            throw new IllegalArgumentException( "columnNames and properties have different lengths" );
+        this.rows = rows;
+        this.columnNames = columnNames.clone();
+        this.properties = properties.clone();
+        for ( int i = 0; i < properties.length; i++ ) {
+            columnsByProperty.put( properties[i], i );
+        }
+    }
+
+    public IObservableList getRows() {
+        return rows;
+    }
+
+    public int getRowCount() {
+        return rows.size();
+    }
+
+    public int getColumnCount() {
+        return columnNames.length;
+    }
+
+    @Override
+    public String getColumnName( int column ) {
+        return columnNames[column];
+    }
+
+    private PropertyInfo getPropertyInfo( Object row, int column ) {
+        Class<?> cls = row.getClass();
+        if (cls != rowClass) {
+            PropertyInfo[] infos = new PropertyInfo[properties.length];
+            for ( int i = 0; i < properties.length; i++ ) {
+                infos[i] = PropertyUtils.getProperty( cls, properties[i] );
+            }
+            rowProperties = infos;
+            rowClass = cls;
+        }
+        return rowProperties[column];
+    }
+
+    public Object getValueAt( int rowIndex, int columnIndex ) {
+        Object row = rows.get( rowIndex );
+        if (null == row) return null;
+        PropertyInfo info = getPropertyInfo( row, columnIndex );
+        if (null == info.getter) return null;
+        try {
+            return info.getter.invoke( row );
+        } catch ( IllegalAccessException e ) {
+            throw new RuntimeException( e );
+        } catch ( InvocationTargetException e ) {
+            throw new RuntimeException( e );
+        }
+    }
+
+    @Override
+    public boolean isCellEditable( int rowIndex, int columnIndex ) {
+        Object row = rows.get( rowIndex );
+        return null != row && null != getPropertyInfo( row, columnIndex ).setter;
+    }
+
+    @Override
+    public void setValueAt( Object value, int rowIndex, int columnIndex ) {
+        Object row = rows.get( rowIndex );
+        if (null == row) return;
+        PropertyInfo info = getPropertyInfo( row, columnIndex );
+        if (null == info.setter) throw new UnsupportedOperationException( "Property has no setter" );
+        try {
+            info.setter.invoke( row, value );
+        } catch ( IllegalAccessException e ) {
+            throw new RuntimeException( e );
+        } catch ( InvocationTargetException e ) {
+            throw new RuntimeException( e );
+        }
+        // rows not implementing INotifyPropertyChanged or not subscribed are not notified by themselves
+        if (!(row instanceof INotifyPropertyChanged) || !subscribed.containsKey( row ))
+            fireTableCellUpdated( rowIndex, columnIndex );
+    }
+
+    /**
+     * Sets range of rows which property changes should be observed. Rows out of range are unsubscribed.
+     * Pass -1 as first to unsubscribe from all rows.
+     */
+    public void setVisibleRows( int first, int last ) {
+        int[] indexes = new int[first < 0 ? 0 : Math.max( 0, last - first + 1 )];
+        for ( int i = 0; i < indexes.length; i++ ) {
+            indexes[i] = first + i;
+        }
+        setVisibleRows( indexes );
+    }
+
+    /**
+     * Sets model indexes of rows which property changes should be observed, for example, rows
+     * visible in sorted or filtered table. Other rows are unsubscribed.
+     */
+    public void setVisibleRows( int[] indexes ) {
+        int[] sorted = indexes.clone();
+        Arrays.sort( sorted );
+        int count = 0;
+        for ( int i = 0; i < sorted.length; i++ ) {
+            if (sorted[i] >= 0 && (count == 0 || sorted[count - 1] != sorted[i])) sorted[count++] = sorted[i];
+        }
+        if (count < sorted.length) sorted = Arrays.copyOf( sorted, count );
+        if (Arrays.equals( sorted, visible )) return;
+        visible = sorted;
+        resubscribe();
+    }
+
+    /**
+     * Returns sorted model indexes of visible rows.
+     */
+    public int[] getVisibleRows() {
+        return visible.clone();
+    }
+
+    /**
+     * Returns count of rows subscribed to.
+     */
+    public int getSubscribedRowsCount() {
+        return subscribed.size();
+    }
+
+    private void resubscribe() {
+        for ( RowListener listener : subscribed.values() ) {
+            listener.count = 0;
+        }
+        int size = rows.size();
+        for ( int index : visible ) {
+            if (index >= size) break;
+            Object row = rows.get( index );
+            if (!(row instanceof INotifyPropertyChanged)) continue;
+            RowListener listener = subscribed.get( row );
+            if (null == listener) {
+                listener = new RowListener( (INotifyPropertyChanged) row );
+                ((INotifyPropertyChanged) row).addPropertyChangedListener( listener );
+                subscribed.put( (INotifyPropertyChanged) row, listener );
+            }
+            listener.addIndex( index );
+        }
+        for ( Iterator<RowListener> iterator = subscribed.values().iterator(); iterator.hasNext(); ) {
+            RowListener listener = iterator.next();
+            if (listener.count == 0) {
+                listener.row.removePropertyChangedListener( listener );
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Observes visible row, knows its indexes (the same object can be placed into list several times).
+     */
+    private class RowListener implements IPropertyChangedListener {
+        private final INotifyPropertyChanged row;
+        private int[] indexes = new int[1];
+        private int count;
+
+        private RowListener( INotifyPropertyChanged row ) {
+            this.row = row;
+        }
+
+        private void addIndex( int index ) {
+            if (count == indexes.length) indexes = Arrays.copyOf( indexes, count * 2 );
+            indexes[count++] = index;
+        }
+
+        public void propertyChanged( String propertyName ) {
+            Integer column = columnsByProperty.get( propertyName );
+            if (null == column) return;
+            for ( int i = 0; i < count; i++ ) {
+                fireTableCellUpdated( indexes[i], column );
+            }
+        }
+    }
+
+    /**
+     * Returns true if change at index can change set of visible rows.
+     */
+    private boolean affectsVisibleRows( int index ) {
+        return visible.length > 0 && index <= visible[visible.length - 1];
+    }
+
+    public void listElementsAdded( IObservableList list, int index, int length ) {
+        if (length == 0) return;
+        fireTableRowsInserted( index, index + length - 1 );
+        if (affectsVisibleRows( index )) resubscribe();
+    }
+
+    public void listElementsRemoved( IObservableList list, int index, List oldElements ) {
+        if (oldElements.isEmpty()) return;
+        fireTableRowsDeleted( index, index + oldElements.size() - 1 );
+        if (affectsVisibleRows( index )) resubscribe();
+    }
+
+    public void listElementReplaced( IObservableList list, int index, Object oldElement ) {
+        fireTableRowsUpdated( index, index );
+        if (Arrays.binarySearch( visible, index ) >= 0) resubscribe();
+    }
+}
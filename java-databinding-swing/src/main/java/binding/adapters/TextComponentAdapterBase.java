@@ -0,0 +1,189 @@
+package binding.adapters;
+
+import binding.BindingMode;
+import binding.IPropertyChangedListener;
+import binding.UpdateSourceTrigger;
+import binding.utils.ListenerList;
+
+import javax.swing.*;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+import javax.swing.text.Document;
+import javax.swing.text.JTextComponent;
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+
+/**
+ * Base adapter for {@link JTextComponent} family. Provides next virtual properties:
+ * String "text" (can be used in any binding mode)
+ * Integer "length" (read only, length of document, text is not copied to get it)
+ * Boolean "dirty" (true if document was changed not by binding, can be reset by setting false)
+ * <p>Document of component is observed by one listener shared by all bindings of component.
+ * Document events of one edit are coalesced : setText or paste fires removal followed by insertion,
+ * so on EDT removal is notified in the end of EDT cycle unless insertion follows, and listeners
+ * are notified once. Insertion is notified immediately, so typed text goes to Source synchronously.
+ * Attribute changes do not change text and are not notified.</p>
+ *
+ * @author igor.kostromin
+ *         01.08.13 21:00
+ */
+public abstract class TextComponentAdapterBase<T extends JTextComponent> implements IUiBindingAdapter<T> {
+    private static final String STATE_PROPERTY = "BINDING_TEXT_STATE";
+
+    @Override
+    public UpdateSourceTrigger getDefaultUpdateSourceTrigger() {
+        return UpdateSourceTrigger.LostFocus;
+    }
+
+    @Override
+    public Class<?> getTargetPropertyClazz( String targetProperty ) {
+        if ("text".equals( targetProperty ))
+            return String.class;
+        if ("length".equals( targetProperty ))
+            return Integer.class;
+        if ("dirty".equals( targetProperty ))
+            return Boolean.class;
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Returns text of component.
+     */
+    protected String getText( T target ) {
+        return target.getText();
+    }
+
+    @Override
+    public <TValue> void setValue( T target, String targetProperty, TValue value ) {
+        TextState state = getState( target );
+        if ("text".equals( targetProperty )) {
+            state.updating = true;
+            try {
+                target.setText( (String) value );
+            } finally {
+                state.updating = false;
+            }
+        } else if ("dirty".equals( targetProperty )) {
+            state.dirty = null != value && (Boolean) value;
+            state.notifiedDirty = state.dirty;
+        } else {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    @Override
+    public <TValue> TValue getValue( T target, String targetProperty ) {
+        if ("text".equals( targetProperty ))
+            return (TValue) getText( target );
+        if ("length".equals( targetProperty ))
+            return (TValue) (Integer) target.getDocument().getLength();
+        if ("dirty".equals( targetProperty ))
+            return (TValue) (Boolean) getState( target ).dirty;
+        throw new UnsupportedOperationException();
+    }
+
+    private static TextState getState( JTextComponent target ) {
+        TextState state = (TextState) target.getClientProperty( STATE_PROPERTY );
+        if (null == state) {
+            state = new TextState( target );
+            target.putClientProperty( STATE_PROPERTY, state );
+        }
+        return state;
+    }
+
+    @Override
+    public Object addPropertyChangedListener( T target, IPropertyChangedListener listener ) {
+        getState( target ).listeners.add( listener );
+        return listener;
+    }
+
+    @Override
+    public void removePropertyChangedListener( T target, Object listenerWrapper ) {
+        getState( target ).listeners.remove( (IPropertyChangedListener) listenerWrapper );
+    }
+
+    @Override
+    public BindingMode getDefaultMode() {
+        return BindingMode.TwoWay;
+    }
+
+    /**
+     * Observes document of component, tracks dirty flag and notifies bindings of component.
+     */
+    private static class TextState implements DocumentListener, PropertyChangeListener, Runnable {
+        private final JTextComponent component;
+        private final ListenerList<IPropertyChangedListener> listeners = new ListenerList<IPropertyChangedListener>(  );
+        private boolean updating;
+        private boolean dirty;
+        // state known by listeners
+        private int notifiedLength;
+        private boolean notifiedDirty;
+        // removal is waiting for insertion of the same edit
+        private boolean pending;
+        private boolean scheduled;
+
+        private TextState( JTextComponent component ) {
+            this.component = component;
+            component.getDocument().addDocumentListener( this );
+            component.addPropertyChangeListener( "document", this );
+            notifiedLength = component.getDocument().getLength();
+        }
+
+        public void insertUpdate( DocumentEvent e ) {
+            changed( false );
+        }
+
+        public void removeUpdate( DocumentEvent e ) {
+            changed( true );
+        }
+
+        public void changedUpdate( DocumentEvent e ) {
+        }
+
+        private void changed( boolean deferred ) {
+            if (!updating) dirty = true;
+            // changes made by binding are notified while binding ignores them
+            if (deferred && !updating && SwingUtilities.isEventDispatchThread()) {
+                pending = true;
+                if (!scheduled) {
+                    scheduled = true;
+                    SwingUtilities.invokeLater( this );
+                }
+            } else {
+                fire();
+            }
+        }
+
+        /**
+         * Fires removal not followed by insertion in the end of EDT cycle.
+         */
+        public void run() {
+            scheduled = false;
+            if (pending) fire();
+        }
+
+        private void fire() {
+            pending = false;
+            ListenerList.Snapshot<IPropertyChangedListener> snapshot = listeners.snapshot();
+            int length = component.getDocument().getLength();
+            boolean lengthChanged = length != notifiedLength;
+            boolean dirtyChanged = dirty != notifiedDirty;
+            notifiedLength = length;
+            notifiedDirty = dirty;
+            for ( int i = 0; i < snapshot.size(); i++ ) {
+                IPropertyChangedListener listener = snapshot.get( i );
+                // listener has been removed during dispatch
+                if (null == listener) continue;
+                listener.propertyChanged( "text" );
+                if (lengthChanged) listener.propertyChanged( "length" );
+                if (dirtyChanged) listener.propertyChanged( "dirty" );
+            }
+        }
+
+        public void propertyChange( PropertyChangeEvent evt ) {
+            if (null != evt.getOldValue()) ((Document) evt.getOldValue()).removeDocumentListener( this );
+            if (null != evt.getNewValue()) ((Document) evt.getNewValue()).addDocumentListener( this );
+            fire();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package binding.adapters;
+
+import binding.BindingMode;
+import binding.IPropertyChangedListener;
+import binding.UpdateSourceTrigger;
+
+import javax.swing.*;
+import java.awt.event.ItemEvent;
+import java.awt.event.ItemListener;
+
+/**
+ * Base adapter for {@link JToggleButton} family. Provides next virtual properties:
+ * Boolean "checked" (can be used in any binding mode)
+ * <p>Listeners are notified only when selected state changes. ChangeListener is not used because
+ * it is notified also on rollover, armed and pressed transitions, so mouse hover would
+ * update the Source.</p>
+ *
+ * @author igor.kostromin
+ *         01.08.13 14:10
+ */
+public abstract class ToggleButtonAdapterBase<T extends JToggleButton> implements IUiBindingAdapter<T> {
+    @Override
+    public UpdateSourceTrigger getDefaultUpdateSourceTrigger() {
+        return UpdateSourceTrigger.PropertyChanged;
+    }
+
+    @Override
+    public Class<?> getTargetPropertyClazz(String targetProperty) {
+        return Boolean.class;
+    }
+
+    @Override
+    public <TValue> void setValue(T target, String targetProperty, TValue value) {
+        if (!targetProperty.equals("checked")) throw new UnsupportedOperationException();
+        target.setSelected(value != null ? (Boolean) value : false);
+    }
+
+    @Override
+    public <TValue> TValue getValue(T target, String targetProperty) {
+        if (!"checked".equals(targetProperty)) throw new UnsupportedOperationException();
+        return (TValue) (Boolean) target.isSelected();
+    }
+
+    @Override
+    public Object addPropertyChangedListener(T target, final IPropertyChangedListener listener) {
+        ItemListener itemListener = new ItemListener() {
+            @Override
+            public void itemStateChanged(ItemEvent e) {
+                listener.propertyChanged("checked");
+            }
+        };
+        target.addItemListener(itemListener);
+        return itemListener;
+    }
+
+    @Override
+    public void removePropertyChangedListener(T target, Object listenerWrapper) {
+        target.removeItemListener((ItemListener) listenerWrapper);
+    }
+
+    @Override
+    public BindingMode getDefaultMode() {
+        return BindingMode.TwoWay;
+    }
+}
@@ -0,0 +1,120 @@
+import binding.*;
+import junit.framework.Assert;
+import org.junit.Test;
+
+import javax.swing.*;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * @author igor.kostromin
+ *         18.07.13 14:12
+ */
+public class BindingGroupTest {
+
+    public static class Source implements INotifyPropertyChanged {
+        private String name;
+        private Boolean remember;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName( String name ) {
+            this.name = name;
+            raisePropertyChange( "name" );
+        }
+
+        public Boolean getRemember() {
+            return remember;
+        }
+
+        public void setRemember( Boolean remember ) {
+            this.remember = remember;
+            raisePropertyChange( "remember" );
+        }
+
+        private void raisePropertyChange( String propName) {
+            for ( IPropertyChangedListener listener : listeners ) {
+                listener.propertyChanged( propName );
+            }
+        }
+
+        private List<IPropertyChangedListener> listeners = new ArrayList<IPropertyChangedListener>(  );
+
+        public int getListenersCount() {
+            return listeners.size();
+        }
+
+        public void addPropertyChangedListener( IPropertyChangedListener listener ) {
+            listeners.add( listener );
+        }
+
+        public void removePropertyChangedListener( IPropertyChangedListener listener ) {
+            listeners.remove( listener );
+        }
+    }
+
+    @Test
+    public void testUnbind() {
+        Source source = new Source();
+        JTextField textField = new JTextField(  );
+        BindingGroup group = new BindingGroup( source );
+        group.add( textField, "text", "name", BindingMode.Default, UpdateSourceTrigger.PropertyChanged );
+        group.add( new JCheckBox(  ), "checked", "remember" );
+        group.bind();
+        Assert.assertEquals( 2, source.getListenersCount() );
+        group.unbind();
+        Assert.assertEquals( 0, source.getListenersCount() );
+        textField.setText( "changed" );
+        Assert.assertFalse( "changed".equals( source.getName() ) );
+    }
+
+    @Test
+    public void testSetSourceDoesNotLeakListeners() {
+        Source first = new Source();
+        first.setName( "first" );
+        Source second = new Source();
+        second.setName( "second" );
+        JTextField textField = new JTextField(  );
+        BindingGroup group = new BindingGroup( first );
+        group.add( textField, "text", "name", BindingMode.Default, UpdateSourceTrigger.PropertyChanged );
+        group.bind();
+        for ( int i = 0; i < 10; i++ ) {
+            group.setSource( i % 2 == 0 ? second : first );
+        }
+        Assert.assertEquals( 0, second.getListenersCount() );
+        Assert.assertEquals( 1, first.getListenersCount() );
+        Assert.assertEquals( "first", textField.getText() );
+        textField.setText( "edited" );
+        Assert.assertEquals( "edited", first.getName() );
+        Assert.assertEquals( "second", second.getName() );
+    }
+
+    @Test
+    public void testTemplate() {
+        JTextField textField = new JTextField(  );
+        BindingGroup group = new BindingGroup(  );
+        group.add( textField, "text", "name", BindingMode.OneWay );
+        BindingTemplate template = group.compile();
+        Source[] sources = new Source[5];
+        for ( int i = 0; i < sources.length; i++ ) {
+            sources[i] = new Source();
+            sources[i].setName( "source" + i );
+        }
+        template.apply( sources[0] );
+        Assert.assertEquals( "source0", textField.getText() );
+        for ( Source source : sources ) {
+            template.apply( source );
+            Assert.assertEquals( source.getName(), textField.getText() );
+            Assert.assertEquals( 1, source.getListenersCount() );
+        }
+        sources[4].setName( "changed" );
+        Assert.assertEquals( "changed", textField.getText() );
+        template.unbind();
+        Assert.assertNull( template.getSource() );
+        for ( Source source : sources ) {
+            Assert.assertEquals( 0, source.getListenersCount() );
+        }
+    }
+}
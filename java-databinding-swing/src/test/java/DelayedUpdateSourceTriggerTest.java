@@ -0,0 +1,111 @@
+import binding.*;
+import junit.framework.Assert;
+import org.junit.Test;
+
+import javax.swing.*;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * @author igor.kostromin
+ *         29.07.13 16:20
+ */
+public class DelayedUpdateSourceTriggerTest {
+    public static class Model implements INotifyPropertyChanged {
+        private String text;
+        private final List<String> writes = new ArrayList<String>(  );
+
+        public String getText() {
+            return text;
+        }
+
+        public void setText( String text ) {
+            this.text = text;
+            writes.add( text );
+            raisePropertyChange( "text" );
+        }
+
+        private void raisePropertyChange( String propName) {
+            for ( IPropertyChangedListener listener : listeners ) {
+                listener.propertyChanged( propName );
+            }
+        }
+
+        private List<IPropertyChangedListener> listeners = new ArrayList<IPropertyChangedListener>(  );
+
+        public void addPropertyChangedListener( IPropertyChangedListener listener ) {
+            listeners.add( listener );
+        }
+
+        public void removePropertyChangedListener( IPropertyChangedListener listener ) {
+            listeners.remove( listener );
+        }
+    }
+
+    private static void onEdt( Runnable runnable ) throws Exception {
+        SwingUtilities.invokeAndWait( runnable );
+    }
+
+    /**
+     * Types text by one character per 10 ms.
+     */
+    private static void type( final JTextField textField, String text ) throws Exception {
+        for ( int i = 1; i <= text.length(); i++ ) {
+            final String typed = text.substring( 0, i );
+            onEdt( new Runnable() {
+                public void run() {
+                    textField.setText( typed );
+                }
+            } );
+            Thread.sleep( 10 );
+        }
+    }
+
+    @Test
+    public void testDebounce() throws Exception {
+        final Model model = new Model();
+        final JTextField textField = new JTextField(  );
+        final Binding binding = new Binding( textField, "text", model, "text", BindingMode.TwoWay,
+                UpdateSourceTrigger.Debounce, 200 );
+        onEdt( new Runnable() {
+            public void run() {
+                binding.bind();
+                model.writes.clear();
+            }
+        } );
+        type( textField, "hello" );
+        Assert.assertTrue( model.writes.isEmpty() );
+        Thread.sleep( 400 );
+        onEdt( new Runnable() {
+            public void run() {
+                Assert.assertEquals( "[hello]", model.writes.toString() );
+                binding.unbind();
+            }
+        } );
+    }
+
+    @Test
+    public void testThrottle() throws Exception {
+        final Model model = new Model();
+        final JTextField textField = new JTextField(  );
+        final Binding binding = new Binding( textField, "text", model, "text", BindingMode.TwoWay,
+                UpdateSourceTrigger.Throttle, 1000 );
+        onEdt( new Runnable() {
+            public void run() {
+                binding.bind();
+                model.writes.clear();
+            }
+        } );
+        type( textField, "hello" );
+        // first change goes immediately, next ones are merged into one trailing update
+        Assert.assertEquals( "[h]", model.writes.toString() );
+        Thread.sleep( 1300 );
+        onEdt( new Runnable() {
+            public void run() {
+                Assert.assertEquals( "[h, hello]", model.writes.toString() );
+                binding.unbind();
+                Assert.assertEquals( 0, SwingTimerWheel.getInstance().getScheduledCount() );
+            }
+        } );
+    }
+}
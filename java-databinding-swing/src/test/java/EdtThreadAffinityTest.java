@@ -0,0 +1,63 @@
+import binding.*;
+import junit.framework.Assert;
+import org.junit.Test;
+
+import javax.swing.*;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @author igor.kostromin
+ *         26.07.13 15:30
+ */
+public class EdtThreadAffinityTest {
+    @Test
+    public void testWorkerThreadChanges() throws Exception {
+        BindingSettings settings = new BindingSettings();
+        settings.initializeDefault();
+        settings.setThreadAffinity( EdtThreadAffinity.INSTANCE );
+        final UiBindingTest.Source source = new UiBindingTest.Source();
+        source.setI( 0 );
+        final JTextField textField = new JTextField(  );
+        final AtomicInteger writes = new AtomicInteger(  );
+        final AtomicInteger writesOffEdt = new AtomicInteger(  );
+        final Binding binding = new Binding( textField, "text", source, "i", BindingMode.TwoWay,
+                UpdateSourceTrigger.PropertyChanged, settings );
+        SwingUtilities.invokeAndWait( new Runnable() {
+            public void run() {
+                binding.bind();
+                textField.getDocument().addDocumentListener( new DocumentListener() {
+                    public void insertUpdate( DocumentEvent e ) {
+                        writes.incrementAndGet();
+                        if (!SwingUtilities.isEventDispatchThread()) writesOffEdt.incrementAndGet();
+                    }
+
+                    public void removeUpdate( DocumentEvent e ) {
+                    }
+
+                    public void changedUpdate( DocumentEvent e ) {
+                    }
+                } );
+            }
+        } );
+        Thread worker = new Thread( new Runnable() {
+            public void run() {
+                for ( int i = 1; i <= 500; i++ ) source.setI( i );
+            }
+        } );
+        worker.start();
+        worker.join();
+        SwingUtilities.invokeAndWait( new Runnable() {
+            public void run() {
+                Assert.assertEquals( "500", textField.getText() );
+                // user input on EDT still goes to source synchronously
+                textField.setText( "42" );
+            }
+        } );
+        Assert.assertEquals( 0, writesOffEdt.get() );
+        Assert.assertTrue( writes.get() >= 1 && writes.get() <= 501 );
+        Assert.assertEquals( 42, (int) source.getI() );
+        binding.unbind();
+    }
+}
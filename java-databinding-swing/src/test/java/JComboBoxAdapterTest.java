@@ -0,0 +1,145 @@
+import binding.Binding;
+import binding.BindingMode;
+import binding.PropertyChangedSupport;
+import binding.adapters.ObservableComboBoxModel;
+import binding.observables.IObservableList;
+import binding.observables.ObservableList;
+import junit.framework.Assert;
+import org.junit.Test;
+
+import javax.swing.*;
+import javax.swing.event.ListDataEvent;
+import javax.swing.event.ListDataListener;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * @author igor.kostromin
+ *         01.08.13 20:10
+ */
+public class JComboBoxAdapterTest {
+    public static class Source extends PropertyChangedSupport {
+        private final IObservableList<String> items = new ObservableList<String>( new ArrayList<String>(  ) );
+        private String selected;
+
+        public IObservableList<String> getItems() {
+            return items;
+        }
+
+        public String getSelected() {
+            return selected;
+        }
+
+        public void setSelected( String selected ) {
+            this.selected = selected;
+            raisePropertyChange( "selected" );
+        }
+    }
+
+    private static class Recorder implements ListDataListener {
+        final List<String> events = new ArrayList<String>(  );
+
+        public void intervalAdded( ListDataEvent e ) {
+            events.add( "added " + e.getIndex0() + "-" + e.getIndex1() );
+        }
+
+        public void intervalRemoved( ListDataEvent e ) {
+            events.add( "removed " + e.getIndex0() + "-" + e.getIndex1() );
+        }
+
+        public void contentsChanged( ListDataEvent e ) {
+            events.add( "changed " + e.getIndex0() + "-" + e.getIndex1() );
+        }
+    }
+
+    private Source source;
+    private JComboBox comboBox;
+    private ComboBoxModel model;
+    private Recorder recorder;
+    private Binding itemsBinding;
+    private Binding selectedBinding;
+
+    private static void onEdt( Runnable runnable ) throws Exception {
+        SwingUtilities.invokeAndWait( runnable );
+    }
+
+    @Test
+    public void testItemsAndSelection() throws Exception {
+        onEdt( new Runnable() {
+            public void run() {
+                source = new Source();
+                source.getItems().addAll( Arrays.asList( "a", "b", "c" ) );
+                comboBox = new JComboBox(  );
+                itemsBinding = new Binding( comboBox, "items", source, "items", BindingMode.OneWay );
+                itemsBinding.bind();
+                selectedBinding = new Binding( comboBox, "selectedItem", source, "selected", BindingMode.TwoWay );
+                selectedBinding.bind();
+                model = comboBox.getModel();
+                Assert.assertTrue( model instanceof ObservableComboBoxModel );
+            }
+        } );
+        onEdt( new Runnable() {
+            public void run() {
+                Assert.assertEquals( 3, comboBox.getItemCount() );
+                recorder = new Recorder();
+                model.addListDataListener( recorder );
+                // additions are fired as intervals, model is not recreated
+                source.getItems().add( "d" );
+                source.getItems().add( "e" );
+            }
+        } );
+        onEdt( new Runnable() {
+            public void run() {
+                Assert.assertSame( model, comboBox.getModel() );
+                Assert.assertEquals( "[added 3-4]", recorder.events.toString() );
+                Assert.assertEquals( 5, comboBox.getItemCount() );
+
+                source.setSelected( source.getItems().get( 1 ) );
+                Assert.assertEquals( "b", comboBox.getSelectedItem() );
+                comboBox.setSelectedIndex( 3 );
+                Assert.assertEquals( "d", source.getSelected() );
+
+                // selected item is removed from list
+                source.getItems().remove( 3 );
+                Assert.assertNull( comboBox.getSelectedItem() );
+                Assert.assertNull( source.getSelected() );
+
+                comboBox.setSelectedIndex( 0 );
+                Assert.assertEquals( "a", source.getSelected() );
+                source.getItems().set( 1, "x" );
+                Assert.assertEquals( "a", source.getSelected() );
+                Assert.assertTrue( ((ObservableComboBoxModel) model).containsItem( source.getItems().get( 1 ) ) );
+
+                selectedBinding.unbind();
+                itemsBinding.unbind();
+            }
+        } );
+    }
+
+    @Test
+    public void testSelectionBoundBeforeItems() throws Exception {
+        onEdt( new Runnable() {
+            public void run() {
+                source = new Source();
+                source.getItems().addAll( Arrays.asList( "a", "b", "c" ) );
+                source.setSelected( source.getItems().get( 1 ) );
+                comboBox = new JComboBox(  );
+                selectedBinding = new Binding( comboBox, "selectedItem", source, "selected", BindingMode.TwoWay );
+                selectedBinding.bind();
+                itemsBinding = new Binding( comboBox, "items", source, "items", BindingMode.OneWay );
+                itemsBinding.bind();
+                Assert.assertTrue( comboBox.getModel() instanceof ObservableComboBoxModel );
+                // selection survives replacement of model
+                Assert.assertEquals( "b", comboBox.getSelectedItem() );
+                Assert.assertEquals( "b", source.getSelected() );
+                Assert.assertEquals( 1, comboBox.getSelectedIndex() );
+
+                comboBox.setSelectedIndex( 2 );
+                Assert.assertEquals( "c", source.getSelected() );
+                selectedBinding.unbind();
+                itemsBinding.unbind();
+            }
+        } );
+    }
+}
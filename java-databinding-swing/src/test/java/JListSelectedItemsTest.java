@@ -0,0 +1,137 @@
+import binding.Binding;
+import binding.BindingMode;
+import binding.PropertyChangedSupport;
+import binding.observables.IObservableList;
+import binding.observables.IObservableListListener;
+import binding.observables.ObservableList;
+import junit.framework.Assert;
+import org.junit.Test;
+
+import javax.swing.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * @author igor.kostromin
+ *         01.08.13 11:20
+ */
+public class JListSelectedItemsTest {
+    private static final int ITEMS_COUNT = 20000;
+
+    public static class Source extends PropertyChangedSupport {
+        private final IObservableList<String> selected = new ObservableList<String>( new ArrayList<String>(  ) );
+
+        public IObservableList<String> getSelected() {
+            return selected;
+        }
+    }
+
+    private static class EventsCounter implements IObservableListListener {
+        int added;
+        int removed;
+
+        public void listElementsAdded( IObservableList list, int index, int length ) {
+            added++;
+        }
+
+        public void listElementsRemoved( IObservableList list, int index, List oldElements ) {
+            removed++;
+        }
+
+        public void listElementReplaced( IObservableList list, int index, Object oldElement ) {
+        }
+    }
+
+    private Source source;
+    private JList jList;
+    private Binding binding;
+    private EventsCounter counter;
+
+    private void bind() {
+        String[] items = new String[ITEMS_COUNT];
+        for ( int i = 0; i < items.length; i++ ) items[i] = "item" + i;
+        source = new Source();
+        jList = new JList( items );
+        binding = new Binding( jList, "selectedItems", source, "selected", BindingMode.OneWayToSource );
+        binding.bind();
+        counter = new EventsCounter();
+        source.getSelected().addObservableListListener( counter );
+    }
+
+    private void assertInSync() {
+        Assert.assertEquals( Arrays.asList( jList.getSelectedValues() ), source.getSelected() );
+    }
+
+    @Test
+    public void testSelectAll() throws Exception {
+        SwingUtilities.invokeAndWait( new Runnable() {
+            public void run() {
+                bind();
+                long start = System.nanoTime();
+                jList.setSelectionInterval( 0, ITEMS_COUNT - 1 );
+                System.out.println( String.format( "select all %d items : %d ms", ITEMS_COUNT,
+                        (System.nanoTime() - start) / 1000000 ) );
+                Assert.assertEquals( ITEMS_COUNT, source.getSelected().size() );
+                Assert.assertEquals( 1, counter.added );
+                assertInSync();
+
+                jList.removeSelectionInterval( 100, ITEMS_COUNT - 1 );
+                Assert.assertEquals( 100, source.getSelected().size() );
+                Assert.assertEquals( 1, counter.removed );
+                assertInSync();
+
+                jList.clearSelection();
+                Assert.assertTrue( source.getSelected().isEmpty() );
+                binding.unbind();
+            }
+        } );
+    }
+
+    @Test
+    public void testAdjustingEventsAreSkipped() throws Exception {
+        SwingUtilities.invokeAndWait( new Runnable() {
+            public void run() {
+                bind();
+                jList.setSelectionInterval( 0, 9 );
+                ListSelectionModel selectionModel = jList.getSelectionModel();
+                selectionModel.setValueIsAdjusting( true );
+                jList.addSelectionInterval( 500, 600 );
+                jList.addSelectionInterval( 700, 800 );
+                jList.removeSelectionInterval( 5, 9 );
+                Assert.assertEquals( 10, source.getSelected().size() );
+                selectionModel.setValueIsAdjusting( false );
+                Assert.assertEquals( 5 + 101 + 101, source.getSelected().size() );
+                assertInSync();
+                binding.unbind();
+            }
+        } );
+    }
+
+    @Test
+    public void testRandomChanges() throws Exception {
+        SwingUtilities.invokeAndWait( new Runnable() {
+            public void run() {
+                bind();
+                Random random = new Random( 42 );
+                for ( int i = 0; i < 300; i++ ) {
+                    int from = random.nextInt( ITEMS_COUNT );
+                    int to = Math.min( ITEMS_COUNT - 1, from + random.nextInt( 2000 ) );
+                    switch ( random.nextInt( 3 ) ) {
+                        case 0:
+                            jList.addSelectionInterval( from, to );
+                            break;
+                        case 1:
+                            jList.removeSelectionInterval( from, to );
+                            break;
+                        default:
+                            jList.setSelectionInterval( from, to );
+                    }
+                    assertInSync();
+                }
+                binding.unbind();
+            }
+        } );
+    }
+}
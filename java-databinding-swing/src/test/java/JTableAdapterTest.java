@@ -0,0 +1,182 @@
+import binding.Binding;
+import binding.BindingMode;
+import binding.PropertyChangedSupport;
+import binding.adapters.JTableAdapter;
+import binding.adapters.ObservableTableModel;
+import binding.observables.IObservableList;
+import binding.observables.ObservableList;
+import junit.framework.Assert;
+import org.junit.Test;
+
+import javax.swing.*;
+import javax.swing.event.TableModelEvent;
+import javax.swing.event.TableModelListener;
+import javax.swing.table.TableRowSorter;
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * @author igor.kostromin
+ *         01.08.13 18:10
+ */
+public class JTableAdapterTest {
+    private static final int ROWS_COUNT = 100000;
+
+    public static class Row extends PropertyChangedSupport {
+        private String name;
+        private Integer age;
+
+        public Row( String name, Integer age ) {
+            this.name = name;
+            this.age = age;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName( String name ) {
+            this.name = name;
+            raisePropertyChange( "name" );
+        }
+
+        public Integer getAge() {
+            return age;
+        }
+
+        public void setAge( Integer age ) {
+            this.age = age;
+            raisePropertyChange( "age" );
+        }
+    }
+
+    public static class Source extends PropertyChangedSupport {
+        private final IObservableList<Row> rows = new ObservableList<Row>( new ArrayList<Row>(  ) );
+
+        public IObservableList<Row> getRows() {
+            return rows;
+        }
+    }
+
+    private static class Recorder implements TableModelListener {
+        final List<String> events = new ArrayList<String>(  );
+
+        public void tableChanged( TableModelEvent e ) {
+            events.add( e.getType() + " " + e.getFirstRow() + "-" + e.getLastRow() + ":" + e.getColumn() );
+        }
+    }
+
+    @Test
+    public void testVisibleRowsSubscription() throws Exception {
+        SwingUtilities.invokeAndWait( new Runnable() {
+            public void run() {
+                Source source = new Source();
+                List<Row> rows = new ArrayList<Row>( ROWS_COUNT );
+                for ( int i = 0; i < ROWS_COUNT; i++ ) rows.add( new Row( "row" + i, i ) );
+                source.getRows().addAll( rows );
+
+                JTable table = new JTable(  );
+                JTableAdapter.setColumns( table, new String[] { "Name", "Age" }, new String[] { "name", "age" } );
+                JScrollPane scrollPane = new JScrollPane( table );
+                Binding binding = new Binding( table, "items", source, "rows", BindingMode.OneWay );
+                binding.bind();
+                // there is no peer in headless mode, so lay out explicitly
+                scrollPane.setSize( 300, 20 * table.getRowHeight() );
+                scrollPane.doLayout();
+                scrollPane.getViewport().doLayout();
+                ObservableTableModel model = (ObservableTableModel) table.getModel();
+                Assert.assertEquals( ROWS_COUNT, model.getRowCount() );
+                Assert.assertEquals( "row5", model.getValueAt( 5, 0 ) );
+                Assert.assertEquals( 5, model.getValueAt( 5, 1 ) );
+
+                // only visible rows are observed
+                int subscribed = model.getSubscribedRowsCount();
+                Assert.assertTrue( subscribed > 0 && subscribed <= 20 );
+                Assert.assertEquals( 1, rows.get( 0 ).getListenersCount() );
+                Assert.assertEquals( 0, rows.get( 5000 ).getListenersCount() );
+
+                Recorder recorder = new Recorder();
+                model.addTableModelListener( recorder );
+                rows.get( 1 ).setAge( 100 );
+                rows.get( 5000 ).setAge( 100 );
+                Assert.assertEquals( "[0 1-1:1]", recorder.events.toString() );
+
+                // scroll
+                scrollPane.getViewport().setViewPosition( new Point( 0, 5000 * table.getRowHeight() ) );
+                Assert.assertEquals( 0, rows.get( 0 ).getListenersCount() );
+                Assert.assertEquals( 1, rows.get( 5000 ).getListenersCount() );
+                Assert.assertTrue( model.getSubscribedRowsCount() <= 21 );
+
+                // row list changes
+                recorder.events.clear();
+                Row inserted = new Row( "inserted", 0 );
+                source.getRows().add( 4990, inserted );
+                source.getRows().remove( 0 );
+                Assert.assertEquals( "[1 4990-4990:-1, -1 0-0:-1]", recorder.events.toString() );
+                Assert.assertEquals( "inserted", model.getValueAt( 4989, 0 ) );
+
+                // editing
+                Assert.assertTrue( model.isCellEditable( 5000, 0 ) );
+                recorder.events.clear();
+                model.setValueAt( "edited", 5000, 0 );
+                Assert.assertEquals( "edited", rows.get( 5000 ).getName() );
+                Assert.assertEquals( "[0 5000-5000:0]", recorder.events.toString() );
+                binding.unbind();
+            }
+        } );
+    }
+
+    @Test
+    public void testSortedRowsSubscription() throws Exception {
+        SwingUtilities.invokeAndWait( new Runnable() {
+            public void run() {
+                Source source = new Source();
+                List<Row> rows = new ArrayList<Row>( ROWS_COUNT );
+                // ages alternate between small and large values, so sorted view rows are spread over the model
+                for ( int i = 0; i < ROWS_COUNT; i++ ) rows.add( new Row( "row" + i, i % 2 == 0 ? i : ROWS_COUNT * 2 - i ) );
+                source.getRows().addAll( rows );
+
+                JTable table = new JTable(  );
+                JTableAdapter.setColumns( table, new String[] { "Name", "Age" }, new String[] { "name", "age" } );
+                JScrollPane scrollPane = new JScrollPane( table );
+                Binding binding = new Binding( table, "items", source, "rows", BindingMode.OneWay );
+                binding.bind();
+                ObservableTableModel model = (ObservableTableModel) table.getModel();
+                TableRowSorter<ObservableTableModel> sorter = new TableRowSorter<ObservableTableModel>( model );
+                table.setRowSorter( sorter );
+                sorter.setSortsOnUpdates( true );
+                // column class is Object, so values would be compared as strings
+                sorter.setComparator( 1, new Comparator<Integer>() {
+                    public int compare( Integer o1, Integer o2 ) {
+                        return o1.compareTo( o2 );
+                    }
+                } );
+                sorter.setSortKeys( Collections.singletonList( new RowSorter.SortKey( 1, SortOrder.ASCENDING ) ) );
+                scrollPane.setSize( 300, 20 * table.getRowHeight() );
+                scrollPane.doLayout();
+                scrollPane.getViewport().doLayout();
+
+                // first view rows show rows 0, 2, 4 ... : only they are observed, not the whole span
+                int subscribed = model.getSubscribedRowsCount();
+                Assert.assertTrue( subscribed > 0 && subscribed <= 20 );
+                Assert.assertEquals( 1, rows.get( 2 ).getListenersCount() );
+                Assert.assertEquals( 0, rows.get( 1 ).getListenersCount() );
+                Assert.assertEquals( 0, rows.get( 3 ).getListenersCount() );
+
+                Recorder recorder = new Recorder();
+                model.addTableModelListener( recorder );
+                rows.get( 4 ).setName( "renamed" );
+                Assert.assertEquals( "[0 4-4:0]", recorder.events.toString() );
+
+                // row moved out of view by sorting is unsubscribed
+                rows.get( 2 ).setAge( ROWS_COUNT * 3 );
+                Assert.assertEquals( 0, rows.get( 2 ).getListenersCount() );
+                Assert.assertTrue( model.getSubscribedRowsCount() <= 20 );
+                binding.unbind();
+            }
+        } );
+    }
+}
@@ -0,0 +1,220 @@
+import binding.Binding;
+import binding.BindingMode;
+import binding.PropertyChangedSupport;
+import binding.adapters.ObservableListModel;
+import binding.observables.IObservableList;
+import binding.observables.ObservableList;
+import junit.framework.Assert;
+import org.junit.Test;
+
+import javax.swing.*;
+import javax.swing.event.ListDataEvent;
+import javax.swing.event.ListDataListener;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * @author igor.kostromin
+ *         31.07.13 18:05
+ */
+public class ObservableListModelTest {
+    public static class Source extends PropertyChangedSupport {
+        private final IObservableList<String> items = new ObservableList<String>( new ArrayList<String>(  ) );
+
+        public IObservableList<String> getItems() {
+            return items;
+        }
+    }
+
+    private static class Recorder implements ListDataListener {
+        final List<String> events = new ArrayList<String>(  );
+
+        public void intervalAdded( ListDataEvent e ) {
+            events.add( "added " + e.getIndex0() + "-" + e.getIndex1() );
+        }
+
+        public void intervalRemoved( ListDataEvent e ) {
+            events.add( "removed " + e.getIndex0() + "-" + e.getIndex1() );
+        }
+
+        public void contentsChanged( ListDataEvent e ) {
+            events.add( "changed " + e.getIndex0() + "-" + e.getIndex1() );
+        }
+    }
+
+    private static void onEdt( Runnable runnable ) throws Exception {
+        SwingUtilities.invokeAndWait( runnable );
+    }
+
+    /**
+     * Runs changes in one EDT cycle and returns events fired after it.
+     */
+    private static List<String> changes( final IObservableList<String> list, final Runnable changes ) throws Exception {
+        final Recorder recorder = new Recorder();
+        onEdt( new Runnable() {
+            public void run() {
+                ObservableListModel model = new ObservableListModel( list );
+                list.addObservableListListener( model );
+                model.addListDataListener( recorder );
+                changes.run();
+            }
+        } );
+        // let the flush scheduled in the end of cycle run
+        onEdt( new Runnable() {
+            public void run() {
+            }
+        } );
+        return recorder.events;
+    }
+
+    private static IObservableList<String> list( String... items ) {
+        return new ObservableList<String>( new ArrayList<String>( Arrays.asList( items ) ) );
+    }
+
+    @Test
+    public void testIncrementalAddsAreMerged() throws Exception {
+        final IObservableList<String> list = list( "a" );
+        List<String> events = changes( list, new Runnable() {
+            public void run() {
+                for ( int i = 0; i < 10000; i++ ) list.add( String.valueOf( i ) );
+            }
+        } );
+        Assert.assertEquals( "[added 1-10000]", events.toString() );
+    }
+
+    @Test
+    public void testRemovesAndReplacesAreMerged() throws Exception {
+        final IObservableList<String> list = list( "a", "b", "c", "d", "e", "f" );
+        List<String> events = changes( list, new Runnable() {
+            public void run() {
+                list.remove( 4 );
+                list.remove( 3 );
+                list.remove( 2 );
+                list.set( 0, "x" );
+                list.set( 1, "y" );
+            }
+        } );
+        // removal and replacements are not merged into one interval, so net change is fired
+        Assert.assertEquals( "[removed 3-5, changed 0-2]", events.toString() );
+    }
+
+    @Test
+    public void testListenersSeeConsistentSize() throws Exception {
+        final IObservableList<String> list = list( "0", "1", "2", "3", "4", "5", "6", "7" );
+        final List<String> sizes = new ArrayList<String>(  );
+        onEdt( new Runnable() {
+            public void run() {
+                final ObservableListModel model = new ObservableListModel( list );
+                list.addObservableListListener( model );
+                model.addListDataListener( new ListDataListener() {
+                    private int size = model.getSize();
+
+                    public void intervalAdded( ListDataEvent e ) {
+                        size += e.getIndex1() - e.getIndex0() + 1;
+                        check( "added" );
+                    }
+
+                    public void intervalRemoved( ListDataEvent e ) {
+                        size -= e.getIndex1() - e.getIndex0() + 1;
+                        check( "removed" );
+                    }
+
+                    public void contentsChanged( ListDataEvent e ) {
+                        Assert.assertTrue( e.getIndex1() < model.getSize() );
+                        check( "changed" );
+                    }
+
+                    private void check( String event ) {
+                        // size known by listener matches size of model in every callback
+                        Assert.assertEquals( size, model.getSize() );
+                        sizes.add( event + " " + model.getSize() );
+                    }
+                } );
+                list.add( 0, "a" );
+                list.remove( 5 );
+                list.add( 7, "b" );
+            }
+        } );
+        onEdt( new Runnable() {
+            public void run() {
+            }
+        } );
+        Assert.assertEquals( "[added 9, changed 9]", sizes.toString() );
+    }
+
+    @Test
+    public void testAddedAndRemovedInOneCycle() throws Exception {
+        final IObservableList<String> list = list( "a" );
+        List<String> events = changes( list, new Runnable() {
+            public void run() {
+                list.add( "b" );
+                list.add( "c" );
+                list.set( 1, "x" );
+                list.remove( 2 );
+                list.remove( 1 );
+            }
+        } );
+        Assert.assertEquals( "[]", events.toString() );
+    }
+
+    @Test
+    public void testReadFlushesPendingEvents() throws Exception {
+        final IObservableList<String> list = list();
+        final Recorder recorder = new Recorder();
+        onEdt( new Runnable() {
+            public void run() {
+                ObservableListModel model = new ObservableListModel( list );
+                list.addObservableListListener( model );
+                model.addListDataListener( recorder );
+                list.add( "a" );
+                list.add( "b" );
+                Assert.assertTrue( recorder.events.isEmpty() );
+                Assert.assertEquals( 2, model.getSize() );
+                Assert.assertEquals( "[added 0-1]", recorder.events.toString() );
+            }
+        } );
+    }
+
+    @Test
+    public void testOverflow() throws Exception {
+        final IObservableList<String> list = list();
+        for ( int i = 0; i < 100; i++ ) list.add( String.valueOf( i ) );
+        List<String> events = changes( list, new Runnable() {
+            public void run() {
+                for ( int i = 0; i < 100; i += 2 ) list.set( i, "x" );
+                list.remove( 99 );
+            }
+        } );
+        Assert.assertEquals( "[removed 99-99, changed 0-98]", events.toString() );
+    }
+
+    @Test
+    public void testJListItemsBinding() throws Exception {
+        final Source source = new Source();
+        source.getItems().add( "a" );
+        final JList jList = new JList(  );
+        final Binding binding = new Binding( jList, "items", source, "items", BindingMode.OneWay );
+        final Recorder recorder = new Recorder();
+        onEdt( new Runnable() {
+            public void run() {
+                binding.bind();
+            }
+        } );
+        onEdt( new Runnable() {
+            public void run() {
+                Assert.assertEquals( 1, jList.getModel().getSize() );
+                jList.getModel().addListDataListener( recorder );
+                for ( int i = 0; i < 1000; i++ ) source.getItems().add( String.valueOf( i ) );
+            }
+        } );
+        onEdt( new Runnable() {
+            public void run() {
+                Assert.assertEquals( "[added 1-1000]", recorder.events.toString() );
+                Assert.assertEquals( 1001, jList.getModel().getSize() );
+                Assert.assertEquals( "999", jList.getModel().getElementAt( 1000 ) );
+                binding.unbind();
+            }
+        } );
+    }
+}
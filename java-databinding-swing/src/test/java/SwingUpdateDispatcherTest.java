@@ -0,0 +1,113 @@
+import binding.*;
+import junit.framework.Assert;
+import org.junit.Test;
+
+import javax.swing.*;
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @author igor.kostromin
+ *         25.07.13 14:50
+ */
+public class SwingUpdateDispatcherTest {
+    private static void waitForEdt() throws Exception {
+        SwingUtilities.invokeAndWait( new Runnable() {
+            public void run() {
+            }
+        } );
+    }
+
+    @Test
+    public void testCoalescing() throws Exception {
+        UiBindingTest.Source source = new UiBindingTest.Source();
+        source.setI( 0 );
+        JLabel label = new JLabel(  );
+        final AtomicInteger writes = new AtomicInteger(  );
+        label.addPropertyChangeListener( "text", new PropertyChangeListener() {
+            public void propertyChange( PropertyChangeEvent evt ) {
+                writes.incrementAndGet();
+            }
+        } );
+        final Binding binding = new Binding( label, "text", source, "i", BindingMode.OneWay );
+        binding.setUpdateExecutor( new SwingUpdateDispatcher() );
+        SwingUtilities.invokeAndWait( new Runnable() {
+            public void run() {
+                binding.bind();
+            }
+        } );
+        writes.set( 0 );
+        // model is updated on test thread, not on Event Dispatch Thread
+        for ( int i = 1; i <= 1000; i++ ) source.setI( i );
+        waitForEdt();
+        Assert.assertEquals( "1000", label.getText() );
+        Assert.assertTrue( writes.get() >= 1 && writes.get() < 1000 );
+    }
+
+    /**
+     * Dispatcher with manual clock, flushes are run by test instead of EDT.
+     */
+    private static class ManualDispatcher extends SwingUpdateDispatcher {
+        long nowMillis;
+        final List<Long> delays = new ArrayList<Long>(  );
+        Runnable scheduled;
+
+        ManualDispatcher( int maxFlushesPerSecond ) {
+            super( maxFlushesPerSecond );
+        }
+
+        @Override
+        protected long nanoTime() {
+            return nowMillis * 1000000L;
+        }
+
+        @Override
+        protected void scheduleFlush( Runnable flushTask, long delayMillis ) {
+            delays.add( delayMillis );
+            scheduled = flushTask;
+        }
+
+        void runScheduled() {
+            Runnable task = scheduled;
+            scheduled = null;
+            task.run();
+        }
+    }
+
+    @Test
+    public void testMaxFlushFrequency() {
+        final AtomicInteger runs = new AtomicInteger(  );
+        Runnable task = new Runnable() {
+            public void run() {
+                runs.incrementAndGet();
+            }
+        };
+        // not more than 10 flushes per second : 100 ms between flushes
+        ManualDispatcher dispatcher = new ManualDispatcher( 10 );
+        dispatcher.nowMillis = 1000;
+        // first flush is not delayed
+        dispatcher.execute( task );
+        dispatcher.runScheduled();
+        Assert.assertEquals( 1, runs.get() );
+
+        // flush is delayed until 100 ms since previous one pass, tasks passed meanwhile are flushed together
+        dispatcher.nowMillis = 1030;
+        dispatcher.execute( task );
+        dispatcher.nowMillis = 1040;
+        dispatcher.execute( task );
+        Assert.assertEquals( 1, runs.get() );
+        dispatcher.nowMillis = 1100;
+        dispatcher.runScheduled();
+        Assert.assertEquals( 3, runs.get() );
+
+        // interval has passed, flush is not delayed
+        dispatcher.nowMillis = 1250;
+        dispatcher.execute( task );
+        dispatcher.runScheduled();
+        Assert.assertEquals( 4, runs.get() );
+        Assert.assertEquals( "[0, 70, 0]", dispatcher.delays.toString() );
+    }
+}
@@ -0,0 +1,210 @@
+import binding.Binding;
+import binding.BindingMode;
+import binding.PropertyChangedSupport;
+import binding.UpdateSourceTrigger;
+import junit.framework.Assert;
+import org.junit.Test;
+
+import javax.swing.*;
+import javax.swing.text.BadLocationException;
+import javax.swing.text.PlainDocument;
+
+/**
+ * @author igor.kostromin
+ *         01.08.13 21:40
+ */
+public class TextComponentAdapterTest {
+    public static class Source extends PropertyChangedSupport {
+        private String text;
+        private Integer length;
+        private Boolean dirty;
+        private int textWrites;
+
+        public String getText() {
+            return text;
+        }
+
+        public void setText( String text ) {
+            this.text = text;
+            textWrites++;
+            raisePropertyChange( "text" );
+        }
+
+        public Integer getLength() {
+            return length;
+        }
+
+        public void setLength( Integer length ) {
+            this.length = length;
+            raisePropertyChange( "length" );
+        }
+
+        public Boolean getDirty() {
+            return dirty;
+        }
+
+        public void setDirty( Boolean dirty ) {
+            this.dirty = dirty;
+            raisePropertyChange( "dirty" );
+        }
+    }
+
+    /**
+     * Unbinds another binding when text is set.
+     */
+    public static class UnbindingSource extends Source {
+        private final Binding other;
+
+        public UnbindingSource( Binding other ) {
+            this.other = other;
+        }
+
+        @Override
+        public void setText( String text ) {
+            super.setText( text );
+            if (other.isBound()) other.unbind();
+        }
+    }
+
+    /**
+     * Counts copies of whole text, views of component read segments of it.
+     */
+    private static class CountingDocument extends PlainDocument {
+        int reads;
+
+        @Override
+        public String getText( int offset, int length ) throws BadLocationException {
+            if (offset == 0 && length == getLength()) reads++;
+            return super.getText( offset, length );
+        }
+    }
+
+    private static void onEdt( Runnable runnable ) throws Exception {
+        SwingUtilities.invokeAndWait( runnable );
+    }
+
+    private Source source;
+    private JTextArea textArea;
+    private Binding binding;
+
+    @Test
+    public void testReplaceIsNotifiedOnce() throws Exception {
+        onEdt( new Runnable() {
+            public void run() {
+                source = new Source();
+                source.setText( "initial" );
+                textArea = new JTextArea(  );
+                binding = new Binding( textArea, "text", source, "text", BindingMode.TwoWay,
+                        UpdateSourceTrigger.PropertyChanged );
+                binding.bind();
+                Assert.assertEquals( "initial", textArea.getText() );
+                source.textWrites = 0;
+                // removal and insertion
+                textArea.setText( "replaced" );
+                Assert.assertEquals( "replaced", source.getText() );
+                Assert.assertEquals( 1, source.textWrites );
+                // paste over selection
+                textArea.selectAll();
+                textArea.replaceSelection( "pasted" );
+                Assert.assertEquals( "pasted", source.getText() );
+                Assert.assertEquals( 2, source.textWrites );
+                // removal only is notified in the end of cycle
+                textArea.replaceRange( "", 0, 3 );
+                Assert.assertEquals( 2, source.textWrites );
+            }
+        } );
+        onEdt( new Runnable() {
+            public void run() {
+                Assert.assertEquals( "ted", source.getText() );
+                Assert.assertEquals( 3, source.textWrites );
+                // value set by binding is not written back
+                source.setText( "" );
+                Assert.assertEquals( "", textArea.getText() );
+            }
+        } );
+        onEdt( new Runnable() {
+            public void run() {
+                Assert.assertEquals( 4, source.textWrites );
+                binding.unbind();
+            }
+        } );
+    }
+
+    @Test
+    public void testUnbindOtherBindingFromSourceSetter() throws Exception {
+        onEdt( new Runnable() {
+            public void run() {
+                final JTextArea area = new JTextArea(  );
+                final Source lengthSource = new Source();
+                final Binding lengthBinding = new Binding( area, "length", lengthSource, "length",
+                        BindingMode.OneWayToSource, UpdateSourceTrigger.PropertyChanged );
+                UnbindingSource textSource = new UnbindingSource( lengthBinding );
+                Binding textBinding = new Binding( area, "text", textSource, "text", BindingMode.OneWayToSource,
+                        UpdateSourceTrigger.PropertyChanged );
+                textBinding.bind();
+                lengthBinding.bind();
+                area.setText( "abc" );
+                Assert.assertEquals( "abc", textSource.getText() );
+                Assert.assertFalse( lengthBinding.isBound() );
+                Assert.assertEquals( 0, (int) lengthSource.getLength() );
+                textBinding.unbind();
+            }
+        } );
+    }
+
+    @Test
+    public void testLengthAndDirtyDoNotCopyText() throws Exception {
+        onEdt( new Runnable() {
+            public void run() {
+                Source source = new Source();
+                source.setText( "abc" );
+                source.setDirty( false );
+                CountingDocument document = new CountingDocument();
+                JEditorPane editorPane = new JEditorPane(  );
+                editorPane.setDocument( document );
+                Binding textBinding = new Binding( editorPane, "text", source, "text", BindingMode.OneWay );
+                Binding lengthBinding = new Binding( editorPane, "length", source, "length", BindingMode.OneWayToSource,
+                        UpdateSourceTrigger.PropertyChanged );
+                Binding dirtyBinding = new Binding( editorPane, "dirty", source, "dirty", BindingMode.TwoWay,
+                        UpdateSourceTrigger.PropertyChanged );
+                textBinding.bind();
+                lengthBinding.bind();
+                dirtyBinding.bind();
+                Assert.assertEquals( 3, (int) source.getLength() );
+                // text set by binding does not make document dirty
+                source.setText( "abcd" );
+                Assert.assertEquals( Boolean.FALSE, source.getDirty() );
+                Assert.assertEquals( 4, (int) source.getLength() );
+
+                document.reads = 0;
+                editorPane.replaceSelection( "e" );
+                Assert.assertEquals( 5, (int) source.getLength() );
+                Assert.assertEquals( Boolean.TRUE, source.getDirty() );
+                Assert.assertEquals( 0, document.reads );
+
+                source.setDirty( false );
+                editorPane.replaceSelection( "f" );
+                Assert.assertEquals( Boolean.TRUE, source.getDirty() );
+                textBinding.unbind();
+                lengthBinding.unbind();
+                dirtyBinding.unbind();
+            }
+        } );
+    }
+
+    @Test
+    public void testFormattedTextField() throws Exception {
+        onEdt( new Runnable() {
+            public void run() {
+                Source source = new Source();
+                JFormattedTextField textField = new JFormattedTextField(  );
+                Binding binding = new Binding( textField, "text", source, "text", BindingMode.TwoWay,
+                        UpdateSourceTrigger.PropertyChanged );
+                binding.bind();
+                textField.setText( "formatted" );
+                Assert.assertEquals( "formatted", source.getText() );
+                binding.unbind();
+            }
+        } );
+    }
+}
@@ -0,0 +1,91 @@
+import binding.PropertyChangedSupport;
+import binding.TextDocumentBinding;
+import binding.observables.ObservableText;
+import junit.framework.Assert;
+import org.junit.Test;
+
+import javax.swing.*;
+import javax.swing.text.BadLocationException;
+import javax.swing.text.PlainDocument;
+
+/**
+ * @author igor.kostromin
+ *         02.08.13 12:10
+ */
+public class TextDocumentBindingTest {
+    private static final int LINES_COUNT = 100000;
+
+    public static class Source extends PropertyChangedSupport {
+        private ObservableText log = new ObservableText(  );
+
+        public ObservableText getLog() {
+            return log;
+        }
+
+        public void setLog( ObservableText log ) {
+            this.log = log;
+            raisePropertyChange( "log" );
+        }
+    }
+
+    /**
+     * Counts copies of whole text.
+     */
+    private static class CountingDocument extends PlainDocument {
+        int reads;
+
+        @Override
+        public String getText( int offset, int length ) throws BadLocationException {
+            if (offset == 0 && length == getLength()) reads++;
+            return super.getText( offset, length );
+        }
+    }
+
+    @Test
+    public void testEditsAreSyncedBothWays() throws Exception {
+        SwingUtilities.invokeAndWait( new Runnable() {
+            public void run() {
+                Source source = new Source();
+                StringBuilder sb = new StringBuilder(  );
+                for ( int i = 0; i < LINES_COUNT; i++ ) sb.append( "line " ).append( i ).append( '\n' );
+                source.getLog().append( sb );
+                CountingDocument document = new CountingDocument();
+                JTextArea textArea = new JTextArea( document );
+                textArea.setText( "will be replaced" );
+                TextDocumentBinding binding = new TextDocumentBinding( textArea, source, "log" );
+                binding.bind();
+                Assert.assertEquals( source.getLog().length(), document.getLength() );
+                document.reads = 0;
+
+                // source to document
+                source.getLog().append( "appended\n" );
+                source.getLog().remove( 0, "line 0\n".length() );
+                source.getLog().replace( 0, 4, "LINE" );
+                // document to source
+                textArea.setCaretPosition( 0 );
+                textArea.replaceSelection( ">" );
+                textArea.replaceRange( "", 5, 10 );
+                textArea.replaceRange( "edited", 20, 25 );
+                Assert.assertEquals( textArea.getText(), source.getLog().toString() );
+                Assert.assertTrue( source.getLog().toString().startsWith( ">LINE" ) );
+                Assert.assertTrue( source.getLog().toString().endsWith( "appended\n" ) );
+                // only assertions above have copied whole text
+                Assert.assertEquals( 1, document.reads );
+
+                // source property is replaced
+                source.setLog( new ObservableText( "new" ) );
+                Assert.assertEquals( "new", textArea.getText() );
+                textArea.replaceRange( "N", 0, 1 );
+                Assert.assertEquals( "New", source.getLog().toString() );
+
+                // document is replaced
+                textArea.setDocument( new PlainDocument() );
+                Assert.assertEquals( "New", textArea.getText() );
+
+                binding.unbind();
+                textArea.setText( "unbound" );
+                Assert.assertEquals( "New", source.getLog().toString() );
+            }
+        } );
+    }
+}
@@ -0,0 +1,69 @@
+import binding.Binding;
+import binding.BindingMode;
+import binding.PropertyChangedSupport;
+import junit.framework.Assert;
+import org.junit.Test;
+
+import javax.swing.*;
+
+/**
+ * @author igor.kostromin
+ *         01.08.13 14:40
+ */
+public class ToggleButtonAdapterTest {
+    public static class Source extends PropertyChangedSupport {
+        private Boolean checked;
+        private int writes;
+
+        public Boolean getChecked() {
+            return checked;
+        }
+
+        public void setChecked( Boolean checked ) {
+            this.checked = checked;
+            writes++;
+            raisePropertyChange( "checked" );
+        }
+    }
+
+    private static void assertOnlySelectionUpdatesSource( JToggleButton button ) {
+        Source source = new Source();
+        Binding binding = new Binding( button, "checked", source, "checked", BindingMode.TwoWay );
+        binding.bind();
+        int writes = source.writes;
+        // hover and press without click
+        ButtonModel model = button.getModel();
+        model.setRollover( true );
+        model.setArmed( true );
+        model.setPressed( true );
+        model.setArmed( false );
+        model.setPressed( false );
+        model.setRollover( false );
+        Assert.assertEquals( writes, source.writes );
+
+        button.setSelected( true );
+        Assert.assertEquals( writes + 1, source.writes );
+        Assert.assertEquals( Boolean.TRUE, source.getChecked() );
+        button.setSelected( true );
+        Assert.assertEquals( writes + 1, source.writes );
+
+        source.setChecked( false );
+        Assert.assertFalse( button.isSelected() );
+        binding.unbind();
+    }
+
+    @Test
+    public void testCheckBox() {
+        assertOnlySelectionUpdatesSource( new JCheckBox(  ) );
+    }
+
+    @Test
+    public void testToggleButton() {
+        assertOnlySelectionUpdatesSource( new JToggleButton(  ) );
+    }
+
+    @Test
+    public void testRadioButton() {
+        assertOnlySelectionUpdatesSource( new JRadioButton(  ) );
+    }
+}
@@ -1,4 +1,5 @@
 import binding.*;
+import binding.adapters.JTextFieldAdapter;
 import junit.framework.Assert;
 import org.junit.Test;
 
@@ -55,4 +56,20 @@ public class UiBindingTest {
         textField.setText( "2" );
         Assert.assertTrue( source.getI() == 2 );
     }
+
+    @Test
+    public void testSettingsWithoutPlatform() {
+        BindingSettingsBase settings = new BindingSettingsBase();
+        settings.initializeDefault();
+        settings.addAdapter( new JTextFieldAdapter() );
+        Source source = new Source();
+        JTextField textField = new JTextField(  );
+        // LostFocus and Debounce triggers use Swing focus events and timers
+        Binding binding = new Binding( textField, "text", source, "i", BindingMode.TwoWay, UpdateSourceTrigger.Default, settings );
+        binding.bind();
+        binding.unbind();
+        binding = new Binding( textField, "text", source, "i", BindingMode.TwoWay, UpdateSourceTrigger.Debounce, settings );
+        binding.bind();
+        binding.unbind();
+    }
 }
@@ -1,24 +1,37 @@
 package binding;
 
 import binding.adapters.IBindingAdapter;
+import binding.adapters.IUiBindingAdapter;
 import binding.converters.ConversionResult;
 import binding.converters.IBindingConverter;
+import binding.metrics.BindingMetrics;
+import binding.metrics.BindingMetricsRegistry;
 import binding.observables.IObservableList;
 import binding.observables.IObservableListListener;
 import binding.utils.PropertyInfo;
 import binding.utils.PropertyUtils;
+import binding.utils.ThreadGuard;
+import binding.utils.TimerWheel;
 import binding.validators.IBindingValidator;
 import binding.validators.ValidationResult;
 
 import java.lang.reflect.InvocationTargetException;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Provides data sync connection between two objects - source and target. Both source and target can be just objects,
  * but if you want to bind to object that does not implement {@link INotifyPropertyChanged},
  * you should use it as target and use appropriate adapter ({@link IBindingAdapter} implementation). One Binding instance connects
- * one source property and one target property.
+ * one source property and one target property. Source property can be specified as property path like "customer.address.city",
+ * in this case every object in path implementing {@link INotifyPropertyChanged} will be observed.
+ * Target updates caused by Source property changes can be deferred and coalesced using update executor,
+ * see {@link #setUpdateExecutor(Executor)}. If Source property is changed on thread Target does not belong to
+ * (see {@link BindingSettingsBase#setThreadAffinity(ThreadAffinity)}), Target update is posted to Target thread
+ * without blocking the caller. {@link #bind()}, {@link #unbind()}, {@link #setSource(INotifyPropertyChanged)}
+ * and explicit updates should be called on Target thread.
  *
  * @author igor.kostromin
  *         26.06.13 15:57
@@ -29,7 +42,8 @@ public class BindingBase {
     private String targetProperty;
     protected INotifyPropertyChanged source;
     private String sourceProperty;
-    private boolean bound;
+    // read by update tasks posted to target thread
+    private volatile boolean bound;
     private BindingMode mode;
     protected BindingMode realMode;
     private BindingSettingsBase settings;
@@ -38,18 +52,30 @@ public class BindingBase {
     protected IBindingAdapter adapter;
     private PropertyInfo targetPropertyInfo;
     private PropertyInfo sourcePropertyInfo;
+    // accessors chain if source property is a path like "customer.address.city", null otherwise
+    private PropertyInfo[] sourcePath;
+    // used instead of subscribing sourceListener directly if source property is a path
+    private PropertyPathObserver sourcePathObserver;
+    // if set, source and source list hold listeners through weak references
+    private boolean weakListeners;
+    private WeakListeners.Registration sourceRegistration;
+    private WeakListeners.Registration sourceListRegistration;
 
     // converts target to source and back
     private IBindingConverter converter;
 
+    // snapshot of the metadata above, reused if binding will be bound again to objects of the same classes
+    private ResolvedBinding resolved;
+
     protected IPropertyChangedListener sourceListener;
     protected IPropertyChangedListener targetListener;
     // used instead targetListener if target does not implement INotifyPropertyChanged
     protected Object targetListenerWrapper;
 
-    // flags used to avoid infinite recursive loop
-    private boolean ignoreSourceListener;
-    protected boolean ignoreTargetListener;
+    // threads currently writing to source or target : changes made by them are not propagated back
+    // to avoid infinite recursive loop, while changes made concurrently by other threads are not lost
+    private final ThreadGuard sourceUpdating = new ThreadGuard();
+    private final ThreadGuard targetUpdating = new ThreadGuard();
 
     private IBindingResultListener resultListener;
     private IBindingValidator validator;
@@ -64,6 +90,37 @@ public class BindingBase {
 
     private boolean updateSourceIfBindingFails = true;
 
+    // metrics of source class and property, null if metrics are disabled in settings
+    private BindingMetrics metrics;
+
+    public static final int DEFAULT_UPDATE_SOURCE_DELAY = 300;
+
+    // when UI target changes are propagated to source, set by platform bindings
+    protected UpdateSourceTrigger updateSourceTrigger = UpdateSourceTrigger.Default;
+    // delay for Debounce and Throttle triggers
+    private int updateSourceDelay = DEFAULT_UPDATE_SOURCE_DELAY;
+    // used if settings are null or carry UiPlatform.NONE, set by platform bindings
+    protected UiPlatform defaultUiPlatform = UiPlatform.NONE;
+    // observes target according to resolved trigger, created in bind() if target is observed
+    private TargetObserver targetObserver;
+
+    // if set, source changes only mark binding as dirty, and target is updated by task passed to this executor
+    private Executor updateExecutor;
+    // thread target belongs to, source changes made on other threads are posted to it
+    private ThreadAffinity threadAffinity = ThreadAffinity.DIRECT;
+    private final AtomicBoolean targetUpdatePending = new AtomicBoolean(  );
+    private final Runnable targetUpdateTask = new Runnable() {
+        public void run() {
+            // update executor can run the task on thread target does not belong to
+            if (!threadAffinity.isTargetThread()) {
+                threadAffinity.post( this );
+                return;
+            }
+            targetUpdatePending.set( false );
+            if (bound) updateTarget();
+        }
+    };
+
     /**
      * If target value conversion or validation fails, the source property will be set to null
      * if this flag is set to true. Otherwise the source property setter won't be called.
@@ -81,6 +138,56 @@ public class BindingBase {
         this.updateSourceIfBindingFails = updateSourceIfBindingFails;
     }
 
+    /**
+     * Returns name of Target property.
+     */
+    public String getTargetProperty() {
+        return targetProperty;
+    }
+
+    /**
+     * Returns trigger determining when UI target changes are propagated to Source.
+     */
+    public UpdateSourceTrigger getUpdateSourceTrigger() {
+        return updateSourceTrigger;
+    }
+
+    /**
+     * Returns delay in milliseconds used in {@link UpdateSourceTrigger#Debounce} and {@link UpdateSourceTrigger#Throttle} modes.
+     */
+    public int getUpdateSourceDelay() {
+        return updateSourceDelay;
+    }
+
+    /**
+     * Sets delay in milliseconds used in {@link UpdateSourceTrigger#Debounce} and {@link UpdateSourceTrigger#Throttle} modes.
+     * Default value is {@link #DEFAULT_UPDATE_SOURCE_DELAY}.
+     */
+    public void setUpdateSourceDelay( int updateSourceDelay ) {
+        if (updateSourceDelay < 0) throw new IllegalArgumentException( "updateSourceDelay is negative" );
+        this.updateSourceDelay = updateSourceDelay;
+    }
+
+    /**
+     * Returns executor used to defer target updates or null if target is updated synchronously.
+     */
+    public Executor getUpdateExecutor() {
+        return updateExecutor;
+    }
+
+    /**
+     * Sets executor used to defer target updates. When Source property changes, binding is only marked
+     * as dirty and update task is passed to executor (once until it runs). The task reads the latest
+     * Source value, so many changes made before executor runs the task produce one target write.
+     * For example, executor posting tasks to UI thread bounds target updates by UI dispatch rate instead of
+     * Source change rate. Initial flush in {@link #bind()} and explicit {@link #updateTarget()} calls are not deferred.
+     * Pass null to update target synchronously. Default value is taken from
+     * {@link BindingSettingsBase#getUpdateExecutor()}.
+     */
+    public void setUpdateExecutor( Executor updateExecutor ) {
+        this.updateExecutor = updateExecutor;
+    }
+
     /**
      * Returns binding result listener.
      */
@@ -132,13 +239,58 @@ public class BindingBase {
         this.mode = mode;
         this.bound = false;
         this.settings = settings;
+        this.updateExecutor = null == settings ? null : settings.getUpdateExecutor();
     }
 
     public class SourceChangeListener implements IPropertyChangedListener {
         public void propertyChanged( String propertyName ) {
-            if (!ignoreSourceListener && propertyName.equals( sourceProperty ))
-                updateTarget();
+            if (!sourceUpdating.isEntered() && propertyName.equals( sourceProperty )) {
+                if (null == updateExecutor && threadAffinity.isTargetThread())
+                    updateTarget();
+                else
+                    scheduleUpdateTarget();
+            }
+        }
+    }
+
+    /**
+     * Schedules target update using update executor or posts it to target thread. Does nothing
+     * if update is already scheduled : the task reads the latest source value when it runs.
+     */
+    private void scheduleUpdateTarget() {
+        if (!targetUpdatePending.compareAndSet( false, true )) {
+            if (null != metrics) metrics.updateSkipped();
+            return;
         }
+        if (null != updateExecutor)
+            updateExecutor.execute( targetUpdateTask );
+        else
+            threadAffinity.post( targetUpdateTask );
+    }
+
+    /**
+     * Returns true if target property change is made by this binding on current thread
+     * and should not be propagated back to source.
+     */
+    protected boolean isTargetListenerIgnored() {
+        return targetUpdating.isEntered();
+    }
+
+    /**
+     * Returns metrics this binding records into, or null if metrics are disabled.
+     * See {@link BindingSettingsBase#setMetricsRegistry(BindingMetricsRegistry)}.
+     */
+    public BindingMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Records latency of stage started at given time and returns current time. Called only if metrics are enabled.
+     */
+    private long lap( BindingMetrics.Stage stage, long started ) {
+        long now = System.nanoTime();
+        metrics.record( stage, now - started );
+        return now;
     }
 
     /**
@@ -147,9 +299,12 @@ public class BindingBase {
     public void updateTarget() {
         if (realMode != BindingMode.OneTime && realMode != BindingMode.OneWay && realMode != BindingMode.TwoWay)
             throw new RuntimeException( String.format( "Cannot update target in %s binding mode.", realMode ) );
-        ignoreTargetListener = true;
+        boolean entered = targetUpdating.enter();
+        long started = null == metrics ? 0 : System.nanoTime();
         try {
-            Object sourceValue = sourcePropertyInfo.getter.invoke( source );
+            Object sourceOwner = getSourcePropertyOwner();
+            Object sourceValue = null == sourceOwner ? null : sourcePropertyInfo.getter.invoke( sourceOwner );
+            if (null != metrics) started = lap( BindingMetrics.Stage.Getter, started );
             if ( sourceIsObservable ) { // work with observable list
                 // we should take target list and initialize it using source items
                 final List targetList;
@@ -166,24 +321,31 @@ public class BindingBase {
                         targetList.addAll((List) sourceValue);
 
                         // subscribe to source list
-                        if (sourceList != null ) {
-                            sourceListListener.ban = true;
-                            sourceList.removeObservableListListener(sourceListListener);
-                            sourceList = null;
-                        }
+                        disconnectSourceList();
                         sourceList = (IObservableList) sourceValue;
                         sourceListListener = new SourceListListener(targetList);
-                        sourceList.addObservableListListener(sourceListListener);
+                        if (weakListeners)
+                            sourceListRegistration = WeakListeners.addObservableListListener( sourceList, sourceListListener );
+                        else
+                            sourceList.addObservableListListener(sourceListListener);
                     } else {
                         // todo : debug : target list is null, ignoring sync operation
+                        if (null != metrics) metrics.updateSkipped();
+                        return;
                     }
                 }
+                if (null != metrics) {
+                    lap( BindingMetrics.Stage.Setter, started );
+                    metrics.targetUpdated();
+                }
             } else { // work with usual property
                 Object converted = sourceValue;
                 // convert back if need
                 if (null != converter) {
                     ConversionResult result = converter.convertBack( sourceValue );
+                    if (null != metrics) started = lap( BindingMetrics.Stage.Converter, started );
                     if (!result.success) {
+                        if (null != metrics) metrics.conversionFailed();
                         return;
                     }
                     converted = result.value;
@@ -193,13 +355,17 @@ public class BindingBase {
                     targetPropertyInfo.setter.invoke( target, converted);
                 else
                     adapter.setValue( target, targetProperty, converted );
+                if (null != metrics) {
+                    lap( BindingMetrics.Stage.Setter, started );
+                    metrics.targetUpdated();
+                }
             }
         } catch ( IllegalAccessException e ) {
             throw new RuntimeException( e );
         } catch (InvocationTargetException e) {
             throw new RuntimeException( e );
         } finally {
-            ignoreTargetListener = false;
+            if (entered) targetUpdating.exit();
         }
     }
 
@@ -216,34 +382,34 @@ public class BindingBase {
         @Override
         public void listElementsAdded(IObservableList list, int index, int length) {
             if (ban) return;
-            ignoreSourceListener = true;
+            boolean entered = sourceUpdating.enter();
             try {
-                for (int i = index; i < list.size(); i++) sourceList.add(list.get(i));
+                sourceList.addAll(index, list.subList(index, index + length));
             } finally {
-                ignoreSourceListener = false;
+                if (entered) sourceUpdating.exit();
             }
         }
 
         @Override
         public void listElementsRemoved(IObservableList list, int index, List oldElements) {
             if (ban) return;
-            ignoreSourceListener = true;
+            boolean entered = sourceUpdating.enter();
             try {
-                for (Object item : oldElements)
-                    sourceList.remove(item);
+                // single notification if source list is ObservableList
+                sourceList.subList(index, index + oldElements.size()).clear();
             } finally {
-                ignoreSourceListener = false;
+                if (entered) sourceUpdating.exit();
             }
         }
 
         @Override
         public void listElementReplaced(IObservableList list, int index, Object oldElement) {
             if (ban) return;
-            ignoreSourceListener = true;
+            boolean entered = sourceUpdating.enter();
             try {
                 sourceList.set(index, list.get(index));
             } finally {
-                ignoreSourceListener = false;
+                if (entered) sourceUpdating.exit();
             }
         }
     }
@@ -261,34 +427,49 @@ public class BindingBase {
         @Override
         public void listElementsAdded(IObservableList list, int index, int length) {
             if (ban) return;
-            ignoreTargetListener = true;
+            if (!threadAffinity.isTargetThread()) {
+                // target list will be refilled with source list items on target thread
+                scheduleUpdateTarget();
+                return;
+            }
+            boolean entered = targetUpdating.enter();
             try {
-                for (int i = index; i < list.size(); i++) targetList.add(list.get(i));
+                targetList.addAll(index, list.subList(index, index + length));
             } finally {
-                ignoreTargetListener = false;
+                if (entered) targetUpdating.exit();
             }
         }
 
         @Override
         public void listElementsRemoved(IObservableList list, int index, List oldElements) {
             if (ban) return;
-            ignoreTargetListener = true;
+            if (!threadAffinity.isTargetThread()) {
+                // target list will be refilled with source list items on target thread
+                scheduleUpdateTarget();
+                return;
+            }
+            boolean entered = targetUpdating.enter();
             try {
-                for (Object item : oldElements)
-                    targetList.remove(item);
+                // single notification if target list is ObservableList
+                targetList.subList(index, index + oldElements.size()).clear();
             } finally {
-                ignoreTargetListener = false;
+                if (entered) targetUpdating.exit();
             }
         }
 
         @Override
         public void listElementReplaced(IObservableList list, int index, Object oldElement) {
             if (ban) return;
-            ignoreTargetListener = true;
+            if (!threadAffinity.isTargetThread()) {
+                // target list will be refilled with source list items on target thread
+                scheduleUpdateTarget();
+                return;
+            }
+            boolean entered = targetUpdating.enter();
             try {
                 targetList.set(index, list.get(index));
             } finally {
-                ignoreTargetListener = false;
+                if (entered) targetUpdating.exit();
             }
         }
     }
@@ -299,16 +480,19 @@ public class BindingBase {
     public void updateSource() {
         if (realMode != BindingMode.OneWayToSource && realMode != BindingMode.TwoWay)
             throw new RuntimeException( String.format( "Cannot update source in %s binding mode.", realMode ) );
-        ignoreSourceListener = true;
+        boolean entered = sourceUpdating.enter();
+        long started = null == metrics ? 0 : System.nanoTime();
         try {
             Object targetValue;
             if (null == adapter)
                 targetValue = targetPropertyInfo.getter.invoke( target );
             else
                 targetValue = adapter.getValue( target, targetProperty );
+            if (null != metrics) started = lap( BindingMetrics.Stage.Getter, started );
             //
+            Object sourceOwner = getSourcePropertyOwner();
             if ( targetIsObservable ) { // work with collection
-                final List sourceList = (List) sourcePropertyInfo.getter.invoke(source);
+                final List sourceList = null == sourceOwner ? null : (List) sourcePropertyInfo.getter.invoke(sourceOwner);
                 if (targetValue == null) {
                     if (null != sourceList) sourceList.clear();
                 } else {
@@ -316,29 +500,33 @@ public class BindingBase {
                         sourceList.clear();
                         sourceList.addAll((Collection) targetValue);
 
-                        // subscribe to source list
-                        if (targetList != null ) {
-                            sourceListListener.ban = true;
-                            targetList.removeObservableListListener(sourceListListener);
-                            targetList = null;
-                        }
+                        // subscribe to target list
+                        disconnectTargetList();
                         targetList = (IObservableList) targetValue;
                         targetListListener = new TargetListListener(sourceList);
                         targetList.addObservableListListener(targetListListener);
                     } else {
                         // todo : debug : source list is null, ignoring sync operation
+                        if (null != metrics) metrics.updateSkipped();
+                        return;
                     }
                 }
+                if (null != metrics) {
+                    lap( BindingMetrics.Stage.Setter, started );
+                    metrics.sourceUpdated();
+                }
             } else { // work with usual property
                 Object convertedValue = targetValue;
                 // convert if need
                 if (null != converter) {
                     ConversionResult result = converter.convert( targetValue );
+                    if (null != metrics) started = lap( BindingMetrics.Stage.Converter, started );
                     if (!result.success) {
+                        if (null != metrics) metrics.conversionFailed();
                         if (null != resultListener)
                             resultListener.onBinding( new BindingResult( true, false, result.failReason ) );
-                        if ( updateSourceIfBindingFails ) {
-                            sourcePropertyInfo.setter.invoke( source, (Object) null);
+                        if ( updateSourceIfBindingFails && null != sourceOwner ) {
+                            sourcePropertyInfo.setter.invoke( sourceOwner, (Object) null);
                         }
                         return;
                     }
@@ -347,16 +535,30 @@ public class BindingBase {
                 // validate if need
                 if (null != validator) {
                     ValidationResult validationResult = validator.validate( convertedValue );
+                    if (null != metrics) started = lap( BindingMetrics.Stage.Validator, started );
                     if (!validationResult.valid) {
+                        if (null != metrics) metrics.validationFailed();
                         if (null != resultListener)
                             resultListener.onBinding( new BindingResult( false, true, validationResult.message ) );
-                        if ( updateSourceIfBindingFails ) {
-                            sourcePropertyInfo.setter.invoke( source, (Object) null);
+                        if ( updateSourceIfBindingFails && null != sourceOwner ) {
+                            sourcePropertyInfo.setter.invoke( sourceOwner, (Object) null);
                         }
                         return;
                     }
                 }
-                sourcePropertyInfo.setter.invoke( source, convertedValue );
+                // if some intermediate object in source property path is null, there is nothing to update
+                if (null == sourceOwner) {
+                    if (null != metrics) metrics.updateSkipped();
+                    if (null != resultListener)
+                        resultListener.onBinding( new BindingResult( true,
+                                String.format( "Source property path '%s' has null element, value is not set", sourceProperty ) ) );
+                    return;
+                }
+                sourcePropertyInfo.setter.invoke( sourceOwner, convertedValue );
+                if (null != metrics) {
+                    lap( BindingMetrics.Stage.Setter, started );
+                    metrics.sourceUpdated();
+                }
                 if (null != resultListener)
                     resultListener.onBinding( new BindingResult( false ) );
                 //
@@ -366,32 +568,232 @@ public class BindingBase {
         } catch (InvocationTargetException e) {
             throw new RuntimeException( e );
         } finally {
-            ignoreSourceListener =false;
+            if (entered) sourceUpdating.exit();
         }
     }
 
     public class TargetChangeListener implements IPropertyChangedListener {
         public void propertyChanged( String propertyName ) {
-            if (!ignoreTargetListener && propertyName.equals( targetProperty ))
+            if (!isTargetListenerIgnored() && propertyName.equals( targetProperty ))
                 updateSource();
         }
     }
 
-//    private UpdateSourceTrigger getRealUpdateSourceTrigger() {
-//        assert targetIsUi;
-//        if (updateSourceTrigger != UpdateSourceTrigger.Default)
-//            return updateSourceTrigger;
-//        else {
-//            UpdateSourceTrigger real = ((IUiBindingAdapter) adapter).getDefaultUpdateSourceTrigger();
-//            if (real == UpdateSourceTrigger.Default) throw new AssertionError("Adapter cannot return UpdateSourceTrigger.Default");
-//            return real;
-//        }
-//    }
+    private UpdateSourceTrigger getRealUpdateSourceTrigger() {
+        if (!targetIsUi || !(adapter instanceof IUiBindingAdapter))
+            return UpdateSourceTrigger.PropertyChanged;
+        if (updateSourceTrigger != UpdateSourceTrigger.Default)
+            return updateSourceTrigger;
+        UpdateSourceTrigger real = ((IUiBindingAdapter) adapter).getDefaultUpdateSourceTrigger();
+        if (real == UpdateSourceTrigger.Default) throw new AssertionError("Adapter cannot return UpdateSourceTrigger.Default");
+        return real;
+    }
+
+    /**
+     * Creates strategy observing target for resolved trigger. Platform hooks are taken from settings,
+     * or platform binding defaults are used if settings have no platform.
+     */
+    private TargetObserver createTargetObserver() {
+        UiPlatform platform = null == settings ? UiPlatform.NONE : settings.getUiPlatform();
+        if (platform == UiPlatform.NONE) platform = defaultUiPlatform;
+        switch ( getRealUpdateSourceTrigger() ) {
+            case Explicit:
+                return new TargetObserver();
+            case LostFocus:
+                return new LostFocusTargetObserver( platform );
+            case Debounce:
+                return new DelayedTargetObserver( platform.getTimerWheel(), true );
+            case Throttle:
+                return new DelayedTargetObserver( platform.getTimerWheel(), false );
+            default:
+                return new PropertyChangedTargetObserver();
+        }
+    }
+
+    /**
+     * Subscribes to target to update Source according to {@link UpdateSourceTrigger}. Base class
+     * does not subscribe, so Source is updated only explicitly.
+     */
+    private class TargetObserver {
+        void connect() {
+        }
+
+        void disconnect() {
+        }
+    }
+
+    private class PropertyChangedTargetObserver extends TargetObserver {
+        @Override
+        void connect() {
+            if (null == adapter) {
+                targetListener = new TargetChangeListener();
+                ((INotifyPropertyChanged) target).addPropertyChangedListener( targetListener );
+            } else {
+                targetListenerWrapper = adapter.addPropertyChangedListener( target, new TargetChangeListener() );
+            }
+        }
+
+        @Override
+        void disconnect() {
+            if (null == adapter) {
+                ((INotifyPropertyChanged) target).removePropertyChangedListener( targetListener );
+                targetListener = null;
+            } else {
+                adapter.removePropertyChangedListener( target, targetListenerWrapper );
+                targetListenerWrapper = null;
+            }
+        }
+    }
+
+    private class LostFocusTargetObserver extends TargetObserver implements Runnable {
+        private final UiPlatform platform;
+        private Object registration;
+
+        private LostFocusTargetObserver( UiPlatform platform ) {
+            this.platform = platform;
+        }
+
+        @Override
+        void connect() {
+            registration = platform.addLostFocusListener( target, this );
+        }
+
+        @Override
+        void disconnect() {
+            platform.removeLostFocusListener( target, registration );
+            registration = null;
+        }
+
+        public void run() {
+            if (!isTargetListenerIgnored())
+                updateSource();
+        }
+    }
+
+    /**
+     * Observes target for Debounce and Throttle triggers, timeouts are scheduled in platform timer wheel.
+     */
+    private class DelayedTargetObserver extends TargetObserver implements IPropertyChangedListener {
+        private final TimerWheel wheel;
+        private final boolean debounce;
+        private long lastSourceUpdateMillis;
+        private final TimerWheel.Timeout timeout = new TimerWheel.Timeout( new Runnable() {
+            public void run() {
+                if (!isBound()) return;
+                lastSourceUpdateMillis = currentTimeMillis();
+                updateSource();
+            }
+        } );
+
+        private DelayedTargetObserver( TimerWheel wheel, boolean debounce ) {
+            this.wheel = wheel;
+            this.debounce = debounce;
+        }
+
+        @Override
+        void connect() {
+            lastSourceUpdateMillis = currentTimeMillis() - updateSourceDelay;
+            targetListenerWrapper = adapter.addPropertyChangedListener( target, this );
+        }
+
+        @Override
+        void disconnect() {
+            wheel.cancel( timeout );
+            adapter.removePropertyChangedListener( target, targetListenerWrapper );
+            targetListenerWrapper = null;
+        }
+
+        public void propertyChanged( String propertyName ) {
+            if (isTargetListenerIgnored() || !propertyName.equals( targetProperty )) return;
+            if (debounce) {
+                // each change postpones the update
+                wheel.schedule( timeout, updateSourceDelay );
+            } else {
+                // trailing update is already scheduled, it will read the latest value
+                if (timeout.isScheduled()) return;
+                long elapsed = currentTimeMillis() - lastSourceUpdateMillis;
+                if (elapsed >= updateSourceDelay) {
+                    lastSourceUpdateMillis = currentTimeMillis();
+                    updateSource();
+                } else {
+                    wheel.schedule( timeout, updateSourceDelay - elapsed );
+                }
+            }
+        }
+    }
+
+    private static long currentTimeMillis() {
+        return System.nanoTime() / 1000000;
+    }
 
     /**
      * Connects Source and Target objects.
      */
     public void bind() {
+        // metadata resolved for objects of the same classes can be reused as is
+        if (null == resolved || !isResolvedFor( resolved, source ))
+            resolved = resolve();
+        bind( resolved );
+    }
+
+    /**
+     * Connects Source and Target objects using metadata resolved before. Use this method
+     * to avoid resolving the same metadata again and again for many bindings created with the same properties,
+     * mode and settings. Resolved metadata can be obtained from bound binding using {@link #getResolvedBinding()}.
+     * @param resolved Metadata resolved for classes of current Source and Target objects
+     */
+    public void bind( ResolvedBinding resolved ) {
+        if (null == resolved) throw new IllegalArgumentException( "resolved is null" );
+        if (!isResolvedFor( resolved, source ))
+            throw new IllegalArgumentException( "resolved binding does not match Source, Target, mode or settings" );
+        this.resolved = resolved;
+        this.realMode = resolved.realMode;
+        this.adapter = resolved.adapter;
+        this.sourcePropertyInfo = resolved.sourcePropertyInfo;
+        this.sourcePath = resolved.sourcePath;
+        this.targetPropertyInfo = resolved.targetPropertyInfo;
+        this.converter = resolved.converter;
+        this.sourceIsObservable = resolved.sourceIsObservable;
+        this.targetIsObservable = resolved.targetIsObservable;
+        this.threadAffinity = null == settings ? ThreadAffinity.DIRECT : settings.getThreadAffinity();
+        this.weakListeners = null != settings && settings.isWeakListeners();
+        BindingMetricsRegistry metricsRegistry = null == settings ? null : settings.getMetricsRegistry();
+        this.metrics = null == metricsRegistry ? null : metricsRegistry.getMetrics( source.getClass(), sourceProperty );
+        // strategy is resolved once here, connect and disconnect just delegate to it
+        this.targetObserver = realMode == BindingMode.OneWayToSource || realMode == BindingMode.TwoWay
+                ? createTargetObserver() : null;
+
+        // subscribe to listeners
+        connectSourceAndTarget();
+
+        // initial flush values
+        if ( realMode == BindingMode.OneTime || realMode == BindingMode.OneWay || realMode == BindingMode.TwoWay)
+            updateTarget();
+        if (realMode == BindingMode.OneWayToSource || realMode == BindingMode.TwoWay)
+            updateSource();
+
+        this.bound = true;
+    }
+
+    /**
+     * Returns metadata resolved in last {@link #bind()} call or null if binding has never been bound.
+     */
+    public ResolvedBinding getResolvedBinding() {
+        return resolved;
+    }
+
+    private boolean isResolvedFor( ResolvedBinding resolved, Object source ) {
+        return resolved.isResolvedFor( source, sourceProperty, target, targetProperty, mode, settings, targetIsUi );
+    }
+
+    /**
+     * Resolves binding mode, adapter, properties info and converter for current Source and Target classes.
+     */
+    private ResolvedBinding resolve() {
+        adapter = null;
+        converter = null;
+        targetPropertyInfo = null;
+
         // resolve binding mode and search converter if need
         if (targetIsUi) {
             adapter = settings.getAdapterFor(target.getClass());
@@ -412,7 +814,13 @@ public class BindingBase {
         }
 
         // get properties info and check if they are collections
-        sourcePropertyInfo = PropertyUtils.getProperty( source.getClass(), sourceProperty );
+        if (PropertyUtils.isPropertyPath( sourceProperty )) {
+            sourcePath = PropertyUtils.getPropertyPath( source.getClass(), sourceProperty );
+            sourcePropertyInfo = sourcePath[sourcePath.length - 1];
+        } else {
+            sourcePath = null;
+            sourcePropertyInfo = PropertyUtils.getProperty( source.getClass(), sourceProperty );
+        }
         if (null == adapter)
             targetPropertyInfo = PropertyUtils.getProperty( target.getClass(), targetProperty );
 
@@ -421,8 +829,9 @@ public class BindingBase {
         sourceIsObservable = IObservableList.class.isAssignableFrom( sourcePropertyInfo.clazz );
         targetIsObservable = IObservableList.class.isAssignableFrom( targetPropertyClass );
 
-        // we need converter if data will flow from non-observable property to property of another class
-        if (!targetPropertyClass.equals( sourcePropertyInfo.clazz )) {
+        // we need converter if data will flow from non-observable property to property of another class,
+        // target property of class Object accepts values of any class and returns them as is
+        if (!targetPropertyClass.equals( sourcePropertyInfo.clazz ) && targetPropertyClass != Object.class) {
             boolean needConverter = false;
             if (realMode == BindingMode.OneTime || realMode == BindingMode.OneWay || realMode == BindingMode.TwoWay)
                 needConverter |= !sourceIsObservable;
@@ -459,46 +868,60 @@ public class BindingBase {
             }
         }
 
-        // subscribe to listeners
-        connectSourceAndTarget();
+        return new ResolvedBinding( source.getClass(), sourceProperty, target.getClass(), targetProperty,
+                mode, settings, targetIsUi, realMode, adapter, sourcePropertyInfo, sourcePath, targetPropertyInfo, converter,
+                sourceIsObservable, targetIsObservable );
+    }
 
-        // initial flush values
-        if ( realMode == BindingMode.OneTime || realMode == BindingMode.OneWay || realMode == BindingMode.TwoWay)
-            updateTarget();
-        if (realMode == BindingMode.OneWayToSource || realMode == BindingMode.TwoWay)
-            updateSource();
+    /**
+     * Subscribes sourceListener to Source property changes. If source property is a path,
+     * every object in path will be observed.
+     */
+    protected void connectSource() {
+        sourceListener = new SourceChangeListener();
+        if (null == sourcePath) {
+            if (weakListeners)
+                sourceRegistration = WeakListeners.addPropertyChangedListener( source, sourceListener );
+            else
+                source.addPropertyChangedListener( sourceListener );
+        } else {
+            sourcePathObserver = new PropertyPathObserver( sourcePath, sourceProperty, sourceListener );
+            sourcePathObserver.setWeakListeners( weakListeners );
+            sourcePathObserver.attach( source );
+        }
+    }
 
-        this.bound = true;
+    /**
+     * Unsubscribes sourceListener subscribed in {@link #connectSource()}.
+     */
+    protected void disconnectSource() {
+        if (null != sourceRegistration) {
+            sourceRegistration.unsubscribe();
+            sourceRegistration = null;
+        } else if (null == sourcePathObserver) {
+            source.removePropertyChangedListener( sourceListener );
+        } else {
+            sourcePathObserver.detach();
+            sourcePathObserver = null;
+        }
+        sourceListener = null;
+    }
+
+    /**
+     * Returns object owning source property : Source itself or last object in source property path
+     * (null if some intermediate property in path is null).
+     */
+    private Object getSourcePropertyOwner() {
+        if (null == sourcePath) return source;
+        if (null != sourcePathObserver) return sourcePathObserver.getLeafOwner();
+        return PropertyPathObserver.getLeafOwner( sourcePath, source );
     }
 
     protected void connectSourceAndTarget() {
-        switch ( realMode ) {
-            case OneTime:
-                break;
-            case OneWay:
-                sourceListener = new SourceChangeListener();
-                source.addPropertyChangedListener( sourceListener );
-                break;
-            case OneWayToSource:
-                if (null == adapter) {
-                    targetListener = new TargetChangeListener();
-                    ((INotifyPropertyChanged) target).addPropertyChangedListener( targetListener );
-                } else {
-                    targetListenerWrapper = adapter.addPropertyChangedListener( target, new TargetChangeListener() );
-                }
-                break;
-            case TwoWay:
-                sourceListener = new SourceChangeListener();
-                source.addPropertyChangedListener( sourceListener );
-                //
-                if (null == adapter) {
-                    targetListener = new TargetChangeListener();
-                    ((INotifyPropertyChanged) target).addPropertyChangedListener( targetListener );
-                } else {
-                    targetListenerWrapper = adapter.addPropertyChangedListener( target, new TargetChangeListener() );
-                }
-                break;
-        }
+        if (realMode == BindingMode.OneWay || realMode == BindingMode.TwoWay)
+            connectSource();
+        if (null != targetObserver)
+            targetObserver.connect();
     }
 
     /**
@@ -509,58 +932,109 @@ public class BindingBase {
 
         disconnectSourceAndTarget();
 
-        this.sourcePropertyInfo = null;
-        this.targetPropertyInfo = null;
-
-        this.adapter = null;
-        this.converter = null;
-
+        // resolved properties info, adapter and converter are kept to be reused
+        // if binding will be bound again to objects of the same classes
         this.bound = false;
     }
 
     protected void disconnectSourceAndTarget() {
         if (realMode == BindingMode.OneWay || realMode == BindingMode.TwoWay) {
             // remove source listener
-            source.removePropertyChangedListener( sourceListener );
-            this.sourceListener = null;
+            disconnectSource();
         }
-        if (realMode == BindingMode.OneWayToSource || realMode == BindingMode.TwoWay) {
+        if (null != targetObserver) {
             // remove target listener
-            if (adapter == null) {
-                ((INotifyPropertyChanged) target ).removePropertyChangedListener( targetListener );
-                targetListener = null;
-            } else {
-                adapter.removePropertyChangedListener( target, targetListenerWrapper );
-                targetListenerWrapper = null;
-            }
+            targetObserver.disconnect();
         }
 
+        disconnectSourceList();
+        disconnectTargetList();
+    }
+
+    /**
+     * Unsubscribes from Source list synchronized with Target list.
+     */
+    protected void disconnectSourceList() {
         if (sourceList != null) {
-            sourceList.removeObservableListListener(sourceListListener);
+            // to avoid side effects if listener is being called now
+            sourceListListener.ban = true;
+            if (null != sourceListRegistration) {
+                sourceListRegistration.unsubscribe();
+                sourceListRegistration = null;
+            } else {
+                sourceList.removeObservableListListener( sourceListListener );
+            }
             sourceList = null;
         }
+    }
+
+    /**
+     * Unsubscribes from Target list synchronized with Source list.
+     */
+    protected void disconnectTargetList() {
         if (targetList != null) {
-            targetList.removeObservableListListener(targetListListener);
+            targetListListener.ban = true;
+            targetList.removeObservableListListener( targetListListener );
             targetList = null;
         }
     }
 
     /**
-     * Changes the binding Source object. If current binding state is bound,
+     * Returns true if binding is bound.
+     */
+    public boolean isBound() {
+        return bound;
+    }
+
+    /**
+     * Changes the binding Source object. If current binding state is bound and new Source has
+     * the same class, binding is retargeted to new Source keeping all resolved metadata and listeners,
+     * and the value is flushed once : to Target (in OneTime, OneWay and TwoWay modes) or
+     * to Source (in OneWayToSource mode). If new Source has another class,
      * the {@link #unbind()} and {@link #bind()} methods will be called automatically.
      * @param source New Source object
      */
     public void setSource(INotifyPropertyChanged source) {
         if (null == source) throw new IllegalArgumentException( "source is null" );
         if (bound) {
-            unbind();
-            this.source = source;
-            bind();
+            if (isResolvedFor( resolved, source )) {
+                retargetSource( source );
+            } else {
+                unbind();
+                this.source = source;
+                bind();
+            }
         } else {
             this.source = source;
         }
     }
 
+    private void retargetSource( INotifyPropertyChanged source ) {
+        // move the same listener instance to new Source
+        if (null != sourcePathObserver) {
+            sourcePathObserver.attach( source );
+        } else if (null != sourceRegistration) {
+            sourceRegistration.unsubscribe();
+            sourceRegistration = WeakListeners.addPropertyChangedListener( source, sourceListener );
+        } else if (null != sourceListener) {
+            this.source.removePropertyChangedListener( sourceListener );
+            source.addPropertyChangedListener( sourceListener );
+        }
+        // lists of old Source should not be synchronized anymore
+        disconnectSourceList();
+        disconnectTargetList();
+        this.source = source;
+
+        if (realMode == BindingMode.OneWayToSource) {
+            updateSource();
+        } else {
+            updateTarget();
+            // target list listener should be subscribed to list of new Source
+            if (realMode == BindingMode.TwoWay && targetIsObservable)
+                updateSource();
+        }
+    }
+
     /**
      * Changes the binding Target object. If current binding state is bound,
      * the {@link #unbind()} and {@link #bind()} methods will be called automatically.
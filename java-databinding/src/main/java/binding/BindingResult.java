@@ -5,6 +5,8 @@ package binding;
  * If hasConversionError is true, message will represent conversion error message.
  * If hasValidationError is true, message will represent validation error message.
  * Both hasConversionError and hasValidationError cannot be set to true.
+ * If hasError is true but both flags are false, Source was not updated because some object
+ * in source property path is null, message describes it.
  *
  * User: igor.kostromin
  * Date: 26.06.13
@@ -20,6 +22,11 @@ public class BindingResult {
         this.hasError = hasError;
     }
 
+    public BindingResult( boolean hasError, String message ) {
+        this.hasError = hasError;
+        this.message = message;
+    }
+
     public BindingResult( boolean hasConversionError, boolean hasValidationError, String message ) {
         this.hasConversionError = hasConversionError;
         this.hasValidationError = hasValidationError;
@@ -4,8 +4,10 @@ import binding.adapters.*;
 import binding.converters.ConversionResult;
 import binding.converters.IBindingConverter;
 import binding.converters.StringToIntegerConverter;
+import binding.metrics.BindingMetricsRegistry;
 
 import java.util.HashMap;
+import java.util.concurrent.Executor;
 
 /**
  * Contains converters, validators and adapters.
@@ -23,6 +25,11 @@ public class BindingSettingsBase {
 
     private HashMap<Class, HashMap<Class, IBindingConverter>> converters = new HashMap<Class, HashMap<Class, IBindingConverter>>(  );
     private HashMap<Class, IBindingAdapter> adapters = new HashMap<Class, IBindingAdapter>(  );
+    private Executor updateExecutor;
+    private ThreadAffinity threadAffinity = ThreadAffinity.DIRECT;
+    private UiPlatform uiPlatform = UiPlatform.NONE;
+    private boolean weakListeners;
+    private BindingMetricsRegistry metricsRegistry;
 
     public BindingSettingsBase() {
     }
@@ -34,6 +41,91 @@ public class BindingSettingsBase {
         addConverter( new StringToIntegerConverter() );
     }
 
+    /**
+     * Returns executor used by default to defer target updates of bindings created with these settings,
+     * or null if targets are updated synchronously.
+     */
+    public Executor getUpdateExecutor() {
+        return updateExecutor;
+    }
+
+    /**
+     * Sets executor used by default to defer target updates of bindings created with these settings.
+     * See {@link BindingBase#setUpdateExecutor(Executor)} for details.
+     */
+    public void setUpdateExecutor( Executor updateExecutor ) {
+        this.updateExecutor = updateExecutor;
+    }
+
+    /**
+     * Returns thread affinity of Targets of bindings created with these settings.
+     */
+    public ThreadAffinity getThreadAffinity() {
+        return threadAffinity;
+    }
+
+    /**
+     * Sets thread affinity of Targets of bindings created with these settings. If Source property
+     * is changed on another thread, Target update will be posted to Target thread. Default value is
+     * {@link ThreadAffinity#DIRECT}. Should be set before bindings are bound.
+     */
+    public void setThreadAffinity( ThreadAffinity threadAffinity ) {
+        if (null == threadAffinity) throw new IllegalArgumentException( "threadAffinity is null" );
+        this.threadAffinity = threadAffinity;
+    }
+
+    /**
+     * Returns platform hooks used by bindings to UI targets created with these settings.
+     */
+    public UiPlatform getUiPlatform() {
+        return uiPlatform;
+    }
+
+    /**
+     * Sets platform hooks used by bindings to UI targets created with these settings to observe targets
+     * according to their {@link UpdateSourceTrigger}. Default value is {@link UiPlatform#NONE} : platform
+     * bindings (Swing or Android Binding) use hooks of their platform in this case.
+     */
+    public void setUiPlatform( UiPlatform uiPlatform ) {
+        if (null == uiPlatform) throw new IllegalArgumentException( "uiPlatform is null" );
+        this.uiPlatform = uiPlatform;
+    }
+
+    /**
+     * Returns true if bindings created with these settings subscribe to Sources through weak references.
+     */
+    public boolean isWeakListeners() {
+        return weakListeners;
+    }
+
+    /**
+     * Turns on weak mode : Sources (and Source lists) will hold listeners of bindings created
+     * with these settings through weak references, so binding which has not been unbound can be
+     * garbage collected with its Target, even if Source lives longer. Bound binding still should be
+     * referenced (for example, by form or binding group), otherwise it stops working after garbage collection.
+     * See {@link WeakListeners}. Default value is false.
+     */
+    public void setWeakListeners( boolean weakListeners ) {
+        this.weakListeners = weakListeners;
+    }
+
+    /**
+     * Returns registry collecting metrics of bindings created with these settings, or null if metrics are disabled.
+     */
+    public BindingMetricsRegistry getMetricsRegistry() {
+        return metricsRegistry;
+    }
+
+    /**
+     * Enables metrics : bindings created with these settings will count updates and failures and measure
+     * latencies of getters, converters, validators and setters into given registry when they are bound.
+     * Pass null to disable metrics, bindings bound without registry do not measure anything.
+     * Default value is null.
+     */
+    public void setMetricsRegistry( BindingMetricsRegistry metricsRegistry ) {
+        this.metricsRegistry = metricsRegistry;
+    }
+
     public <T> void addAdapter(IBindingAdapter<T> adapter) {
         Class<T> targetClazz = adapter.getTargetClazz();
         if ( adapters.containsKey( targetClazz ))
@@ -47,6 +139,13 @@ public class BindingSettingsBase {
         return adapter;
     }
 
+    /**
+     * Returns true if adapter for specified class is registered.
+     */
+    public boolean hasAdapterFor(Class<?> clazz) {
+        return adapters.containsKey( clazz );
+    }
+
     public <TFirst, TSecond> void addConverter( IBindingConverter<TFirst, TSecond> converter) {
         registerConverter( converter );
         registerConverter( new ReversedConverter<TSecond, TFirst>( converter ) );
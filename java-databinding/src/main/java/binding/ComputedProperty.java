@@ -0,0 +1,199 @@
+package binding;
+
+import binding.utils.PropertyInfo;
+import binding.utils.PropertyUtils;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Read-only property whose value is computed from other properties. Properties read during computation
+ * using {@link #read(INotifyPropertyChanged, String)} are recorded as dependencies and observed.
+ * Value is computed on first {@link #get()} call, dependencies of value nobody has requested are not observed.
+ * When one of dependencies changes, computed value is recomputed and owner is notified only if the result differs
+ * from cached one. If recomputation fails, value is marked as stale, owner is notified once and
+ * value is recomputed in next {@link #get()} call.
+ * Dependencies are properties of objects passed to read(), property paths are not supported.
+ * Computed property can be used as binding Source property like ordinary one.
+ * Typical usage scenario:
+ * <p><blockquote><pre>
+ * public class Order implements INotifyPropertyChanged {
+ *     private final ComputedProperty&lt;Integer&gt; total = new ComputedProperty&lt;Integer&gt;( "total",
+ *             new IPropertyChangedListener() {
+ *                 public void propertyChanged( String propertyName ) {
+ *                     raisePropertyChange( propertyName );
+ *                 }
+ *             } ) {
+ *         protected Integer compute() {
+ *             Integer price = read( Order.this, "price" );
+ *             Integer qty = read( Order.this, "qty" );
+ *             return price * qty;
+ *         }
+ *     };
+ *
+ *     public Integer getTotal() {
+ *         return total.get();
+ *     }
+ *     ...
+ * }
+ * </pre></blockquote></p>
+ *
+ * @author igor.kostromin
+ *         21.07.13 12:30
+ */
+public abstract class ComputedProperty<T> {
+    private final String name;
+    private final IPropertyChangedListener ownerNotifier;
+    private T value;
+    private boolean computed;
+    private boolean computing;
+
+    // observed dependencies
+    private final Map<INotifyPropertyChanged, DependencyListener> dependencies =
+            new IdentityHashMap<INotifyPropertyChanged, DependencyListener>(  );
+    // dependencies recorded during current computation
+    private Map<INotifyPropertyChanged, Set<String>> recorded;
+
+    /**
+     * Creates computed property.
+     * @param name Property name, it will be passed to ownerNotifier when value changes
+     * @param ownerNotifier Listener raising property changed event of owner object
+     */
+    protected ComputedProperty( String name, IPropertyChangedListener ownerNotifier ) {
+        if (null == name || name.length() == 0) throw new IllegalArgumentException( "name is null or empty" );
+        if (null == ownerNotifier) throw new IllegalArgumentException( "ownerNotifier is null" );
+        this.name = name;
+        this.ownerNotifier = ownerNotifier;
+    }
+
+    /**
+     * Computes the property value. Use {@link #read(INotifyPropertyChanged, String)} to read values
+     * this property depends on.
+     */
+    protected abstract T compute();
+
+    /**
+     * Returns the property name.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the property value. Value is computed only if it has not been computed yet,
+     * otherwise cached value is returned.
+     */
+    public T get() {
+        if (!computed) recompute();
+        return value;
+    }
+
+    /**
+     * Reads the value of source property and records it as a dependency.
+     * Should be called from {@link #compute()} only.
+     * @param property Name of property of source, property paths like "address.city" are not allowed
+     */
+    @SuppressWarnings( "unchecked" )
+    protected <V> V read( INotifyPropertyChanged source, String property ) {
+        if (!computing) throw new IllegalStateException( "read() can be called from compute() only" );
+        if (PropertyUtils.isPropertyPath( property ))
+            throw new IllegalArgumentException( String.format( "Property path %s is not supported, " +
+                    "read every object of path separately", property ) );
+        Set<String> properties = recorded.get( source );
+        if (null == properties) {
+            properties = new HashSet<String>(  );
+            recorded.put( source, properties );
+        }
+        properties.add( property );
+        // property is resolved as path of one element to use the cache of resolved paths
+        PropertyInfo propertyInfo = PropertyUtils.getPropertyPath( source.getClass(), property )[0];
+        if (null == propertyInfo.getter)
+            throw new RuntimeException( String.format( "Property %s has no getter", property ) );
+        try {
+            return (V) propertyInfo.getter.invoke( source );
+        } catch ( IllegalAccessException e ) {
+            throw new RuntimeException( e );
+        } catch ( InvocationTargetException e ) {
+            throw new RuntimeException( e );
+        }
+    }
+
+    private void recompute() {
+        if (computing) throw new IllegalStateException( String.format( "Cyclic dependency in computed property %s", name ) );
+        computing = true;
+        recorded = new IdentityHashMap<INotifyPropertyChanged, Set<String>>(  );
+        try {
+            // if compute() throws, value stays stale and previous dependencies are kept observed
+            T computedValue = compute();
+            updateDependencies( recorded );
+            value = computedValue;
+            computed = true;
+        } finally {
+            recorded = null;
+            computing = false;
+        }
+    }
+
+    private void updateDependencies( Map<INotifyPropertyChanged, Set<String>> actual ) {
+        for ( Iterator<Map.Entry<INotifyPropertyChanged, DependencyListener>> it = dependencies.entrySet().iterator(); it.hasNext(); ) {
+            Map.Entry<INotifyPropertyChanged, DependencyListener> entry = it.next();
+            if (!actual.containsKey( entry.getKey() )) {
+                entry.getKey().removePropertyChangedListener( entry.getValue() );
+                it.remove();
+            }
+        }
+        for ( Map.Entry<INotifyPropertyChanged, Set<String>> entry : actual.entrySet() ) {
+            DependencyListener listener = dependencies.get( entry.getKey() );
+            if (null == listener) {
+                listener = new DependencyListener( entry.getValue() );
+                dependencies.put( entry.getKey(), listener );
+                entry.getKey().addPropertyChangedListener( listener );
+            } else {
+                listener.properties = entry.getValue();
+            }
+        }
+    }
+
+    private void dependencyChanged() {
+        T oldValue = value;
+        try {
+            recompute();
+        } catch ( RuntimeException e ) {
+            // value stays stale, error will be thrown to caller of get()
+            computed = false;
+            ownerNotifier.propertyChanged( name );
+            return;
+        }
+        if (null == oldValue ? null != value : !oldValue.equals( value ))
+            ownerNotifier.propertyChanged( name );
+    }
+
+    /**
+     * Unsubscribes from all dependencies. Value will be recomputed in next {@link #get()} call.
+     */
+    public void dispose() {
+        for ( Map.Entry<INotifyPropertyChanged, DependencyListener> entry : dependencies.entrySet() ) {
+            entry.getKey().removePropertyChangedListener( entry.getValue() );
+        }
+        dependencies.clear();
+        computed = false;
+        value = null;
+    }
+
+    private class DependencyListener implements IPropertyChangedListener {
+        private Set<String> properties;
+
+        private DependencyListener( Set<String> properties ) {
+            this.properties = properties;
+        }
+
+        public void propertyChanged( String propertyName ) {
+            if (computed && properties.contains( propertyName ))
+                dependencyChanged();
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package binding;
+
+import binding.adapters.IBindingAdapter;
+import binding.converters.ConversionResult;
+import binding.converters.IBindingConverter;
+import binding.converters.IMultiValueConverter;
+import binding.expressions.BindingExpression;
+import binding.utils.PropertyInfo;
+import binding.utils.PropertyUtils;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Provides one-way data sync connection from several source properties to one target property.
+ * Source properties can belong to different Source objects and can be specified as property paths.
+ * Source values are combined into target value by {@link IMultiValueConverter}.
+ * Typical usage scenario:
+ * <p><blockquote><pre>
+ * MultiBinding binding = new MultiBinding( label, "text", new IMultiValueConverter&lt;String&gt;() {
+ *     public ConversionResult&lt;String&gt; convert( Object[] values ) {
+ *         return new ConversionResult&lt;String&gt;( String.format( "%s %s (%s)", values[0], values[1], values[2] ) );
+ *     }
+ * } );
+ * binding.addSource( person, "firstName" );
+ * binding.addSource( person, "lastName" );
+ * binding.addSource( details, "age" );
+ * binding.bind();
+ * </pre></blockquote></p>
+ * By default target is updated synchronously on each source change. If update executor is set,
+ * target updates are coalesced : several source changes made before executor runs the update task
+ * will produce one target write. Source changes made on thread target does not belong to
+ * (see {@link BindingSettingsBase#setThreadAffinity(ThreadAffinity)}) are posted to target thread.
+ * Target property can also be bound to expression over source properties, see
+ * {@link #forExpression(Object, String, INotifyPropertyChanged, String)}.
+ *
+ * @author igor.kostromin
+ *         22.07.13 11:20
+ */
+public class MultiBinding {
+    private static class SourceProto {
+        INotifyPropertyChanged source;
+        String sourceProperty;
+        PropertyInfo[] chain;
+        PropertyPathObserver observer;
+
+        private SourceProto( INotifyPropertyChanged source, String sourceProperty ) {
+            this.source = source;
+            this.sourceProperty = sourceProperty;
+        }
+    }
+
+    private final Object target;
+    private final String targetProperty;
+    private final IMultiValueConverter converter;
+    private final BindingSettingsBase settings;
+    private final List<SourceProto> sources = new ArrayList<SourceProto>(  );
+    // read by update tasks posted to target thread
+    private volatile boolean bound;
+    // taken from settings in bind()
+    private ThreadAffinity threadAffinity = ThreadAffinity.DIRECT;
+
+    private IBindingAdapter adapter;
+    private PropertyInfo targetPropertyInfo;
+
+    private Executor updateExecutor;
+    private final AtomicBoolean updatePending = new AtomicBoolean(  );
+    private final Runnable updateTask = new Runnable() {
+        public void run() {
+            if (!threadAffinity.isTargetThread()) {
+                threadAffinity.post( this );
+                return;
+            }
+            updatePending.set( false );
+            if (bound) updateTarget();
+        }
+    };
+
+    public MultiBinding( Object target, String targetProperty, IMultiValueConverter converter ) {
+        this( target, targetProperty, converter, BindingSettingsBase.DEFAULT_SETTINGS );
+    }
+
+    public MultiBinding( Object target, String targetProperty, IMultiValueConverter converter,
+                         BindingSettingsBase settings ) {
+        if (null == target) throw new IllegalArgumentException( "target is null" );
+        if (null == targetProperty || targetProperty.length() == 0) throw new IllegalArgumentException( "targetProperty is null or empty" );
+        if (null == converter) throw new IllegalArgumentException( "converter is null" );
+        if (null == settings) throw new IllegalArgumentException( "settings is null" );
+        this.target = target;
+        this.targetProperty = targetProperty;
+        this.converter = converter;
+        this.settings = settings;
+    }
+
+    /**
+     * Creates binding of target property to expression over properties of source object.
+     * Each property path referenced by expression is added as source.
+     * <p><blockquote><pre>
+     * MultiBinding.forExpression( label, "text", person, "format('%s %s', firstName, lastName)" ).bind();
+     * </pre></blockquote></p>
+     * @throws binding.expressions.ExpressionSyntaxException if expression is malformed
+     */
+    public static MultiBinding forExpression( Object target, String targetProperty,
+                                              INotifyPropertyChanged source, String expression ) {
+        if (null == source) throw new IllegalArgumentException( "source is null" );
+        BindingExpression compiled = BindingExpression.compile( expression );
+        MultiBinding binding = new MultiBinding( target, targetProperty, compiled );
+        for ( String path : compiled.getPaths() ) binding.addSource( source, path );
+        return binding;
+    }
+
+    /**
+     * Adds source property. Values are passed to converter in the same order the sources have been added.
+     * @param source Source object
+     * @param sourceProperty Property name or property path
+     */
+    public void addSource( INotifyPropertyChanged source, String sourceProperty ) {
+        if (null == source) throw new IllegalArgumentException( "source is null" );
+        if (null == sourceProperty || sourceProperty.length() == 0) throw new IllegalArgumentException( "sourceProperty is null or empty" );
+        if (bound) throw new IllegalStateException( "Cannot add source to bound binding." );
+        sources.add( new SourceProto( source, sourceProperty ) );
+    }
+
+    /**
+     * Returns executor used to coalesce target updates or null if target is updated synchronously.
+     */
+    public Executor getUpdateExecutor() {
+        return updateExecutor;
+    }
+
+    /**
+     * Sets executor used to coalesce target updates. All source changes made before executor runs
+     * the update task will produce one target write. For example, executor posting tasks to UI thread
+     * will give one target write per UI dispatch cycle. Pass null to update target synchronously.
+     */
+    public void setUpdateExecutor( Executor updateExecutor ) {
+        this.updateExecutor = updateExecutor;
+    }
+
+    /**
+     * Connects Source objects and Target object.
+     */
+    public void bind() {
+        if (bound) return;
+        threadAffinity = settings.getThreadAffinity();
+        if (settings.hasAdapterFor( target.getClass() )) {
+            adapter = settings.getAdapterFor( target.getClass() );
+            targetPropertyInfo = null;
+        } else {
+            adapter = null;
+            targetPropertyInfo = PropertyUtils.getProperty( target.getClass(), targetProperty );
+            if (null == targetPropertyInfo.setter) throw new RuntimeException( "Target property setter not found" );
+        }
+        IPropertyChangedListener listener = new IPropertyChangedListener() {
+            public void propertyChanged( String propertyName ) {
+                invalidate();
+            }
+        };
+        for ( SourceProto proto : sources ) {
+            proto.chain = PropertyUtils.getPropertyPath( proto.source.getClass(), proto.sourceProperty );
+            if (null == proto.chain[proto.chain.length - 1].getter)
+                throw new RuntimeException( String.format( "Source property %s getter not found", proto.sourceProperty ) );
+            proto.observer = new PropertyPathObserver( proto.chain, proto.sourceProperty, listener );
+            proto.observer.setWeakListeners( settings.isWeakListeners() );
+            proto.observer.attach( proto.source );
+        }
+        bound = true;
+        updateTarget();
+    }
+
+    /**
+     * Disconnects Source objects and Target object.
+     */
+    public void unbind() {
+        if (!bound) return;
+        for ( SourceProto proto : sources ) {
+            proto.observer.detach();
+            proto.observer = null;
+        }
+        bound = false;
+    }
+
+    /**
+     * Returns true if binding is bound.
+     */
+    public boolean isBound() {
+        return bound;
+    }
+
+    private void invalidate() {
+        if (null == updateExecutor && threadAffinity.isTargetThread()) {
+            updateTarget();
+        } else if (updatePending.compareAndSet( false, true )) {
+            if (null != updateExecutor)
+                updateExecutor.execute( updateTask );
+            else
+                threadAffinity.post( updateTask );
+        }
+    }
+
+    /**
+     * Forces a data transfer from the source properties to the target property.
+     */
+    @SuppressWarnings( "unchecked" )
+    public void updateTarget() {
+        if (!bound) throw new IllegalStateException( "Binding is not bound." );
+        try {
+            Object[] values = new Object[sources.size()];
+            for ( int i = 0; i < values.length; i++ ) {
+                SourceProto proto = sources.get( i );
+                Object owner = proto.observer.getLeafOwner();
+                values[i] = null == owner ? null : proto.chain[proto.chain.length - 1].getter.invoke( owner );
+            }
+            ConversionResult result = converter.convert( values );
+            if (!result.success) return;
+            if (null == adapter)
+                targetPropertyInfo.setter.invoke( target, toTargetClass( result.value ) );
+            else
+                adapter.setValue( target, targetProperty, result.value );
+        } catch ( IllegalAccessException e ) {
+            throw new RuntimeException( e );
+        } catch ( InvocationTargetException e ) {
+            throw new RuntimeException( e );
+        }
+    }
+
+    /**
+     * Converts value returned by converter to target property class using registered converters.
+     * Values of other classes are passed to String target properties as string representation.
+     */
+    @SuppressWarnings( "unchecked" )
+    private Object toTargetClass( Object value ) {
+        Class<?> targetClass = targetPropertyInfo.clazz;
+        if (null == value || targetClass.isInstance( value ) || targetClass.isPrimitive()) return value;
+        IBindingConverter converter = settings.getConverterFor( value.getClass(), targetClass );
+        if (null != converter) {
+            ConversionResult result = converter.convert( value );
+            if (!result.success) throw new RuntimeException( result.failReason );
+            return result.value;
+        }
+        if (targetClass == String.class) return String.valueOf( value );
+        return value;
+    }
+}
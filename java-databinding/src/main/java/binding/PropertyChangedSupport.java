@@ -0,0 +1,59 @@
+package binding;
+
+import binding.utils.ListenerList;
+
+/**
+ * Ready-made {@link INotifyPropertyChanged} implementation backed by {@link ListenerList}.
+ * Models can extend it or delegate to it :
+ * <p><blockquote><pre>
+ * public class Customer implements INotifyPropertyChanged {
+ *     private final PropertyChangedSupport support = new PropertyChangedSupport();
+ *     ...
+ *     public void setName( String name ) {
+ *         this.name = name;
+ *         support.raisePropertyChange( "name" );
+ *     }
+ *
+ *     public void addPropertyChangedListener( IPropertyChangedListener listener ) {
+ *         support.addPropertyChangedListener( listener );
+ *     }
+ *
+ *     public void removePropertyChangedListener( IPropertyChangedListener listener ) {
+ *         support.removePropertyChangedListener( listener );
+ *     }
+ * }
+ * </pre></blockquote></p>
+ * Listeners can unsubscribe during notification without ConcurrentModificationException.
+ *
+ * @author igor.kostromin
+ *         30.07.13 17:40
+ */
+public class PropertyChangedSupport implements INotifyPropertyChanged {
+    private final ListenerList<IPropertyChangedListener> listeners = new ListenerList<IPropertyChangedListener>(  );
+
+    /**
+     * Notifies all registered listeners.
+     */
+    public void raisePropertyChange( String propertyName ) {
+        ListenerList.Snapshot<IPropertyChangedListener> snapshot = listeners.snapshot();
+        for ( int i = 0; i < snapshot.size(); i++ ) {
+            IPropertyChangedListener listener = snapshot.get( i );
+            if (null != listener) listener.propertyChanged( propertyName );
+        }
+    }
+
+    /**
+     * Returns count of registered listeners.
+     */
+    public int getListenersCount() {
+        return listeners.getCount();
+    }
+
+    public void addPropertyChangedListener( IPropertyChangedListener listener ) {
+        listeners.add( listener );
+    }
+
+    public void removePropertyChangedListener( IPropertyChangedListener listener ) {
+        listeners.remove( listener );
+    }
+}
@@ -0,0 +1,144 @@
+package binding;
+
+import binding.utils.PropertyInfo;
+import binding.utils.PropertyUtils;
+
+import java.lang.reflect.InvocationTargetException;
+
+/**
+ * Observes property path like "customer.address.city" starting from root object. Subscribes to every
+ * object in chain that implements {@link INotifyPropertyChanged}. When an intermediate property changes,
+ * only the part of chain below it is re-subscribed. Listener is notified with full path as property name
+ * when value of last property may have changed.
+ *
+ * @author igor.kostromin
+ *         20.07.13 13:10
+ */
+public class PropertyPathObserver {
+    private final String path;
+    private final String[] names;
+    private final PropertyInfo[] chain;
+    private final IPropertyChangedListener listener;
+    // links[i] is the owner of property names[i], links[0] is the root
+    private final Object[] links;
+    private final LinkListener[] linkListeners;
+    // used instead of subscribing linkListeners directly in weak mode
+    private boolean weakListeners;
+    private final WeakListeners.Registration[] registrations;
+
+    /**
+     * Creates path observer.
+     * @param chain Accessors chain resolved by {@link PropertyUtils#getPropertyPath(Class, String)}
+     * @param path Property path
+     * @param listener Listener to be notified when value of path may have changed
+     */
+    public PropertyPathObserver( PropertyInfo[] chain, String path, IPropertyChangedListener listener ) {
+        this.chain = chain;
+        this.path = path;
+        this.names = PropertyUtils.splitPropertyPath( path );
+        this.listener = listener;
+        this.links = new Object[chain.length];
+        this.linkListeners = new LinkListener[chain.length];
+        this.registrations = new WeakListeners.Registration[chain.length];
+        for ( int i = 0; i < chain.length; i++ ) {
+            linkListeners[i] = new LinkListener( i );
+        }
+    }
+
+    /**
+     * Sets weak mode : objects in chain will hold listeners through weak references, see {@link WeakListeners}.
+     * Observer itself should be held strongly. Should be called before {@link #attach(Object)}.
+     */
+    public void setWeakListeners( boolean weakListeners ) {
+        this.weakListeners = weakListeners;
+    }
+
+    /**
+     * Subscribes to chain starting from specified root object. If observer is attached to another root now,
+     * it will be detached from it first.
+     */
+    public void attach( Object root ) {
+        detach();
+        links[0] = root;
+        subscribeFrom( 0 );
+    }
+
+    /**
+     * Unsubscribes from all objects in chain.
+     */
+    public void detach() {
+        unsubscribeFrom( 0 );
+    }
+
+    /**
+     * Returns object owning last property in chain or null if some intermediate property is null.
+     */
+    public Object getLeafOwner() {
+        return links[links.length - 1];
+    }
+
+    private void subscribeFrom( int level ) {
+        for ( int i = level; i < links.length; i++ ) {
+            if (i > 0)
+                links[i] = null == links[i - 1] ? null : invoke( chain[i - 1], links[i - 1] );
+            if (links[i] instanceof INotifyPropertyChanged) {
+                if (weakListeners)
+                    registrations[i] = WeakListeners.addPropertyChangedListener( (INotifyPropertyChanged) links[i], linkListeners[i] );
+                else
+                    ((INotifyPropertyChanged) links[i]).addPropertyChangedListener( linkListeners[i] );
+            }
+        }
+    }
+
+    private void unsubscribeFrom( int level ) {
+        for ( int i = level; i < links.length; i++ ) {
+            if (null != registrations[i]) {
+                registrations[i].unsubscribe();
+                registrations[i] = null;
+            } else if (links[i] instanceof INotifyPropertyChanged) {
+                ((INotifyPropertyChanged) links[i]).removePropertyChangedListener( linkListeners[i] );
+            }
+            links[i] = null;
+        }
+    }
+
+    private static Object invoke( PropertyInfo propertyInfo, Object owner ) {
+        try {
+            return propertyInfo.getter.invoke( owner );
+        } catch ( IllegalAccessException e ) {
+            throw new RuntimeException( e );
+        } catch ( InvocationTargetException e ) {
+            throw new RuntimeException( e );
+        }
+    }
+
+    /**
+     * Returns owner of last property in path evaluated from root object without subscribing.
+     * Returns null if some intermediate property is null.
+     */
+    public static Object getLeafOwner( PropertyInfo[] chain, Object root ) {
+        Object owner = root;
+        for ( int i = 0; i < chain.length - 1 && null != owner; i++ ) {
+            owner = invoke( chain[i], owner );
+        }
+        return owner;
+    }
+
+    private class LinkListener implements IPropertyChangedListener {
+        private final int level;
+
+        private LinkListener( int level ) {
+            this.level = level;
+        }
+
+        public void propertyChanged( String propertyName ) {
+            if (!names[level].equals( propertyName )) return;
+            if (level < links.length - 1) {
+                // re-subscribe only the suffix of chain below changed link
+                unsubscribeFrom( level + 1 );
+                subscribeFrom( level + 1 );
+            }
+            listener.propertyChanged( path );
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package binding;
+
+import binding.adapters.IBindingAdapter;
+import binding.converters.IBindingConverter;
+import binding.utils.PropertyInfo;
+
+/**
+ * Binding metadata resolved for concrete Source and Target classes : real binding mode,
+ * adapter, properties info and converter. Resolving is relatively expensive (it uses reflection
+ * and settings lookups), so resolved objects can be cached and passed to {@link BindingBase#bind(ResolvedBinding)}
+ * of bindings created with the same properties, mode and settings. Instances are immutable.
+ * <p>Adapter and converter are looked up in settings, so metadata is matched to settings instance
+ * it was resolved with; changes made to that settings instance later are not detected.</p>
+ *
+ * @author igor.kostromin
+ *         19.07.13 11:40
+ */
+public class ResolvedBinding {
+    public final Class<?> sourceClass;
+    public final String sourceProperty;
+    public final Class<?> targetClass;
+    public final String targetProperty;
+    // requested mode, settings and target kind metadata was resolved for
+    public final BindingMode mode;
+    public final BindingSettingsBase settings;
+    public final boolean targetIsUi;
+    public final BindingMode realMode;
+    public final IBindingAdapter adapter;
+    public final PropertyInfo sourcePropertyInfo;
+    // accessors chain if source property is a path, null otherwise
+    public final PropertyInfo[] sourcePath;
+    public final PropertyInfo targetPropertyInfo;
+    public final IBindingConverter converter;
+    public final boolean sourceIsObservable;
+    public final boolean targetIsObservable;
+
+    public ResolvedBinding( Class<?> sourceClass, String sourceProperty, Class<?> targetClass, String targetProperty,
+                            BindingMode mode, BindingSettingsBase settings, boolean targetIsUi,
+                            BindingMode realMode, IBindingAdapter adapter,
+                            PropertyInfo sourcePropertyInfo, PropertyInfo[] sourcePath, PropertyInfo targetPropertyInfo,
+                            IBindingConverter converter, boolean sourceIsObservable, boolean targetIsObservable ) {
+        this.sourceClass = sourceClass;
+        this.sourceProperty = sourceProperty;
+        this.targetClass = targetClass;
+        this.targetProperty = targetProperty;
+        this.mode = mode;
+        this.settings = settings;
+        this.targetIsUi = targetIsUi;
+        this.realMode = realMode;
+        this.adapter = adapter;
+        this.sourcePropertyInfo = sourcePropertyInfo;
+        this.sourcePath = sourcePath;
+        this.targetPropertyInfo = targetPropertyInfo;
+        this.converter = converter;
+        this.sourceIsObservable = sourceIsObservable;
+        this.targetIsObservable = targetIsObservable;
+    }
+
+    /**
+     * Returns true if this metadata can be used to bind specified objects with specified mode and settings.
+     */
+    public boolean isResolvedFor( Object source, String sourceProperty, Object target, String targetProperty,
+                                  BindingMode mode, BindingSettingsBase settings, boolean targetIsUi ) {
+        return source.getClass() == sourceClass && target.getClass() == targetClass
+                && this.sourceProperty.equals( sourceProperty ) && this.targetProperty.equals( targetProperty )
+                && this.mode == mode && this.settings == settings && this.targetIsUi == targetIsUi;
+    }
+}
@@ -0,0 +1,71 @@
+package binding;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Determines thread which Target objects belong to. If Source property is changed on another thread,
+ * binding does not update Target directly but posts update task to Target thread. The caller is not blocked,
+ * and the task reads the latest Source value, so many changes made by producer thread before
+ * the task runs produce one Target write.
+ * <p>Available policies are {@link #DIRECT} (Target is updated on any thread, default),
+ * {@link #forExecutor(Executor)} and platform-specific ones (for example, Event Dispatch Thread in Swing module).</p>
+ *
+ * @author igor.kostromin
+ *         26.07.13 10:20
+ */
+public abstract class ThreadAffinity {
+    /**
+     * Target is updated on the thread Source property has been changed on.
+     */
+    public static final ThreadAffinity DIRECT = new ThreadAffinity() {
+        @Override
+        public boolean isTargetThread() {
+            return true;
+        }
+
+        @Override
+        public void post( Runnable task ) {
+            task.run();
+        }
+    };
+
+    /**
+     * Returns policy posting Target updates to specified executor. Code running in tasks
+     * posted by this policy is considered to be running on Target thread.
+     */
+    public static ThreadAffinity forExecutor( final Executor executor ) {
+        if (null == executor) throw new IllegalArgumentException( "executor is null" );
+        return new ThreadAffinity() {
+            private final ThreadLocal<Boolean> insideTask = new ThreadLocal<Boolean>();
+
+            @Override
+            public boolean isTargetThread() {
+                return Boolean.TRUE == insideTask.get();
+            }
+
+            @Override
+            public void post( final Runnable task ) {
+                executor.execute( new Runnable() {
+                    public void run() {
+                        insideTask.set( Boolean.TRUE );
+                        try {
+                            task.run();
+                        } finally {
+                            insideTask.remove();
+                        }
+                    }
+                } );
+            }
+        };
+    }
+
+    /**
+     * Returns true if current thread is the thread Target objects belong to.
+     */
+    public abstract boolean isTargetThread();
+
+    /**
+     * Posts task to be executed on Target thread. Should not block the caller.
+     */
+    public abstract void post( Runnable task );
+}
@@ -0,0 +1,44 @@
+package binding;
+
+import binding.utils.TimerWheel;
+
+/**
+ * Platform hooks used by bindings to UI targets to observe them according to {@link UpdateSourceTrigger}.
+ * Platform module (Swing, Android) provides implementation subscribing to focus events of its controls
+ * and timer wheel driven by UI thread timer. Methods of triggers not supported by platform throw
+ * {@link UnsupportedOperationException}.
+ *
+ * @author igor.kostromin
+ *         02.08.13 16:20
+ */
+public abstract class UiPlatform {
+    /**
+     * Platform without focus events and timers : only {@link UpdateSourceTrigger#PropertyChanged}
+     * and {@link UpdateSourceTrigger#Explicit} triggers are supported.
+     */
+    public static final UiPlatform NONE = new UiPlatform() {
+    };
+
+    /**
+     * Subscribes listener which is run when target loses focus ({@link UpdateSourceTrigger#LostFocus}).
+     * @return registration passed to {@link #removeLostFocusListener(Object, Object)}
+     */
+    public Object addLostFocusListener( Object target, Runnable listener ) {
+        throw new UnsupportedOperationException( "LostFocus trigger is not supported by platform" );
+    }
+
+    /**
+     * Unsubscribes listener subscribed by {@link #addLostFocusListener(Object, Runnable)}.
+     */
+    public void removeLostFocusListener( Object target, Object registration ) {
+        throw new UnsupportedOperationException( "LostFocus trigger is not supported by platform" );
+    }
+
+    /**
+     * Returns timer wheel firing timeouts on UI thread, used by {@link UpdateSourceTrigger#Debounce}
+     * and {@link UpdateSourceTrigger#Throttle} triggers.
+     */
+    public TimerWheel getTimerWheel() {
+        throw new UnsupportedOperationException( "Delayed triggers are not supported by platform" );
+    }
+}
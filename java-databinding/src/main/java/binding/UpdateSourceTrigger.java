@@ -22,5 +22,15 @@ public enum UpdateSourceTrigger {
     /**
      * Value will be synchronized when property will change.
      */
-    PropertyChanged
+    PropertyChanged,
+    /**
+     * Value will be synchronized when property stops changing : after specified delay
+     * since last change (see {@link BindingBase#setUpdateSourceDelay(int)}).
+     */
+    Debounce,
+    /**
+     * Value will be synchronized when property will change, but not more often than once per specified delay
+     * (see {@link BindingBase#setUpdateSourceDelay(int)}). The last change is always synchronized.
+     */
+    Throttle
 }
@@ -0,0 +1,151 @@
+package binding;
+
+import binding.observables.IObservableList;
+import binding.observables.IObservableListListener;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.List;
+
+/**
+ * Registers listeners on Source objects through weak references. Source holds only small
+ * forwarding wrapper, so long-lived Source does not prevent listener (and binding, Target and
+ * the whole form reachable from it) from being garbage collected if {@link BindingBase#unbind()}
+ * has not been called. Wrappers of collected listeners are removed from their Sources lazily :
+ * on next weak registration or explicit {@link #purge()} call.
+ * <p>The caller should hold listener strongly as long as it should receive events,
+ * bindings do it while they are bound. Weak mode is turned on by
+ * {@link BindingSettingsBase#setWeakListeners(boolean)}.</p>
+ *
+ * @author igor.kostromin
+ *         30.07.13 10:45
+ */
+public final class WeakListeners {
+    private static final ReferenceQueue<Object> queue = new ReferenceQueue<Object>(  );
+
+    private WeakListeners() {
+    }
+
+    /**
+     * Registration of weak listener wrapper. Should be used to unsubscribe listener.
+     */
+    public static abstract class Registration {
+        final ListenerReference reference;
+
+        private Registration( Object listener ) {
+            this.reference = new ListenerReference( listener, this );
+        }
+
+        /**
+         * Returns true if listener has not been collected yet.
+         */
+        public boolean isAlive() {
+            return null != reference.get();
+        }
+
+        /**
+         * Removes wrapper from Source.
+         */
+        public void unsubscribe() {
+            reference.clear();
+            remove();
+        }
+
+        abstract void remove();
+    }
+
+    private static final class ListenerReference extends WeakReference<Object> {
+        private final Registration registration;
+
+        private ListenerReference( Object listener, Registration registration ) {
+            super( listener, queue );
+            this.registration = registration;
+        }
+    }
+
+    private static final class PropertyChangedRegistration extends Registration implements IPropertyChangedListener {
+        private final INotifyPropertyChanged source;
+
+        private PropertyChangedRegistration( INotifyPropertyChanged source, IPropertyChangedListener listener ) {
+            super( listener );
+            this.source = source;
+        }
+
+        public void propertyChanged( String propertyName ) {
+            IPropertyChangedListener listener = (IPropertyChangedListener) reference.get();
+            if (null != listener) listener.propertyChanged( propertyName );
+        }
+
+        void remove() {
+            source.removePropertyChangedListener( this );
+        }
+    }
+
+    private static final class ObservableListRegistration extends Registration implements IObservableListListener {
+        private final IObservableList source;
+
+        private ObservableListRegistration( IObservableList source, IObservableListListener listener ) {
+            super( listener );
+            this.source = source;
+        }
+
+        public void listElementsAdded( IObservableList list, int index, int length ) {
+            IObservableListListener listener = (IObservableListListener) reference.get();
+            if (null != listener) listener.listElementsAdded( list, index, length );
+        }
+
+        public void listElementsRemoved( IObservableList list, int index, List oldElements ) {
+            IObservableListListener listener = (IObservableListListener) reference.get();
+            if (null != listener) listener.listElementsRemoved( list, index, oldElements );
+        }
+
+        public void listElementReplaced( IObservableList list, int index, Object oldElement ) {
+            IObservableListListener listener = (IObservableListListener) reference.get();
+            if (null != listener) listener.listElementReplaced( list, index, oldElement );
+        }
+
+        void remove() {
+            source.removeObservableListListener( this );
+        }
+    }
+
+    /**
+     * Subscribes listener to Source property changes through weak reference.
+     */
+    public static Registration addPropertyChangedListener( INotifyPropertyChanged source, IPropertyChangedListener listener ) {
+        if (null == source) throw new IllegalArgumentException( "source is null" );
+        if (null == listener) throw new IllegalArgumentException( "listener is null" );
+        purge();
+        PropertyChangedRegistration registration = new PropertyChangedRegistration( source, listener );
+        source.addPropertyChangedListener( registration );
+        return registration;
+    }
+
+    /**
+     * Subscribes listener to list changes through weak reference.
+     */
+    public static Registration addObservableListListener( IObservableList source, IObservableListListener listener ) {
+        if (null == source) throw new IllegalArgumentException( "source is null" );
+        if (null == listener) throw new IllegalArgumentException( "listener is null" );
+        purge();
+        ObservableListRegistration registration = new ObservableListRegistration( source, listener );
+        source.addObservableListListener( registration );
+        return registration;
+    }
+
+    /**
+     * Removes wrappers of collected listeners from their Sources.
+     * @return Number of removed wrappers
+     */
+    public static int purge() {
+        int count = 0;
+        Reference<?> reference;
+        while ( null != (reference = queue.poll()) ) {
+            // references cleared by unsubscribe() are not enqueued, so only collected listeners are here
+            ((ListenerReference) reference).registration.remove();
+            count++;
+        }
+        return count;
+    }
+}
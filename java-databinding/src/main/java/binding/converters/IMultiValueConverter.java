@@ -0,0 +1,16 @@
+package binding.converters;
+
+/**
+ * Provides conversion logic from values of several source properties to one target value.
+ * Used by {@link binding.MultiBinding}.
+ *
+ * @author igor.kostromin
+ *         22.07.13 11:05
+ */
+public interface IMultiValueConverter<TTarget> {
+    /**
+     * Converts source values to target value. Values are passed in the same order
+     * the sources have been added to binding.
+     */
+    ConversionResult<TTarget> convert(Object[] values);
+}
@@ -0,0 +1,112 @@
+package binding.expressions;
+
+import binding.PropertyPathObserver;
+import binding.converters.ConversionResult;
+import binding.converters.IMultiValueConverter;
+import binding.utils.PropertyInfo;
+import binding.utils.LruCache;
+import binding.utils.PropertyUtils;
+
+import java.lang.reflect.InvocationTargetException;
+
+/**
+ * Compiled binding expression. Supports arithmetic (+ - * / %), comparisons, logical operators,
+ * ternary operator, null-safe navigation (a?.b) and formatting function format(pattern, args...).
+ * For example:
+ * <p><blockquote><pre>
+ * BindingExpression expression = BindingExpression.compile( "age >= 18 ? format('%s %s', firstName, lastName) : 'n/a'" );
+ * </pre></blockquote></p>
+ * Expression is compiled once into tree of nodes with all names resolved and constants parsed,
+ * compiled expressions are cached by expression text (up to {@link #CACHE_CAPACITY} recently used ones). Property paths referenced from expression
+ * root (returned by {@link #getPaths()}) are read and observed by binding, values of these paths
+ * are passed to {@link #convert(Object[])} in the same order. So expression can be used as converter
+ * of {@link binding.MultiBinding}, see {@link binding.MultiBinding#forExpression(Object, String, binding.INotifyPropertyChanged, String)}.
+ *
+ * @author igor.kostromin
+ *         23.07.13 12:30
+ */
+public final class BindingExpression implements IMultiValueConverter<Object> {
+    public static final int CACHE_CAPACITY = 512;
+    private static final LruCache<String, BindingExpression> cache = new LruCache<String, BindingExpression>( CACHE_CAPACITY );
+
+    private final String text;
+    private final String[] paths;
+    private final ExpressionNode root;
+
+    private BindingExpression( String text, String[] paths, ExpressionNode root ) {
+        this.text = text;
+        this.paths = paths;
+        this.root = root;
+    }
+
+    /**
+     * Compiles expression or returns cached instance compiled earlier.
+     * @throws ExpressionSyntaxException if expression is malformed
+     */
+    public static BindingExpression compile( String text ) {
+        if (null == text) throw new IllegalArgumentException( "text is null" );
+        BindingExpression expression = cache.get( text );
+        if (null == expression) {
+            ExpressionParser parser = new ExpressionParser( text );
+            ExpressionNode root = parser.parse();
+            expression = new BindingExpression( text, parser.getPaths(), root );
+            expression = cache.putIfAbsent( text, expression );
+        }
+        return expression;
+    }
+
+    /**
+     * Returns expression text.
+     */
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * Returns property paths referenced from expression root, in order of their values in pathValues array.
+     */
+    public String[] getPaths() {
+        return paths.clone();
+    }
+
+    /**
+     * Evaluates expression with given values of property paths.
+     */
+    public Object evaluate( Object[] pathValues ) {
+        if (pathValues.length != paths.length)
+            throw new IllegalArgumentException( String.format( "Expected %d values but %d passed", paths.length, pathValues.length ) );
+        return root.evaluate( pathValues );
+    }
+
+    /**
+     * Reads property paths of root object and evaluates expression.
+     */
+    public Object evaluate( Object root ) {
+        if (null == root) throw new IllegalArgumentException( "root is null" );
+        Object[] values = new Object[paths.length];
+        for ( int i = 0; i < paths.length; i++ ) {
+            PropertyInfo[] chain = PropertyUtils.getPropertyPath( root.getClass(), paths[i] );
+            Object owner = PropertyPathObserver.getLeafOwner( chain, root );
+            if (null == owner) continue;
+            PropertyInfo leaf = chain[chain.length - 1];
+            if (null == leaf.getter) throw new RuntimeException( String.format( "Property %s has no getter", paths[i] ) );
+            try {
+                values[i] = leaf.getter.invoke( owner );
+            } catch ( IllegalAccessException e ) {
+                throw new RuntimeException( e );
+            } catch ( InvocationTargetException e ) {
+                throw new RuntimeException( e );
+            }
+        }
+        return this.root.evaluate( values );
+    }
+
+    public ConversionResult<Object> convert( Object[] values ) {
+        return new ConversionResult<Object>( evaluate( values ) );
+    }
+
+    @Override
+    public String toString() {
+        return text;
+    }
+}
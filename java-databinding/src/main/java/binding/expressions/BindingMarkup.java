@@ -0,0 +1,189 @@
+package binding.expressions;
+
+import binding.BindingMode;
+import binding.UpdateSourceTrigger;
+import binding.utils.LruCache;
+
+/**
+ * Parsed binding markup in syntax {Path=propertyName, Mode=Default, UpdateSourceTrigger=LostFocus}.
+ * Mode and UpdateSourceTrigger parts are not required, but Path is. Keys and values of Mode and
+ * UpdateSourceTrigger are case-insensitive. Path can be a property path like customer.address.city
+ * or an expression (see {@link BindingExpression}), commas inside expression are allowed if they
+ * are enclosed in parentheses or quotes.
+ * <p>Markup is parsed in single pass without regular expressions and intermediate strings,
+ * parsed instances are immutable and cached by markup text (up to {@link #CACHE_CAPACITY} recently used ones). Syntax errors are reported as
+ * {@link ExpressionSyntaxException} with offset of the wrong character in markup text.</p>
+ *
+ * @author igor.kostromin
+ *         24.07.13 10:40
+ */
+public final class BindingMarkup {
+    public static final String DEFAULT_TRIGGER = UpdateSourceTrigger.Default.name();
+    private static final UpdateSourceTrigger[] TRIGGERS = UpdateSourceTrigger.values();
+    private static final BindingMode[] MODES = BindingMode.values();
+
+    public static final int CACHE_CAPACITY = 512;
+    private static final LruCache<String, BindingMarkup> cache = new LruCache<String, BindingMarkup>( CACHE_CAPACITY );
+
+    /**
+     * Property path or expression text.
+     */
+    public final String path;
+    /**
+     * Compiled expression if path is not a plain property path, otherwise null.
+     */
+    public final BindingExpression expression;
+    public final BindingMode mode;
+    /**
+     * Name of {@link UpdateSourceTrigger} constant, {@link #DEFAULT_TRIGGER} if not specified.
+     */
+    public final String updateSourceTrigger;
+
+    private BindingMarkup( String path, BindingExpression expression, BindingMode mode, String updateSourceTrigger ) {
+        this.path = path;
+        this.expression = expression;
+        this.mode = mode;
+        this.updateSourceTrigger = updateSourceTrigger;
+    }
+
+    /**
+     * Parses markup or returns cached instance parsed earlier.
+     * @throws ExpressionSyntaxException if markup is malformed
+     */
+    public static BindingMarkup parse( String text ) {
+        if (null == text || text.length() == 0) throw new IllegalArgumentException( "text is null or empty" );
+        BindingMarkup markup = cache.get( text );
+        if (null == markup) {
+            markup = new Scanner( text ).scan();
+            markup = cache.putIfAbsent( text, markup );
+        }
+        return markup;
+    }
+
+    private static final class Scanner {
+        private final String text;
+        private int pos;
+
+        private String path;
+        private int pathOffset;
+        private boolean plainPath;
+        private BindingMode mode;
+        private String trigger;
+
+        private Scanner( String text ) {
+            this.text = text;
+        }
+
+        private ExpressionSyntaxException error( String reason, int offset ) {
+            return new ExpressionSyntaxException( reason, text, offset );
+        }
+
+        private void skipWhitespace() {
+            while ( pos < text.length() && Character.isWhitespace( text.charAt( pos ) ) ) pos++;
+        }
+
+        BindingMarkup scan() {
+            skipWhitespace();
+            if (pos >= text.length() || text.charAt( pos ) != '{') throw error( "Expected '{'", pos );
+            pos++;
+            while ( true ) {
+                scanPart();
+                // scanPart stops at ',' or '}'
+                if (text.charAt( pos++ ) == '}') break;
+            }
+            skipWhitespace();
+            if (pos < text.length()) throw error( "Unexpected character after '}'", pos );
+            if (null == path) throw error( "Path should be defined", text.length() );
+            BindingExpression expression = null;
+            if (!plainPath) {
+                try {
+                    expression = BindingExpression.compile( path );
+                } catch ( ExpressionSyntaxException e ) {
+                    throw error( e.getReason(), pathOffset + e.getOffset() );
+                }
+            }
+            return new BindingMarkup( path, expression,
+                    null == mode ? BindingMode.Default : mode,
+                    null == trigger ? DEFAULT_TRIGGER : trigger );
+        }
+
+        private void scanPart() {
+            skipWhitespace();
+            int keyStart = pos;
+            while ( pos < text.length() && Character.isLetter( text.charAt( pos ) ) ) pos++;
+            int keyEnd = pos;
+            if (keyStart == keyEnd) throw error( "Expected property name", keyStart );
+            skipWhitespace();
+            if (pos >= text.length() || text.charAt( pos ) != '=') throw error( "Expected '='", pos );
+            pos++;
+            skipWhitespace();
+            int valueStart = pos;
+            int depth = 0;
+            char quote = 0;
+            // scan to ',' or '}' not enclosed in parentheses or quotes
+            for ( ; pos < text.length(); pos++ ) {
+                char c = text.charAt( pos );
+                if (quote != 0) {
+                    if (c == '\\') pos++;
+                    else if (c == quote) quote = 0;
+                    continue;
+                }
+                if (depth == 0 && (c == ',' || c == '}')) break;
+                if (c == '\'' || c == '"') quote = c;
+                else if (c == '(') depth++;
+                else if (c == ')') depth--;
+            }
+            if (pos >= text.length()) throw error( "Expected '}'", text.length() );
+            int valueEnd = pos;
+            while ( valueEnd > valueStart && Character.isWhitespace( text.charAt( valueEnd - 1 ) ) ) valueEnd--;
+            if (valueStart == valueEnd) throw error( "Expected value", valueStart );
+
+            if (keyIs( "Path", keyStart, keyEnd )) {
+                if (null != path) throw error( "Path redefinition", keyStart );
+                path = text.substring( valueStart, valueEnd );
+                pathOffset = valueStart;
+                plainPath = isPropertyPath( valueStart, valueEnd );
+            } else if (keyIs( "Mode", keyStart, keyEnd )) {
+                if (null != mode) throw error( "Mode redefinition", keyStart );
+                for ( BindingMode bindingMode : MODES ) {
+                    if (valueIs( bindingMode.name(), valueStart, valueEnd )) mode = bindingMode;
+                }
+                if (null == mode) throw error( "Unknown mode", valueStart );
+            } else if (keyIs( "UpdateSourceTrigger", keyStart, keyEnd )) {
+                if (null != trigger) throw error( "Update source trigger redefinition", keyStart );
+                for ( UpdateSourceTrigger updateSourceTrigger : TRIGGERS ) {
+                    if (valueIs( updateSourceTrigger.name(), valueStart, valueEnd )) trigger = updateSourceTrigger.name();
+                }
+                if (null == trigger) throw error( "Unknown update source trigger mode", valueStart );
+            } else {
+                throw error( "Unknown property", keyStart );
+            }
+        }
+
+        private boolean keyIs( String key, int start, int end ) {
+            return end - start == key.length() && text.regionMatches( true, start, key, 0, key.length() );
+        }
+
+        private boolean valueIs( String value, int start, int end ) {
+            return keyIs( value, start, end );
+        }
+
+        /**
+         * Returns true if value is a dotted chain of identifiers.
+         */
+        private boolean isPropertyPath( int start, int end ) {
+            boolean segmentStart = true;
+            for ( int i = start; i < end; i++ ) {
+                char c = text.charAt( i );
+                if (c == '.') {
+                    if (segmentStart) return false;
+                    segmentStart = true;
+                } else {
+                    if (segmentStart ? !Character.isJavaIdentifierStart( c ) : !Character.isJavaIdentifierPart( c )) return false;
+                    segmentStart = false;
+                }
+            }
+            return !segmentStart;
+        }
+    }
+}
@@ -0,0 +1,311 @@
+package binding.expressions;
+
+import binding.utils.PropertyInfo;
+import binding.utils.PropertyUtils;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * Node of compiled expression tree. All names are resolved and all constants are parsed at compile time,
+ * so evaluation only walks the tree.
+ *
+ * @author igor.kostromin
+ *         23.07.13 10:30
+ */
+abstract class ExpressionNode {
+    /**
+     * Evaluates node. Values of property paths referenced from expression root are passed in pathValues.
+     */
+    abstract Object evaluate( Object[] pathValues );
+
+    static final class Constant extends ExpressionNode {
+        private final Object value;
+
+        Constant( Object value ) {
+            this.value = value;
+        }
+
+        Object evaluate( Object[] pathValues ) {
+            return value;
+        }
+    }
+
+    /**
+     * Value of property path starting from expression root. It is read by binding (or by
+     * {@link BindingExpression#evaluate(Object)}) before evaluation.
+     */
+    static final class PathValue extends ExpressionNode {
+        private final int index;
+
+        PathValue( int index ) {
+            this.index = index;
+        }
+
+        Object evaluate( Object[] pathValues ) {
+            return pathValues[index];
+        }
+    }
+
+    /**
+     * Property of computed object like (a ? b : c).name. Getter is cached for last seen class.
+     */
+    static final class Member extends ExpressionNode {
+        private final ExpressionNode owner;
+        private final String property;
+        private final boolean nullSafe;
+        // getter resolved for last seen class, published as immutable pair to be safe for several threads
+        private volatile CachedGetter cache;
+
+        Member( ExpressionNode owner, String property, boolean nullSafe ) {
+            this.owner = owner;
+            this.property = property;
+            this.nullSafe = nullSafe;
+        }
+
+        Object evaluate( Object[] pathValues ) {
+            Object value = owner.evaluate( pathValues );
+            if (null == value) {
+                if (nullSafe) return null;
+                throw new NullPointerException( String.format( "Cannot read property %s of null", property ) );
+            }
+            CachedGetter cached = cache;
+            if (null == cached || cached.cls != value.getClass()) {
+                PropertyInfo propertyInfo = PropertyUtils.getPropertyPath( value.getClass(), property )[0];
+                if (null == propertyInfo.getter)
+                    throw new RuntimeException( String.format( "Property %s has no getter", property ) );
+                cached = new CachedGetter( value.getClass(), propertyInfo.getter );
+                cache = cached;
+            }
+            Method getter = cached.getter;
+            try {
+                return getter.invoke( value );
+            } catch ( IllegalAccessException e ) {
+                throw new RuntimeException( e );
+            } catch ( InvocationTargetException e ) {
+                throw new RuntimeException( e );
+            }
+        }
+    }
+
+    private static final class CachedGetter {
+        final Class<?> cls;
+        final Method getter;
+
+        CachedGetter( Class<?> cls, Method getter ) {
+            this.cls = cls;
+            this.getter = getter;
+        }
+    }
+
+    static final class Not extends ExpressionNode {
+        private final ExpressionNode operand;
+
+        Not( ExpressionNode operand ) {
+            this.operand = operand;
+        }
+
+        Object evaluate( Object[] pathValues ) {
+            return !toBoolean( operand.evaluate( pathValues ) );
+        }
+    }
+
+    static final class Negate extends ExpressionNode {
+        private final ExpressionNode operand;
+
+        Negate( ExpressionNode operand ) {
+            this.operand = operand;
+        }
+
+        Object evaluate( Object[] pathValues ) {
+            Object value = operand.evaluate( pathValues );
+            if (null == value) return null;
+            if (value instanceof Double || value instanceof Float) return -((Number) value).doubleValue();
+            if (value instanceof Long) return -((Long) value);
+            if (value instanceof Number) return -((Number) value).intValue();
+            throw new RuntimeException( String.format( "Operator - cannot be applied to %s", value.getClass().getName() ) );
+        }
+    }
+
+    static final class And extends ExpressionNode {
+        private final ExpressionNode left;
+        private final ExpressionNode right;
+
+        And( ExpressionNode left, ExpressionNode right ) {
+            this.left = left;
+            this.right = right;
+        }
+
+        Object evaluate( Object[] pathValues ) {
+            return toBoolean( left.evaluate( pathValues ) ) && toBoolean( right.evaluate( pathValues ) );
+        }
+    }
+
+    static final class Or extends ExpressionNode {
+        private final ExpressionNode left;
+        private final ExpressionNode right;
+
+        Or( ExpressionNode left, ExpressionNode right ) {
+            this.left = left;
+            this.right = right;
+        }
+
+        Object evaluate( Object[] pathValues ) {
+            return toBoolean( left.evaluate( pathValues ) ) || toBoolean( right.evaluate( pathValues ) );
+        }
+    }
+
+    static final class Conditional extends ExpressionNode {
+        private final ExpressionNode condition;
+        private final ExpressionNode whenTrue;
+        private final ExpressionNode whenFalse;
+
+        Conditional( ExpressionNode condition, ExpressionNode whenTrue, ExpressionNode whenFalse ) {
+            this.condition = condition;
+            this.whenTrue = whenTrue;
+            this.whenFalse = whenFalse;
+        }
+
+        Object evaluate( Object[] pathValues ) {
+            return toBoolean( condition.evaluate( pathValues ) )
+                    ? whenTrue.evaluate( pathValues ) : whenFalse.evaluate( pathValues );
+        }
+    }
+
+    static final int ADD = 0;
+    static final int SUBTRACT = 1;
+    static final int MULTIPLY = 2;
+    static final int DIVIDE = 3;
+    static final int REMAINDER = 4;
+    static final int EQUAL = 5;
+    static final int NOT_EQUAL = 6;
+    static final int LESS = 7;
+    static final int LESS_OR_EQUAL = 8;
+    static final int GREATER = 9;
+    static final int GREATER_OR_EQUAL = 10;
+
+    static final class Binary extends ExpressionNode {
+        private final int operator;
+        private final ExpressionNode left;
+        private final ExpressionNode right;
+
+        Binary( int operator, ExpressionNode left, ExpressionNode right ) {
+            this.operator = operator;
+            this.left = left;
+            this.right = right;
+        }
+
+        Object evaluate( Object[] pathValues ) {
+            Object l = left.evaluate( pathValues );
+            Object r = right.evaluate( pathValues );
+            switch ( operator ) {
+                case EQUAL:
+                    return valuesEqual( l, r );
+                case NOT_EQUAL:
+                    return !valuesEqual( l, r );
+                case LESS:
+                    return compare( l, r ) < 0;
+                case LESS_OR_EQUAL:
+                    return compare( l, r ) <= 0;
+                case GREATER:
+                    return compare( l, r ) > 0;
+                case GREATER_OR_EQUAL:
+                    return compare( l, r ) >= 0;
+                default:
+                    return arithmetic( operator, l, r );
+            }
+        }
+    }
+
+    /**
+     * Function format(pattern, args...) equivalent to {@link String#format(String, Object...)}.
+     */
+    static final class Format extends ExpressionNode {
+        private final ExpressionNode pattern;
+        private final ExpressionNode[] args;
+
+        Format( ExpressionNode pattern, ExpressionNode[] args ) {
+            this.pattern = pattern;
+            this.args = args;
+        }
+
+        Object evaluate( Object[] pathValues ) {
+            Object[] values = new Object[args.length];
+            for ( int i = 0; i < args.length; i++ ) values[i] = args[i].evaluate( pathValues );
+            return String.format( String.valueOf( pattern.evaluate( pathValues ) ), values );
+        }
+    }
+
+    static boolean toBoolean( Object value ) {
+        if (null == value) return false;
+        if (value instanceof Boolean) return (Boolean) value;
+        throw new RuntimeException( String.format( "Cannot use %s as boolean value", value.getClass().getName() ) );
+    }
+
+    private static boolean isFloating( Object value ) {
+        return value instanceof Double || value instanceof Float;
+    }
+
+    private static boolean valuesEqual( Object l, Object r ) {
+        if (l instanceof Number && r instanceof Number) return compareNumbers( (Number) l, (Number) r ) == 0;
+        return null == l ? null == r : l.equals( r );
+    }
+
+    private static int compareNumbers( Number l, Number r ) {
+        if (isFloating( l ) || isFloating( r )) return Double.compare( l.doubleValue(), r.doubleValue() );
+        long a = l.longValue();
+        long b = r.longValue();
+        return a < b ? -1 : (a == b ? 0 : 1);
+    }
+
+    @SuppressWarnings( "unchecked" )
+    private static int compare( Object l, Object r ) {
+        if (null == l || null == r) throw new NullPointerException( "Cannot compare null values" );
+        if (l instanceof Number && r instanceof Number) return compareNumbers( (Number) l, (Number) r );
+        if (l instanceof Comparable) return ((Comparable) l).compareTo( r );
+        throw new RuntimeException( String.format( "Cannot compare %s values", l.getClass().getName() ) );
+    }
+
+    private static Object arithmetic( int operator, Object l, Object r ) {
+        if (operator == ADD && (l instanceof String || r instanceof String))
+            return String.valueOf( l ) + String.valueOf( r );
+        // null propagates through arithmetic like through null-safe navigation
+        if (null == l || null == r) return null;
+        if (!(l instanceof Number) || !(r instanceof Number))
+            throw new RuntimeException( String.format( "Arithmetic operator cannot be applied to %s and %s",
+                    l.getClass().getName(), r.getClass().getName() ) );
+        Number a = (Number) l;
+        Number b = (Number) r;
+        if (isFloating( a ) || isFloating( b )) {
+            double x = a.doubleValue();
+            double y = b.doubleValue();
+            switch ( operator ) {
+                case ADD: return x + y;
+                case SUBTRACT: return x - y;
+                case MULTIPLY: return x * y;
+                case DIVIDE: return x / y;
+                default: return x % y;
+            }
+        }
+        if (a instanceof Long || b instanceof Long) {
+            long x = a.longValue();
+            long y = b.longValue();
+            switch ( operator ) {
+                case ADD: return x + y;
+                case SUBTRACT: return x - y;
+                case MULTIPLY: return x * y;
+                case DIVIDE: return x / y;
+                default: return x % y;
+            }
+        }
+        int x = a.intValue();
+        int y = b.intValue();
+        switch ( operator ) {
+            case ADD: return x + y;
+            case SUBTRACT: return x - y;
+            case MULTIPLY: return x * y;
+            case DIVIDE: return x / y;
+            default: return x % y;
+        }
+    }
+}
@@ -0,0 +1,284 @@
+package binding.expressions;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Recursive descent parser of binding expressions. Grammar:
+ * <pre>
+ * expression     := or ( '?' expression ':' expression )?
+ * or             := and ( '||' and )*
+ * and            := equality ( '&&' equality )*
+ * equality       := relational ( ( '==' | '!=' ) relational )*
+ * relational     := additive ( ( '&lt;' | '&lt;=' | '&gt;' | '&gt;=' ) additive )*
+ * additive       := multiplicative ( ( '+' | '-' ) multiplicative )*
+ * multiplicative := unary ( ( '*' | '/' | '%' ) unary )*
+ * unary          := ( '!' | '-' ) unary | postfix
+ * postfix        := primary ( ( '.' | '?.' ) identifier )*
+ * primary        := number | string | 'true' | 'false' | 'null' | identifier | 'format' '(' arguments ')'
+ *                   | '(' expression ')'
+ * </pre>
+ * Chains of identifiers starting from expression root (like customer.address.city) are collected as
+ * property paths and compiled into references to values read by binding.
+ *
+ * @author igor.kostromin
+ *         23.07.13 11:45
+ */
+final class ExpressionParser {
+    private final String text;
+    private int pos;
+    // property paths referenced from expression root -> index in values array
+    private final Map<String, Integer> paths = new LinkedHashMap<String, Integer>(  );
+
+    ExpressionParser( String text ) {
+        this.text = text;
+    }
+
+    ExpressionNode parse() {
+        ExpressionNode node = parseExpression();
+        skipWhitespace();
+        if (pos < text.length()) throw error( String.format( "Unexpected character '%c'", text.charAt( pos ) ) );
+        return node;
+    }
+
+    String[] getPaths() {
+        return paths.keySet().toArray( new String[paths.size()] );
+    }
+
+    private ExpressionSyntaxException error( String message ) {
+        return new ExpressionSyntaxException( message, text, pos );
+    }
+
+    private void skipWhitespace() {
+        while ( pos < text.length() && Character.isWhitespace( text.charAt( pos ) ) ) pos++;
+    }
+
+    /**
+     * Consumes the operator if it is next in text. Operator is not matched if it is a prefix
+     * of longer operator specified in notFollowedBy characters (for example, '&lt;' in '&lt;=').
+     */
+    private boolean accept( String operator, String notFollowedBy ) {
+        skipWhitespace();
+        if (!text.startsWith( operator, pos )) return false;
+        int end = pos + operator.length();
+        if (null != notFollowedBy && end < text.length() && notFollowedBy.indexOf( text.charAt( end ) ) != -1)
+            return false;
+        pos = end;
+        return true;
+    }
+
+    private boolean accept( String operator ) {
+        return accept( operator, null );
+    }
+
+    private void expect( String operator ) {
+        if (!accept( operator )) {
+            if (pos >= text.length()) throw error( String.format( "Expected '%s' but end of expression found", operator ) );
+            throw error( String.format( "Expected '%s'", operator ) );
+        }
+    }
+
+    private ExpressionNode parseExpression() {
+        ExpressionNode condition = parseOr();
+        // '?.' is null-safe navigation, it is handled in postfix
+        if (accept( "?", "." )) {
+            ExpressionNode whenTrue = parseExpression();
+            expect( ":" );
+            ExpressionNode whenFalse = parseExpression();
+            return new ExpressionNode.Conditional( condition, whenTrue, whenFalse );
+        }
+        return condition;
+    }
+
+    private ExpressionNode parseOr() {
+        ExpressionNode node = parseAnd();
+        while ( accept( "||" ) ) node = new ExpressionNode.Or( node, parseAnd() );
+        return node;
+    }
+
+    private ExpressionNode parseAnd() {
+        ExpressionNode node = parseEquality();
+        while ( accept( "&&" ) ) node = new ExpressionNode.And( node, parseEquality() );
+        return node;
+    }
+
+    private ExpressionNode parseEquality() {
+        ExpressionNode node = parseRelational();
+        while ( true ) {
+            if (accept( "==" )) node = new ExpressionNode.Binary( ExpressionNode.EQUAL, node, parseRelational() );
+            else if (accept( "!=" )) node = new ExpressionNode.Binary( ExpressionNode.NOT_EQUAL, node, parseRelational() );
+            else return node;
+        }
+    }
+
+    private ExpressionNode parseRelational() {
+        ExpressionNode node = parseAdditive();
+        while ( true ) {
+            if (accept( "<=" )) node = new ExpressionNode.Binary( ExpressionNode.LESS_OR_EQUAL, node, parseAdditive() );
+            else if (accept( ">=" )) node = new ExpressionNode.Binary( ExpressionNode.GREATER_OR_EQUAL, node, parseAdditive() );
+            else if (accept( "<" )) node = new ExpressionNode.Binary( ExpressionNode.LESS, node, parseAdditive() );
+            else if (accept( ">" )) node = new ExpressionNode.Binary( ExpressionNode.GREATER, node, parseAdditive() );
+            else return node;
+        }
+    }
+
+    private ExpressionNode parseAdditive() {
+        ExpressionNode node = parseMultiplicative();
+        while ( true ) {
+            if (accept( "+" )) node = new ExpressionNode.Binary( ExpressionNode.ADD, node, parseMultiplicative() );
+            else if (accept( "-" )) node = new ExpressionNode.Binary( ExpressionNode.SUBTRACT, node, parseMultiplicative() );
+            else return node;
+        }
+    }
+
+    private ExpressionNode parseMultiplicative() {
+        ExpressionNode node = parseUnary();
+        while ( true ) {
+            if (accept( "*" )) node = new ExpressionNode.Binary( ExpressionNode.MULTIPLY, node, parseUnary() );
+            else if (accept( "/" )) node = new ExpressionNode.Binary( ExpressionNode.DIVIDE, node, parseUnary() );
+            else if (accept( "%" )) node = new ExpressionNode.Binary( ExpressionNode.REMAINDER, node, parseUnary() );
+            else return node;
+        }
+    }
+
+    private ExpressionNode parseUnary() {
+        if (accept( "!", "=" )) return new ExpressionNode.Not( parseUnary() );
+        if (accept( "-" )) return new ExpressionNode.Negate( parseUnary() );
+        return parsePostfix();
+    }
+
+    private ExpressionNode parsePostfix() {
+        skipWhitespace();
+        ExpressionNode node;
+        if (pos < text.length() && Character.isJavaIdentifierStart( text.charAt( pos ) )) {
+            int start = pos;
+            String identifier = parseIdentifier();
+            if ("true".equals( identifier )) node = new ExpressionNode.Constant( Boolean.TRUE );
+            else if ("false".equals( identifier )) node = new ExpressionNode.Constant( Boolean.FALSE );
+            else if ("null".equals( identifier )) node = new ExpressionNode.Constant( null );
+            else if (accept( "(" )) node = parseFunction( identifier, start );
+            else {
+                // collect property path from expression root, navigation along it is always null-safe
+                StringBuilder path = new StringBuilder( identifier );
+                while ( true ) {
+                    int mark = pos;
+                    if (accept( "?." ) || accept( ".", "0123456789" )) {
+                        skipWhitespace();
+                        if (pos < text.length() && Character.isJavaIdentifierStart( text.charAt( pos ) )) {
+                            path.append( '.' ).append( parseIdentifier() );
+                            continue;
+                        }
+                        throw error( "Expected property name" );
+                    }
+                    pos = mark;
+                    break;
+                }
+                node = new ExpressionNode.PathValue( pathIndex( path.toString() ) );
+            }
+        } else {
+            node = parsePrimary();
+        }
+        while ( true ) {
+            boolean nullSafe;
+            if (accept( "?." )) nullSafe = true;
+            else if (accept( "." )) nullSafe = false;
+            else return node;
+            skipWhitespace();
+            if (pos >= text.length() || !Character.isJavaIdentifierStart( text.charAt( pos ) ))
+                throw error( "Expected property name" );
+            node = new ExpressionNode.Member( node, parseIdentifier(), nullSafe );
+        }
+    }
+
+    private int pathIndex( String path ) {
+        Integer index = paths.get( path );
+        if (null == index) {
+            index = paths.size();
+            paths.put( path, index );
+        }
+        return index;
+    }
+
+    private ExpressionNode parseFunction( String name, int start ) {
+        List<ExpressionNode> args = new ArrayList<ExpressionNode>(  );
+        if (!accept( ")" )) {
+            do {
+                args.add( parseExpression() );
+            } while ( accept( "," ) );
+            expect( ")" );
+        }
+        if ("format".equals( name )) {
+            if (args.isEmpty()) throw new ExpressionSyntaxException( "Function format requires pattern argument", text, start );
+            return new ExpressionNode.Format( args.get( 0 ),
+                    args.subList( 1, args.size() ).toArray( new ExpressionNode[args.size() - 1] ) );
+        }
+        throw new ExpressionSyntaxException( String.format( "Unknown function %s", name ), text, start );
+    }
+
+    private String parseIdentifier() {
+        int start = pos;
+        pos++;
+        while ( pos < text.length() && Character.isJavaIdentifierPart( text.charAt( pos ) ) ) pos++;
+        return text.substring( start, pos );
+    }
+
+    private ExpressionNode parsePrimary() {
+        if (pos >= text.length()) throw error( "Unexpected end of expression" );
+        char c = text.charAt( pos );
+        if (c == '(') {
+            pos++;
+            ExpressionNode node = parseExpression();
+            expect( ")" );
+            return node;
+        }
+        if (c == '\'' || c == '"') return new ExpressionNode.Constant( parseString( c ) );
+        if (Character.isDigit( c )) return new ExpressionNode.Constant( parseNumber() );
+        throw error( String.format( "Unexpected character '%c'", c ) );
+    }
+
+    private String parseString( char quote ) {
+        int start = pos;
+        pos++;
+        StringBuilder sb = new StringBuilder(  );
+        while ( pos < text.length() ) {
+            char c = text.charAt( pos++ );
+            if (c == quote) return sb.toString();
+            if (c == '\\') {
+                if (pos >= text.length()) break;
+                char escaped = text.charAt( pos++ );
+                switch ( escaped ) {
+                    case 'n': sb.append( '\n' ); break;
+                    case 't': sb.append( '\t' ); break;
+                    default: sb.append( escaped );
+                }
+            } else {
+                sb.append( c );
+            }
+        }
+        throw new ExpressionSyntaxException( "Unterminated string literal", text, start );
+    }
+
+    private Object parseNumber() {
+        int start = pos;
+        while ( pos < text.length() && Character.isDigit( text.charAt( pos ) ) ) pos++;
+        boolean floating = false;
+        if (pos + 1 < text.length() && text.charAt( pos ) == '.' && Character.isDigit( text.charAt( pos + 1 ) )) {
+            floating = true;
+            pos++;
+            while ( pos < text.length() && Character.isDigit( text.charAt( pos ) ) ) pos++;
+        }
+        String number = text.substring( start, pos );
+        if (floating) return Double.valueOf( number );
+        if (pos < text.length() && (text.charAt( pos ) == 'L' || text.charAt( pos ) == 'l')) {
+            pos++;
+            return Long.valueOf( number );
+        }
+        try {
+            return Integer.valueOf( number );
+        } catch ( NumberFormatException e ) {
+            return Long.valueOf( number );
+        }
+    }
+}
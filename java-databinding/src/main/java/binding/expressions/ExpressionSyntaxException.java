@@ -0,0 +1,42 @@
+package binding.expressions;
+
+/**
+ * Thrown when binding expression cannot be parsed. Contains offset of the character
+ * where the error has been detected.
+ *
+ * @author igor.kostromin
+ *         23.07.13 10:15
+ */
+public class ExpressionSyntaxException extends RuntimeException {
+    private final String reason;
+    private final String expression;
+    private final int offset;
+
+    public ExpressionSyntaxException( String reason, String expression, int offset ) {
+        super( String.format( "%s at offset %d in expression %s", reason, offset, expression ) );
+        this.reason = reason;
+        this.expression = expression;
+        this.offset = offset;
+    }
+
+    /**
+     * Returns error description without position.
+     */
+    public String getReason() {
+        return reason;
+    }
+
+    /**
+     * Returns the expression text.
+     */
+    public String getExpression() {
+        return expression;
+    }
+
+    /**
+     * Returns zero-based offset of character where the error has been detected.
+     */
+    public int getOffset() {
+        return offset;
+    }
+}
@@ -0,0 +1,145 @@
+package binding.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counters and latency histograms of bindings with the same Source class and property, see
+ * {@link BindingMetricsRegistry}. Updated by bindings concurrently, all methods are thread-safe.
+ *
+ * @author igor.kostromin
+ *         02.08.13 18:20
+ */
+public class BindingMetrics implements BindingMetricsMBean {
+    /**
+     * Stages of value transfer measured by binding.
+     */
+    public enum Stage {
+        /**
+         * Reading value from Source (updateTarget) or Target (updateSource).
+         */
+        Getter,
+        Converter,
+        Validator,
+        /**
+         * Writing value to Target (updateTarget) or Source (updateSource).
+         */
+        Setter
+    }
+
+    private final Class<?> sourceClass;
+    private final String sourceProperty;
+    private final AtomicLong targetUpdates = new AtomicLong(  );
+    private final AtomicLong sourceUpdates = new AtomicLong(  );
+    private final AtomicLong conversionFailures = new AtomicLong(  );
+    private final AtomicLong validationFailures = new AtomicLong(  );
+    private final AtomicLong skippedUpdates = new AtomicLong(  );
+    private final LatencyHistogram[] latencies;
+
+    public BindingMetrics( Class<?> sourceClass, String sourceProperty ) {
+        this.sourceClass = sourceClass;
+        this.sourceProperty = sourceProperty;
+        latencies = new LatencyHistogram[Stage.values().length];
+        for ( int i = 0; i < latencies.length; i++ ) {
+            latencies[i] = new LatencyHistogram();
+        }
+    }
+
+    public Class<?> getSourceClazz() {
+        return sourceClass;
+    }
+
+    public String getSourceClass() {
+        return sourceClass.getName();
+    }
+
+    public String getSourceProperty() {
+        return sourceProperty;
+    }
+
+    public void targetUpdated() {
+        targetUpdates.incrementAndGet();
+    }
+
+    public void sourceUpdated() {
+        sourceUpdates.incrementAndGet();
+    }
+
+    public void conversionFailed() {
+        conversionFailures.incrementAndGet();
+    }
+
+    public void validationFailed() {
+        validationFailures.incrementAndGet();
+    }
+
+    /**
+     * Counts update which has not written value : it has been coalesced with scheduled one, or there
+     * was nothing to update (intermediate object of property path or list is null). Failed conversions
+     * are counted by {@link #conversionFailed()} only.
+     */
+    public void updateSkipped() {
+        skippedUpdates.incrementAndGet();
+    }
+
+    public void record( Stage stage, long nanos ) {
+        latencies[stage.ordinal()].record( nanos );
+    }
+
+    public long getTargetUpdates() {
+        return targetUpdates.get();
+    }
+
+    public long getSourceUpdates() {
+        return sourceUpdates.get();
+    }
+
+    public long getConversionFailures() {
+        return conversionFailures.get();
+    }
+
+    public long getValidationFailures() {
+        return validationFailures.get();
+    }
+
+    public long getSkippedUpdates() {
+        return skippedUpdates.get();
+    }
+
+    public LatencyHistogram getLatency( Stage stage ) {
+        return latencies[stage.ordinal()];
+    }
+
+    public String getGetterLatency() {
+        return getLatency( Stage.Getter ).toString();
+    }
+
+    public String getConverterLatency() {
+        return getLatency( Stage.Converter ).toString();
+    }
+
+    public String getValidatorLatency() {
+        return getLatency( Stage.Validator ).toString();
+    }
+
+    public String getSetterLatency() {
+        return getLatency( Stage.Setter ).toString();
+    }
+
+    public void reset() {
+        targetUpdates.set( 0 );
+        sourceUpdates.set( 0 );
+        conversionFailures.set( 0 );
+        validationFailures.set( 0 );
+        skippedUpdates.set( 0 );
+        for ( LatencyHistogram latency : latencies ) {
+            latency.reset();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format( "%s.%s : target updates %d, source updates %d, conversion failures %d, " +
+                "validation failures %d, skipped %d", sourceClass.getName(), sourceProperty, getTargetUpdates(),
+                getSourceUpdates(), getConversionFailures(), getValidationFailures(), getSkippedUpdates() );
+    }
+}
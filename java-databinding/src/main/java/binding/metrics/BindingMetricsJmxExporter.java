@@ -0,0 +1,106 @@
+package binding.metrics;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.InstanceNotFoundException;
+import javax.management.MBeanRegistrationException;
+import javax.management.MBeanServer;
+import javax.management.MalformedObjectNameException;
+import javax.management.NotCompliantMBeanException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+/**
+ * Registers metrics of {@link BindingMetricsRegistry} as MBeans, so they can be inspected by JConsole
+ * or VisualVM. Each Source class and property gets MBean named
+ * {@code binding:type=BindingMetrics,source="<class>",property="<property>"}. Metrics created after
+ * export are registered too. Not available on Android.
+ * <p><blockquote><pre>
+ * BindingMetricsRegistry registry = new BindingMetricsRegistry();
+ * settings.setMetricsRegistry( registry );
+ * new BindingMetricsJmxExporter( registry ).export();
+ * </pre></blockquote></p>
+ *
+ * @author igor.kostromin
+ *         02.08.13 19:10
+ */
+public class BindingMetricsJmxExporter implements IBindingMetricsListener {
+    public static final String DOMAIN = "binding";
+
+    private final BindingMetricsRegistry registry;
+    private final MBeanServer server;
+    private boolean exported;
+
+    /**
+     * Creates exporter registering MBeans in platform MBean server.
+     */
+    public BindingMetricsJmxExporter( BindingMetricsRegistry registry ) {
+        this( registry, ManagementFactory.getPlatformMBeanServer() );
+    }
+
+    public BindingMetricsJmxExporter( BindingMetricsRegistry registry, MBeanServer server ) {
+        if (null == registry) throw new IllegalArgumentException( "registry is null" );
+        if (null == server) throw new IllegalArgumentException( "server is null" );
+        this.registry = registry;
+        this.server = server;
+    }
+
+    /**
+     * Returns name of MBean exposing metrics.
+     */
+    public static ObjectName getObjectName( BindingMetrics metrics ) {
+        try {
+            return new ObjectName( String.format( "%s:type=BindingMetrics,source=%s,property=%s", DOMAIN,
+                    ObjectName.quote( metrics.getSourceClass() ), ObjectName.quote( metrics.getSourceProperty() ) ) );
+        } catch ( MalformedObjectNameException e ) {
+            throw new RuntimeException( e );
+        }
+    }
+
+    /**
+     * Registers MBeans for all metrics of registry and for metrics created later.
+     */
+    public synchronized void export() {
+        if (exported) return;
+        exported = true;
+        registry.addMetricsListener( this );
+        for ( BindingMetrics metrics : registry.getAll() ) {
+            register( metrics );
+        }
+    }
+
+    /**
+     * Unregisters all MBeans registered by exporter.
+     */
+    public synchronized void unexport() {
+        if (!exported) return;
+        exported = false;
+        registry.removeMetricsListener( this );
+        for ( BindingMetrics metrics : registry.getAll() ) {
+            ObjectName name = getObjectName( metrics );
+            try {
+                if (server.isRegistered( name )) server.unregisterMBean( name );
+            } catch ( InstanceNotFoundException e ) {
+                // already unregistered
+            } catch ( MBeanRegistrationException e ) {
+                throw new RuntimeException( e );
+            }
+        }
+    }
+
+    public synchronized void metricsCreated( BindingMetrics metrics ) {
+        if (exported) register( metrics );
+    }
+
+    private void register( BindingMetrics metrics ) {
+        ObjectName name = getObjectName( metrics );
+        try {
+            if (!server.isRegistered( name )) server.registerMBean( metrics, name );
+        } catch ( InstanceAlreadyExistsException e ) {
+            // registered concurrently
+        } catch ( MBeanRegistrationException e ) {
+            throw new RuntimeException( e );
+        } catch ( NotCompliantMBeanException e ) {
+            throw new RuntimeException( e );
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package binding.metrics;
+
+/**
+ * Management interface of {@link BindingMetrics}, see {@link BindingMetricsJmxExporter}.
+ *
+ * @author igor.kostromin
+ *         02.08.13 18:30
+ */
+public interface BindingMetricsMBean {
+    String getSourceClass();
+
+    String getSourceProperty();
+
+    long getTargetUpdates();
+
+    long getSourceUpdates();
+
+    long getConversionFailures();
+
+    long getValidationFailures();
+
+    long getSkippedUpdates();
+
+    String getGetterLatency();
+
+    String getConverterLatency();
+
+    String getValidatorLatency();
+
+    String getSetterLatency();
+
+    void reset();
+}
@@ -0,0 +1,90 @@
+package binding.metrics;
+
+import binding.utils.ListenerList;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Collects {@link BindingMetrics} of bindings keyed by Source class and Source property, so hot bindings can be found
+ * among thousands of live ones. Metrics are disabled by default : set registry to
+ * {@link binding.BindingSettingsBase#setMetricsRegistry(BindingMetricsRegistry)} to make bindings created
+ * with these settings record metrics when they are bound. Without registry bindings do not measure anything.
+ * Metrics can be inspected with JMX tools using {@link BindingMetricsJmxExporter}.
+ *
+ * @author igor.kostromin
+ *         02.08.13 18:50
+ */
+public class BindingMetricsRegistry {
+    private static final class Key {
+        private final Class<?> sourceClass;
+        private final String sourceProperty;
+
+        private Key( Class<?> sourceClass, String sourceProperty ) {
+            this.sourceClass = sourceClass;
+            this.sourceProperty = sourceProperty;
+        }
+
+        @Override
+        public boolean equals( Object o ) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key key = (Key) o;
+            return sourceClass == key.sourceClass && sourceProperty.equals( key.sourceProperty );
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * sourceClass.hashCode() + sourceProperty.hashCode();
+        }
+    }
+
+    private final ConcurrentMap<Key, BindingMetrics> metrics = new ConcurrentHashMap<Key, BindingMetrics>(  );
+    private final ListenerList<IBindingMetricsListener> listeners = new ListenerList<IBindingMetricsListener>(  );
+
+    /**
+     * Returns metrics for Source class and property, creating them if need.
+     */
+    public BindingMetrics getMetrics( Class<?> sourceClass, String sourceProperty ) {
+        if (null == sourceClass) throw new IllegalArgumentException( "sourceClass is null" );
+        if (null == sourceProperty) throw new IllegalArgumentException( "sourceProperty is null" );
+        Key key = new Key( sourceClass, sourceProperty );
+        BindingMetrics existing = metrics.get( key );
+        if (null != existing) return existing;
+        BindingMetrics created = new BindingMetrics( sourceClass, sourceProperty );
+        existing = metrics.putIfAbsent( key, created );
+        if (null != existing) return existing;
+        ListenerList.Snapshot<IBindingMetricsListener> snapshot = listeners.snapshot();
+        for ( int i = 0; i < snapshot.size(); i++ ) {
+            IBindingMetricsListener listener = snapshot.get( i );
+            if (null != listener) listener.metricsCreated( created );
+        }
+        return created;
+    }
+
+    /**
+     * Returns metrics collected so far.
+     */
+    public Collection<BindingMetrics> getAll() {
+        return new ArrayList<BindingMetrics>( metrics.values() );
+    }
+
+    /**
+     * Resets all metrics.
+     */
+    public void reset() {
+        for ( BindingMetrics m : metrics.values() ) {
+            m.reset();
+        }
+    }
+
+    public void addMetricsListener( IBindingMetricsListener listener ) {
+        listeners.add( listener );
+    }
+
+    public void removeMetricsListener( IBindingMetricsListener listener ) {
+        listeners.remove( listener );
+    }
+}
@@ -0,0 +1,12 @@
+package binding.metrics;
+
+/**
+ * @author igor.kostromin
+ *         02.08.13 18:40
+ */
+public interface IBindingMetricsListener {
+    /**
+     * Notification that metrics for new Source class and property have been created in registry.
+     */
+    public void metricsCreated(BindingMetrics metrics);
+}
@@ -0,0 +1,111 @@
+package binding.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Histogram of durations in nanoseconds with fixed log-linear buckets (like HdrHistogram) : each power of two
+ * range is split into {@link #SUB_BUCKETS} equal buckets, so relative error of reported values does not exceed
+ * 1/{@link #SUB_BUCKETS} and any duration up to Long.MAX_VALUE fits into fixed array. Recording is lock-free
+ * and does not allocate. Percentiles are reported as upper bounds of buckets.
+ *
+ * @author igor.kostromin
+ *         02.08.13 18:10
+ */
+public class LatencyHistogram {
+    public static final int SUB_BUCKETS = 8;
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int BUCKETS_COUNT = (64 - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray( BUCKETS_COUNT );
+    private final AtomicLong count = new AtomicLong(  );
+    private final AtomicLong totalNanos = new AtomicLong(  );
+    private final AtomicLong maxNanos = new AtomicLong(  );
+
+    /**
+     * Returns index of bucket containing value.
+     */
+    static int bucketIndex( long value ) {
+        if (value < SUB_BUCKETS) return (int) value;
+        int exponent = 63 - Long.numberOfLeadingZeros( value );
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Returns the largest value contained in bucket.
+     */
+    static long bucketUpperBound( int index ) {
+        if (index < SUB_BUCKETS) return index;
+        int exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        int subBucket = index % SUB_BUCKETS;
+        long lower = (long) (SUB_BUCKETS + subBucket) << (exponent - SUB_BUCKET_BITS);
+        return lower + (1L << (exponent - SUB_BUCKET_BITS)) - 1;
+    }
+
+    /**
+     * Records duration. Negative durations (caused by clock adjustments) are recorded as zero.
+     */
+    public void record( long nanos ) {
+        if (nanos < 0) nanos = 0;
+        counts.incrementAndGet( bucketIndex( nanos ) );
+        count.incrementAndGet();
+        totalNanos.addAndGet( nanos );
+        long max;
+        while ( nanos > (max = maxNanos.get()) ) {
+            if (maxNanos.compareAndSet( max, nanos )) break;
+        }
+    }
+
+    public long getCount() {
+        return count.get();
+    }
+
+    public long getTotalNanos() {
+        return totalNanos.get();
+    }
+
+    public long getMaxNanos() {
+        return maxNanos.get();
+    }
+
+    public long getMeanNanos() {
+        long n = count.get();
+        return n == 0 ? 0 : totalNanos.get() / n;
+    }
+
+    /**
+     * Returns value which is not less than given percent of recorded values (up to bucket precision).
+     * @param percentile Percentile in range [0, 100]
+     */
+    public long getValueAtPercentile( double percentile ) {
+        if (percentile < 0 || percentile > 100) throw new IllegalArgumentException( "percentile should be in [0, 100]" );
+        long total = count.get();
+        if (total == 0) return 0;
+        long required = Math.max( 1, (long) Math.ceil( total * percentile / 100 ) );
+        long seen = 0;
+        for ( int i = 0; i < BUCKETS_COUNT; i++ ) {
+            seen += counts.get( i );
+            if (seen >= required) return Math.min( bucketUpperBound( i ), maxNanos.get() );
+        }
+        return maxNanos.get();
+    }
+
+    /**
+     * Clears recorded values. Values recorded concurrently with reset can be partially lost.
+     */
+    public void reset() {
+        for ( int i = 0; i < BUCKETS_COUNT; i++ ) {
+            counts.set( i, 0 );
+        }
+        count.set( 0 );
+        totalNanos.set( 0 );
+        maxNanos.set( 0 );
+    }
+
+    @Override
+    public String toString() {
+        return String.format( "count=%d, mean=%d, p50=%d, p90=%d, p99=%d, max=%d (ns)", getCount(), getMeanNanos(),
+                getValueAtPercentile( 50 ), getValueAtPercentile( 90 ), getValueAtPercentile( 99 ), getMaxNanos() );
+    }
+}
@@ -0,0 +1,43 @@
+package binding.observables;
+
+/**
+ * Receives row notifications from {@link ObservableListRows}.
+ *
+ * @author igor.kostromin
+ *         02.08.13 14:00
+ */
+public interface IListRowsListener<V> {
+    /**
+     * Notification that rows have been inserted.
+     *
+     * @param position position of the first inserted row
+     * @param count the number of rows inserted
+     */
+    public void rowsInserted(int position, int count);
+
+    /**
+     * Notification that rows have been removed.
+     *
+     * @param position position of the first removed row
+     * @param count the number of rows removed
+     */
+    public void rowsRemoved(int position, int count);
+
+    /**
+     * Notification that items of rows have been replaced by another ones.
+     *
+     * @param position position of the first changed row
+     * @param count the number of rows changed
+     */
+    public void rowsChanged(int position, int count);
+
+    /**
+     * Notification that property of item shown by row view has been changed. Only views bound
+     * by {@link ObservableListRows#bindView(Object, int)} are notified.
+     *
+     * @param view view showing the item
+     * @param item the item
+     * @param propertyName name of changed property
+     */
+    public void rowPropertyChanged(V view, Object item, String propertyName);
+}
@@ -0,0 +1,25 @@
+package binding.observables;
+
+/**
+ * @author igor.kostromin
+ *         02.08.13 10:10
+ */
+public interface IObservableTextListener {
+    /**
+     * Notification that characters have been inserted into the text.
+     *
+     * @param text the {@code ObservableText} that has changed
+     * @param offset the offset the characters were inserted at
+     * @param length the number of characters that were inserted
+     */
+    public void textInserted(ObservableText text, int offset, int length);
+
+    /**
+     * Notification that characters have been removed from the text.
+     *
+     * @param text the {@code ObservableText} that has changed
+     * @param offset the offset the characters were removed from
+     * @param removed the characters that were removed
+     */
+    public void textRemoved(ObservableText text, int offset, String removed);
+}
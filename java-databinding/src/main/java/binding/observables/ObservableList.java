@@ -1,10 +1,11 @@
 package binding.observables;
 
+import binding.utils.ListenerList;
+
 import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * {@link IObservableList} implementation.
@@ -15,11 +16,34 @@ import java.util.concurrent.CopyOnWriteArrayList;
 public class ObservableList<E> extends AbstractList<E>
         implements IObservableList<E> {
     private List<E> list;
-    private List<IObservableListListener> listeners;
+    private final ListenerList<IObservableListListener> listeners = new ListenerList<IObservableListListener>(  );
 
     public ObservableList( List<E> list ) {
         this.list = list;
-        listeners = new CopyOnWriteArrayList<IObservableListListener>();
+    }
+
+    private void fireElementReplaced( int index, Object oldElement ) {
+        ListenerList.Snapshot<IObservableListListener> snapshot = listeners.snapshot();
+        for ( int i = 0; i < snapshot.size(); i++ ) {
+            IObservableListListener listener = snapshot.get( i );
+            if (null != listener) listener.listElementReplaced( this, index, oldElement );
+        }
+    }
+
+    private void fireElementsAdded( int index, int length ) {
+        ListenerList.Snapshot<IObservableListListener> snapshot = listeners.snapshot();
+        for ( int i = 0; i < snapshot.size(); i++ ) {
+            IObservableListListener listener = snapshot.get( i );
+            if (null != listener) listener.listElementsAdded( this, index, length );
+        }
+    }
+
+    private void fireElementsRemoved( int index, List oldElements ) {
+        ListenerList.Snapshot<IObservableListListener> snapshot = listeners.snapshot();
+        for ( int i = 0; i < snapshot.size(); i++ ) {
+            IObservableListListener listener = snapshot.get( i );
+            if (null != listener) listener.listElementsRemoved( this, index, oldElements );
+        }
     }
 
     public E get( int index ) {
@@ -33,9 +57,7 @@ public class ObservableList<E> extends AbstractList<E>
     public E set( int index, E element ) {
         E oldValue = list.set( index, element );
 
-        for ( IObservableListListener listener : listeners ) {
-            listener.listElementReplaced( this, index, oldValue );
-        }
+        fireElementReplaced( index, oldValue );
 
         return oldValue;
     }
@@ -44,23 +66,33 @@ public class ObservableList<E> extends AbstractList<E>
         list.add( index, element );
         modCount++;
 
-        for ( IObservableListListener listener : listeners ) {
-            listener.listElementsAdded( this, index, 1 );
-        }
+        fireElementsAdded( index, 1 );
     }
 
     public E remove( int index ) {
         E oldValue = list.remove( index );
         modCount++;
 
-        for ( IObservableListListener listener : listeners ) {
-            listener.listElementsRemoved( this, index,
-                    java.util.Collections.singletonList( oldValue ) );
-        }
+        fireElementsRemoved( index, java.util.Collections.singletonList( oldValue ) );
 
         return oldValue;
     }
 
+    /**
+     * Removes elements in range [fromIndex, toIndex) notifying listeners once.
+     * Also used by subList( fromIndex, toIndex ).clear().
+     */
+    @Override
+    public void removeRange( int fromIndex, int toIndex ) {
+        if (fromIndex == toIndex) return;
+        List<E> range = list.subList( fromIndex, toIndex );
+        List<E> removed = new ArrayList<E>( range );
+        range.clear();
+        modCount++;
+
+        fireElementsRemoved( fromIndex, removed );
+    }
+
     public boolean addAll( Collection<? extends E> c ) {
         return addAll( size(), c );
     }
@@ -69,9 +101,7 @@ public class ObservableList<E> extends AbstractList<E>
         if ( list.addAll( index, c ) ) {
             modCount++;
 
-            for ( IObservableListListener listener : listeners ) {
-                listener.listElementsAdded( this, index, c.size() );
-            }
+            fireElementsAdded( index, c.size() );
         }
 
         return false;
@@ -83,9 +113,7 @@ public class ObservableList<E> extends AbstractList<E>
         modCount++;
 
         if ( dup.size() != 0 ) {
-            for ( IObservableListListener listener : listeners ) {
-                listener.listElementsRemoved( this, 0, dup );
-            }
+            fireElementsRemoved( 0, dup );
         }
     }
 
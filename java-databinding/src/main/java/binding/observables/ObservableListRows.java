@@ -0,0 +1,124 @@
+package binding.observables;
+
+import binding.INotifyPropertyChanged;
+import binding.IPropertyChangedListener;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Translates changes of {@link IObservableList} into row notifications for list UI with view recycling
+ * (Android AdapterView, RecyclerView and similar). Structural list changes are reported as row ranges.
+ * Items implementing {@link INotifyPropertyChanged} are observed only while they are shown by some view :
+ * UI binds view to position when it is created or recycled, and property changes of item are reported
+ * with this view, so only its content is updated. Count of subscriptions does not exceed count of views.
+ * Class does not depend on UI toolkit.
+ *
+ * @author igor.kostromin
+ *         02.08.13 14:10
+ */
+public class ObservableListRows<V> implements IObservableListListener {
+    private final IObservableList list;
+    private final IListRowsListener<V> listener;
+    private final Map<V, RowSubscription> views = new IdentityHashMap<V, RowSubscription>(  );
+    private boolean attached;
+
+    public ObservableListRows( IObservableList list, IListRowsListener<V> listener ) {
+        if (null == list) throw new IllegalArgumentException( "list is null" );
+        if (null == listener) throw new IllegalArgumentException( "listener is null" );
+        this.list = list;
+        this.listener = listener;
+    }
+
+    public IObservableList getList() {
+        return list;
+    }
+
+    /**
+     * Starts observing list.
+     */
+    public void attach() {
+        if (attached) return;
+        list.addObservableListListener( this );
+        attached = true;
+    }
+
+    /**
+     * Stops observing list and items of all bound views.
+     */
+    public void detach() {
+        if (!attached) return;
+        list.removeObservableListListener( this );
+        for ( RowSubscription subscription : views.values() ) {
+            subscription.unsubscribe();
+        }
+        views.clear();
+        attached = false;
+    }
+
+    /**
+     * Binds view to item at position. Item previously shown by the view (if view is recycled)
+     * is not observed anymore.
+     * @return item at position
+     */
+    public Object bindView( V view, int position ) {
+        Object item = list.get( position );
+        RowSubscription subscription = views.get( view );
+        if (null != subscription) {
+            if (subscription.item == item) return item;
+            subscription.unsubscribe();
+        }
+        subscription = new RowSubscription( view, item );
+        views.put( view, subscription );
+        return item;
+    }
+
+    /**
+     * Unbinds view which is not used anymore.
+     */
+    public void unbindView( V view ) {
+        RowSubscription subscription = views.remove( view );
+        if (null != subscription) subscription.unsubscribe();
+    }
+
+    /**
+     * Returns count of views bound to items.
+     */
+    public int getBoundViewsCount() {
+        return views.size();
+    }
+
+    private class RowSubscription implements IPropertyChangedListener {
+        private final V view;
+        private final Object item;
+
+        private RowSubscription( V view, Object item ) {
+            this.view = view;
+            this.item = item;
+            if (item instanceof INotifyPropertyChanged)
+                ((INotifyPropertyChanged) item).addPropertyChangedListener( this );
+        }
+
+        void unsubscribe() {
+            if (item instanceof INotifyPropertyChanged)
+                ((INotifyPropertyChanged) item).removePropertyChangedListener( this );
+        }
+
+        public void propertyChanged( String propertyName ) {
+            listener.rowPropertyChanged( view, item, propertyName );
+        }
+    }
+
+    public void listElementsAdded( IObservableList list, int index, int length ) {
+        if (length > 0) listener.rowsInserted( index, length );
+    }
+
+    public void listElementsRemoved( IObservableList list, int index, List oldElements ) {
+        if (!oldElements.isEmpty()) listener.rowsRemoved( index, oldElements.size() );
+    }
+
+    public void listElementReplaced( IObservableList list, int index, Object oldElement ) {
+        listener.rowsChanged( index, 1 );
+    }
+}
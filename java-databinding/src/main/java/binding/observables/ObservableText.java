@@ -0,0 +1,190 @@
+package binding.observables;
+
+import binding.utils.ListenerList;
+
+/**
+ * Mutable text which notifies listeners about inserted and removed ranges. Characters are stored
+ * in gap buffer : free space is kept at the position of the last edit, so consecutive edits at close
+ * positions move only characters between them, and cost of edit does not depend on text length.
+ * Use this class as Source property to bind large texts by edits instead of copying whole text
+ * on each change.
+ *
+ * @author igor.kostromin
+ *         02.08.13 10:20
+ */
+public class ObservableText implements CharSequence {
+    private static final int MIN_GAP = 16;
+
+    private char[] buffer;
+    private int gapStart;
+    private int gapEnd;
+    private final ListenerList<IObservableTextListener> listeners = new ListenerList<IObservableTextListener>(  );
+
+    public ObservableText() {
+        this( "" );
+    }
+
+    public ObservableText( CharSequence text ) {
+        int length = text.length();
+        buffer = new char[length + MIN_GAP];
+        for ( int i = 0; i < length; i++ ) {
+            buffer[i] = text.charAt( i );
+        }
+        gapStart = length;
+        gapEnd = buffer.length;
+    }
+
+    public int length() {
+        return buffer.length - (gapEnd - gapStart);
+    }
+
+    public char charAt( int index ) {
+        if (index < 0 || index >= length()) throw new IndexOutOfBoundsException( "index: " + index );
+        return index < gapStart ? buffer[index] : buffer[index + gapEnd - gapStart];
+    }
+
+    public CharSequence subSequence( int start, int end ) {
+        return getText( start, end - start );
+    }
+
+    /**
+     * Returns characters of range [offset, offset + length).
+     */
+    public String getText( int offset, int length ) {
+        checkRange( offset, length );
+        char[] chars = new char[length];
+        getChars( offset, offset + length, chars, 0 );
+        return new String( chars );
+    }
+
+    /**
+     * Copies characters of range [start, end) into destination array.
+     */
+    public void getChars( int start, int end, char[] dst, int dstBegin ) {
+        checkRange( start, end - start );
+        if (end <= gapStart) {
+            System.arraycopy( buffer, start, dst, dstBegin, end - start );
+        } else if (start >= gapStart) {
+            System.arraycopy( buffer, start + gapEnd - gapStart, dst, dstBegin, end - start );
+        } else {
+            int before = gapStart - start;
+            System.arraycopy( buffer, start, dst, dstBegin, before );
+            System.arraycopy( buffer, gapEnd, dst, dstBegin + before, end - gapStart );
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getText( 0, length() );
+    }
+
+    private void checkRange( int offset, int length ) {
+        if (offset < 0 || length < 0 || offset + length > length())
+            throw new IndexOutOfBoundsException( String.format( "offset: %d, length: %d, text length: %d",
+                    offset, length, length() ) );
+    }
+
+    /**
+     * Moves gap to offset and makes it not smaller than required.
+     */
+    private void moveGap( int offset, int required ) {
+        if (offset < gapStart) {
+            int count = gapStart - offset;
+            System.arraycopy( buffer, offset, buffer, gapEnd - count, count );
+            gapStart -= count;
+            gapEnd -= count;
+        } else if (offset > gapStart) {
+            int count = offset - gapStart;
+            System.arraycopy( buffer, gapEnd, buffer, gapStart, count );
+            gapStart += count;
+            gapEnd += count;
+        }
+        if (gapEnd - gapStart < required) {
+            int length = length();
+            char[] newBuffer = new char[Math.max( buffer.length * 2, length + required + MIN_GAP )];
+            System.arraycopy( buffer, 0, newBuffer, 0, gapStart );
+            int after = buffer.length - gapEnd;
+            System.arraycopy( buffer, gapEnd, newBuffer, newBuffer.length - after, after );
+            gapEnd = newBuffer.length - after;
+            buffer = newBuffer;
+        }
+    }
+
+    /**
+     * Inserts characters at offset.
+     */
+    public void insert( int offset, CharSequence text ) {
+        checkRange( offset, 0 );
+        int length = text.length();
+        if (length == 0) return;
+        moveGap( offset, length );
+        if (text instanceof String) {
+            ((String) text).getChars( 0, length, buffer, gapStart );
+        } else {
+            for ( int i = 0; i < length; i++ ) {
+                buffer[gapStart + i] = text.charAt( i );
+            }
+        }
+        gapStart += length;
+        fireInserted( offset, length );
+    }
+
+    /**
+     * Appends characters to the end of text.
+     */
+    public void append( CharSequence text ) {
+        insert( length(), text );
+    }
+
+    /**
+     * Removes characters of range [offset, offset + length).
+     */
+    public void remove( int offset, int length ) {
+        checkRange( offset, length );
+        if (length == 0) return;
+        String removed = getText( offset, length );
+        moveGap( offset, 0 );
+        gapEnd += length;
+        fireRemoved( offset, removed );
+    }
+
+    /**
+     * Replaces characters of range [offset, offset + length) by text. Listeners are notified
+     * about removal and insertion.
+     */
+    public void replace( int offset, int length, CharSequence text ) {
+        remove( offset, length );
+        insert( offset, text );
+    }
+
+    /**
+     * Replaces whole text.
+     */
+    public void setText( CharSequence text ) {
+        replace( 0, length(), text );
+    }
+
+    private void fireInserted( int offset, int length ) {
+        ListenerList.Snapshot<IObservableTextListener> snapshot = listeners.snapshot();
+        for ( int i = 0; i < snapshot.size(); i++ ) {
+            IObservableTextListener listener = snapshot.get( i );
+            if (null != listener) listener.textInserted( this, offset, length );
+        }
+    }
+
+    private void fireRemoved( int offset, String removed ) {
+        ListenerList.Snapshot<IObservableTextListener> snapshot = listeners.snapshot();
+        for ( int i = 0; i < snapshot.size(); i++ ) {
+            IObservableTextListener listener = snapshot.get( i );
+            if (null != listener) listener.textRemoved( this, offset, removed );
+        }
+    }
+
+    public void addObservableTextListener( IObservableTextListener listener ) {
+        listeners.add( listener );
+    }
+
+    public void removeObservableTextListener( IObservableTextListener listener ) {
+        listeners.remove( listener );
+    }
+}
@@ -0,0 +1,167 @@
+package binding.utils;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * List of listeners for implementing {@link binding.INotifyPropertyChanged} and
+ * {@link binding.observables.IObservableList}. Listeners are compared by identity, adding already
+ * registered listener does nothing.
+ * <p>Add and remove are O(1) amortized : listeners are appended to array of entries, removal clears
+ * the entry in place, array is compacted only when more than half of slots are empty. Dispatching
+ * code takes a snapshot without locks and allocations :</p>
+ * <p><blockquote><pre>
+ * ListenerList.Snapshot&lt;IPropertyChangedListener&gt; snapshot = listeners.snapshot();
+ * for ( int i = 0; i &lt; snapshot.size(); i++ ) {
+ *     IPropertyChangedListener listener = snapshot.get( i );
+ *     if (null != listener) listener.propertyChanged( propertyName );
+ * }
+ * </pre></blockquote></p>
+ * <p>Listeners may be added and removed during dispatch and from other threads. Listener added
+ * after snapshot has been taken is not notified by it. Removed listener is not returned
+ * by snapshot starting from the moment of removal (entries are shared between snapshots).</p>
+ *
+ * @author igor.kostromin
+ *         30.07.13 17:05
+ */
+public class ListenerList<L> {
+    private static final class Entry {
+        private volatile Object listener;
+        private int index;
+
+        private Entry( Object listener, int index ) {
+            this.listener = listener;
+            this.index = index;
+        }
+    }
+
+    /**
+     * Listeners registered at the moment snapshot was taken. Slots of removed listeners return null.
+     */
+    public static final class Snapshot<L> {
+        private final Entry[] entries;
+        private final int size;
+
+        private Snapshot( Entry[] entries, int size ) {
+            this.entries = entries;
+            this.size = size;
+        }
+
+        /**
+         * Returns count of slots.
+         */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Returns listener in slot or null if listener has been removed.
+         */
+        @SuppressWarnings( "unchecked" )
+        public L get( int i ) {
+            if (i >= size) throw new IndexOutOfBoundsException( String.valueOf( i ) );
+            Entry entry = entries[i];
+            return null == entry ? null : (L) entry.listener;
+        }
+    }
+
+    private static final int MIN_CAPACITY = 4;
+    private static final Snapshot EMPTY = new Snapshot( new Entry[0], 0 );
+
+    @SuppressWarnings( "unchecked" )
+    private volatile Snapshot<L> snapshot = EMPTY;
+    private int removed;
+    private final Map<L, Entry> index = new IdentityHashMap<L, Entry>(  );
+
+    /**
+     * Registers listener.
+     * @return false if listener is already registered
+     */
+    public synchronized boolean add( L listener ) {
+        if (null == listener) throw new IllegalArgumentException( "listener is null" );
+        if (index.containsKey( listener )) return false;
+        Entry[] entries = snapshot.entries;
+        int size = snapshot.size;
+        if (size == entries.length) {
+            // capacity is taken from live count, so compacted array has room for as many adds as listeners
+            entries = compact( entries, size, Math.max( MIN_CAPACITY, index.size() * 2 ) );
+            size = index.size();
+        }
+        // slot beyond size of published snapshot is not visible to dispatchers yet
+        Entry entry = new Entry( listener, size );
+        entries[size] = entry;
+        index.put( listener, entry );
+        snapshot = new Snapshot<L>( entries, size + 1 );
+        return true;
+    }
+
+    /**
+     * Unregisters listener.
+     * @return false if listener was not registered
+     */
+    @SuppressWarnings( "unchecked" )
+    public synchronized boolean remove( L listener ) {
+        Entry entry = index.remove( listener );
+        if (null == entry) return false;
+        entry.listener = null;
+        if (index.isEmpty()) {
+            snapshot = EMPTY;
+            removed = 0;
+        } else if (++removed > index.size() && removed >= MIN_CAPACITY) {
+            // new array is compacted, current one is left intact for dispatches in progress
+            Entry[] entries = compact( snapshot.entries, snapshot.size, Math.max( MIN_CAPACITY, index.size() * 2 ) );
+            snapshot = new Snapshot<L>( entries, index.size() );
+        } else {
+            snapshot.entries[entry.index] = null;
+        }
+        return true;
+    }
+
+    /**
+     * Returns live entries copied into new array of specified capacity.
+     */
+    private Entry[] compact( Entry[] entries, int size, int capacity ) {
+        Entry[] compacted = new Entry[capacity];
+        int count = 0;
+        for ( int i = 0; i < size; i++ ) {
+            Entry entry = entries[i];
+            if (null != entry && null != entry.listener) {
+                entry.index = count;
+                compacted[count++] = entry;
+            }
+        }
+        removed = 0;
+        return compacted;
+    }
+
+    /**
+     * Unregisters all listeners.
+     */
+    @SuppressWarnings( "unchecked" )
+    public synchronized void clear() {
+        for ( Entry entry : index.values() ) {
+            entry.listener = null;
+        }
+        index.clear();
+        snapshot = EMPTY;
+        removed = 0;
+    }
+
+    /**
+     * Returns count of registered listeners.
+     */
+    public synchronized int getCount() {
+        return index.size();
+    }
+
+    public synchronized boolean isEmpty() {
+        return index.isEmpty();
+    }
+
+    /**
+     * Returns registered listeners for dispatching.
+     */
+    public Snapshot<L> snapshot() {
+        return snapshot;
+    }
+}
@@ -0,0 +1,58 @@
+package binding.utils;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Thread-safe map of limited size : when capacity is exceeded, the least recently used entry is evicted.
+ * Used to cache parsed markup and compiled expressions keyed by their text, so arbitrary strings passed
+ * by application do not grow the cache without bound.
+ *
+ * @author igor.kostromin
+ *         03.08.13 14:20
+ */
+public final class LruCache<K, V> {
+    private final int capacity;
+    private final LinkedHashMap<K, V> map;
+
+    public LruCache( final int capacity ) {
+        if (capacity <= 0) throw new IllegalArgumentException( "capacity should be positive" );
+        this.capacity = capacity;
+        this.map = new LinkedHashMap<K, V>( 16, 0.75f, true ) {
+            @Override
+            protected boolean removeEldestEntry( Map.Entry<K, V> eldest ) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns cached value or null.
+     */
+    public synchronized V get( K key ) {
+        return map.get( key );
+    }
+
+    /**
+     * Caches value if there is no value for key yet.
+     * @return value cached for key : existing one or the passed one
+     */
+    public synchronized V putIfAbsent( K key, V value ) {
+        V existing = map.get( key );
+        if (null != existing) return existing;
+        map.put( key, value );
+        return value;
+    }
+
+    public synchronized int size() {
+        return map.size();
+    }
+
+    public synchronized void clear() {
+        map.clear();
+    }
+}
@@ -2,6 +2,8 @@ package binding.utils;
 
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * User: igor.kostromin
@@ -10,6 +12,76 @@ import java.lang.reflect.Modifier;
  */
 public class PropertyUtils {
 
+    // resolved property paths cache : root class -> (path -> accessors chain)
+    private static final ConcurrentMap<Class<?>, ConcurrentMap<String, PropertyInfo[]>> pathsCache =
+            new ConcurrentHashMap<Class<?>, ConcurrentMap<String, PropertyInfo[]>>(  );
+
+    /**
+     * Returns true if propertyName is a property path like "customer.address.city".
+     */
+    public static boolean isPropertyPath(String propertyName) {
+        return propertyName.indexOf('.') != -1;
+    }
+
+    /**
+     * Resolves property path like "customer.address.city" into chain of properties info.
+     * Every element of chain except last must have a getter. Class of next property owner
+     * is determined by type of previous property. Resolved chains are cached per root class,
+     * so returned array should not be modified.
+     */
+    public static PropertyInfo[] getPropertyPath(Class<?> cls, String path) {
+        if (null == cls) throw new IllegalArgumentException("cls is null");
+        if (null == path || path.length() == 0)
+            throw new IllegalArgumentException("path is null or empty");
+        ConcurrentMap<String, PropertyInfo[]> classPaths = pathsCache.get(cls);
+        if (null == classPaths) {
+            classPaths = new ConcurrentHashMap<String, PropertyInfo[]>();
+            ConcurrentMap<String, PropertyInfo[]> existing = pathsCache.putIfAbsent(cls, classPaths);
+            if (null != existing) classPaths = existing;
+        }
+        PropertyInfo[] chain = classPaths.get(path);
+        if (null == chain) {
+            chain = resolvePropertyPath(cls, path);
+            classPaths.putIfAbsent(path, chain);
+        }
+        return chain;
+    }
+
+    private static PropertyInfo[] resolvePropertyPath(Class<?> cls, String path) {
+        String[] names = splitPropertyPath(path);
+        PropertyInfo[] chain = new PropertyInfo[names.length];
+        Class<?> ownerClass = cls;
+        for (int i = 0; i < names.length; i++) {
+            chain[i] = getProperty(ownerClass, names[i]);
+            if (i < names.length - 1) {
+                if (null == chain[i].getter)
+                    throw new RuntimeException(String.format("Property %s in path %s has no getter", names[i], path));
+                ownerClass = chain[i].clazz;
+            }
+        }
+        return chain;
+    }
+
+    /**
+     * Splits property path into property names.
+     */
+    public static String[] splitPropertyPath(String path) {
+        int count = 1;
+        for (int i = 0; i < path.length(); i++)
+            if (path.charAt(i) == '.') count++;
+        String[] names = new String[count];
+        int start = 0;
+        for (int i = 0; i < count; i++) {
+            int end = path.indexOf('.', start);
+            if (end == -1) end = path.length();
+            if (end == start)
+                throw new IllegalArgumentException(String.format("Property path %s contains empty property name", path));
+            names[i] = path.substring(start, end);
+            start = end + 1;
+        }
+        return names;
+    }
+
     public static PropertyInfo getProperty(Class<?> cls, String propertyName) {
         if (null == cls) throw new IllegalArgumentException("cls is null");
         if (null == propertyName || propertyName.length() == 0)
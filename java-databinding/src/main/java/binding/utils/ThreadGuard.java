@@ -0,0 +1,75 @@
+package binding.utils;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Set of threads currently inside guarded section, used by bindings to recognize changes made by themselves.
+ * Threads entering concurrently do not clear each other's mark, and nested entering by the same thread
+ * is recognized. Usage :
+ * <p><blockquote><pre>
+ * boolean entered = guard.enter();
+ * try {
+ *     ...
+ * } finally {
+ *     if (entered) guard.exit();
+ * }
+ * </pre></blockquote></p>
+ * The first thread is stored in a single field, so uncontended enter/exit do not allocate.
+ *
+ * @author igor.kostromin
+ *         03.08.13 11:10
+ */
+public final class ThreadGuard {
+    private final AtomicReference<Thread> owner = new AtomicReference<Thread>(  );
+    // threads entered while owner was inside, created on first contention
+    private volatile Set<Thread> others;
+
+    /**
+     * Marks current thread as being inside the section.
+     * @return false if current thread is already inside (nested call), in this case exit() should not be called
+     */
+    public boolean enter() {
+        Thread current = Thread.currentThread();
+        if (owner.compareAndSet( null, current )) return true;
+        if (owner.get() == current) return false;
+        return getOthers().add( current );
+    }
+
+    /**
+     * Clears mark of current thread set by {@link #enter()}.
+     */
+    public void exit() {
+        Thread current = Thread.currentThread();
+        if (!owner.compareAndSet( current, null )) {
+            Set<Thread> set = others;
+            if (null != set) set.remove( current );
+        }
+    }
+
+    /**
+     * Returns true if current thread is inside the section.
+     */
+    public boolean isEntered() {
+        Thread current = Thread.currentThread();
+        if (owner.get() == current) return true;
+        Set<Thread> set = others;
+        return null != set && set.contains( current );
+    }
+
+    private Set<Thread> getOthers() {
+        Set<Thread> set = others;
+        if (null == set) {
+            synchronized ( this ) {
+                set = others;
+                if (null == set) {
+                    set = Collections.newSetFromMap( new ConcurrentHashMap<Thread, Boolean>(  ) );
+                    others = set;
+                }
+            }
+        }
+        return set;
+    }
+}
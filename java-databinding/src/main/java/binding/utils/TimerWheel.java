@@ -0,0 +1,174 @@
+package binding.utils;
+
+/**
+ * Hashed timer wheel : schedules many timeouts using single platform timer. Timeouts are placed into
+ * slots by their deadline tick, so scheduling, rescheduling and cancelling are O(1), and only one slot
+ * is inspected per tick. Timeout objects are reused, so debouncing (rescheduling the same timeout
+ * on each event) does not allocate.
+ * <p>Platform subclass starts periodic timer in {@link #startTicking()}, calls {@link #advance()} on each timer
+ * event and stops it in {@link #stopTicking()} when there are no scheduled timeouts.
+ * Wheel is not thread-safe : all methods should be called on the same thread timer fires on
+ * (for example, UI thread).</p>
+ *
+ * @author igor.kostromin
+ *         29.07.13 10:30
+ */
+public abstract class TimerWheel {
+    /**
+     * Task which can be scheduled in wheel.
+     */
+    public static final class Timeout {
+        private final Runnable task;
+        private long deadlineTick;
+        private int slot = -1;
+        private Timeout prev;
+        private Timeout next;
+        // expired timeouts are collected into chain and fired after slot traversal
+        private Timeout nextExpired;
+        private boolean expired;
+
+        public Timeout( Runnable task ) {
+            if (null == task) throw new IllegalArgumentException( "task is null" );
+            this.task = task;
+        }
+
+        /**
+         * Returns true if timeout is scheduled and not fired yet.
+         */
+        public boolean isScheduled() {
+            return slot != -1;
+        }
+    }
+
+    private final long tickMillis;
+    private final Timeout[] slots;
+    private final int mask;
+    private final long startMillis;
+    private long currentTick;
+    private int count;
+
+    /**
+     * @param tickMillis Wheel resolution, timeouts fire not earlier than requested and not later than one tick after
+     * @param slotsCount Number of slots, will be rounded up to power of two
+     */
+    protected TimerWheel( int tickMillis, int slotsCount ) {
+        if (tickMillis <= 0) throw new IllegalArgumentException( "tickMillis should be positive" );
+        if (slotsCount <= 0) throw new IllegalArgumentException( "slotsCount should be positive" );
+        int size = 1;
+        while ( size < slotsCount ) size <<= 1;
+        this.tickMillis = tickMillis;
+        this.slots = new Timeout[size];
+        this.mask = size - 1;
+        this.startMillis = currentTimeMillis();
+    }
+
+    public long getTickMillis() {
+        return tickMillis;
+    }
+
+    /**
+     * Schedules timeout to fire after specified delay. If timeout is already scheduled, it is rescheduled.
+     */
+    public void schedule( Timeout timeout, long delayMillis ) {
+        if (delayMillis < 0) throw new IllegalArgumentException( "delayMillis is negative" );
+        if (timeout.isScheduled()) unlink( timeout );
+        timeout.expired = false;
+        long elapsed = currentTimeMillis() - startMillis;
+        // wheel does not tick while it is empty, skip idle ticks
+        if (count == 0) currentTick = Math.max( currentTick, elapsed / tickMillis );
+        // round up : timeout should not fire earlier than requested
+        long deadline = (elapsed + delayMillis + tickMillis - 1) / tickMillis;
+        timeout.deadlineTick = Math.max( deadline, currentTick + 1 );
+        int slot = (int) (timeout.deadlineTick & mask);
+        timeout.slot = slot;
+        timeout.prev = null;
+        timeout.next = slots[slot];
+        if (null != timeout.next) timeout.next.prev = timeout;
+        slots[slot] = timeout;
+        if (count++ == 0) startTicking();
+    }
+
+    /**
+     * Cancels timeout if it is scheduled.
+     */
+    public void cancel( Timeout timeout ) {
+        timeout.expired = false;
+        if (timeout.isScheduled()) {
+            unlink( timeout );
+            if (count == 0) stopTicking();
+        }
+    }
+
+    /**
+     * Returns number of scheduled timeouts.
+     */
+    public int getScheduledCount() {
+        return count;
+    }
+
+    private void unlink( Timeout timeout ) {
+        if (null != timeout.prev)
+            timeout.prev.next = timeout.next;
+        else
+            slots[timeout.slot] = timeout.next;
+        if (null != timeout.next) timeout.next.prev = timeout.prev;
+        timeout.prev = null;
+        timeout.next = null;
+        timeout.slot = -1;
+        count--;
+    }
+
+    /**
+     * Fires all timeouts expired by now. Should be called by platform timer on each tick.
+     * Ticks missed due to timer delays are processed too.
+     */
+    protected void advance() {
+        long nowTick = (currentTimeMillis() - startMillis) / tickMillis;
+        while ( currentTick < nowTick && count > 0 ) {
+            currentTick++;
+            int slot = (int) (currentTick & mask);
+            Timeout expiredChain = null;
+            Timeout timeout = slots[slot];
+            while ( null != timeout ) {
+                Timeout next = timeout.next;
+                // timeouts of next rounds stay in slot
+                if (timeout.deadlineTick <= currentTick) {
+                    unlink( timeout );
+                    timeout.expired = true;
+                    timeout.nextExpired = expiredChain;
+                    expiredChain = timeout;
+                }
+                timeout = next;
+            }
+            // tasks can schedule or cancel other timeouts, so they are run after slot traversal
+            while ( null != expiredChain ) {
+                timeout = expiredChain;
+                expiredChain = timeout.nextExpired;
+                timeout.nextExpired = null;
+                if (timeout.expired) {
+                    timeout.expired = false;
+                    timeout.task.run();
+                }
+            }
+        }
+        currentTick = Math.max( currentTick, nowTick );
+        if (count == 0) stopTicking();
+    }
+
+    /**
+     * Returns current time, can be overridden for testing.
+     */
+    protected long currentTimeMillis() {
+        return System.nanoTime() / 1000000;
+    }
+
+    /**
+     * Starts periodic platform timer calling {@link #advance()} every tick.
+     */
+    protected abstract void startTicking();
+
+    /**
+     * Stops platform timer.
+     */
+    protected abstract void stopTicking();
+}
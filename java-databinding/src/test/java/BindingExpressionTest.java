@@ -0,0 +1,133 @@
+import binding.MultiBinding;
+import binding.expressions.BindingExpression;
+import binding.expressions.ExpressionSyntaxException;
+import junit.framework.Assert;
+import org.junit.Test;
+
+/**
+ * @author igor.kostromin
+ *         23.07.13 14:20
+ */
+public class BindingExpressionTest {
+    public static class Customer extends PropertyPathTest.Notifier {
+        private String name;
+        private Integer age;
+        private Customer manager;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName( String name ) {
+            this.name = name;
+            raisePropertyChange( "name" );
+        }
+
+        public Integer getAge() {
+            return age;
+        }
+
+        public void setAge( Integer age ) {
+            this.age = age;
+            raisePropertyChange( "age" );
+        }
+
+        public Customer getManager() {
+            return manager;
+        }
+
+        public void setManager( Customer manager ) {
+            this.manager = manager;
+            raisePropertyChange( "manager" );
+        }
+    }
+
+    @Test
+    public void testArithmetic() {
+        Assert.assertEquals( 7, BindingExpression.compile( "1 + 2 * 3" ).evaluate( new Object[0] ) );
+        Assert.assertEquals( 9, BindingExpression.compile( "(1 + 2) * 3" ).evaluate( new Object[0] ) );
+        Assert.assertEquals( 2.5, BindingExpression.compile( "5 / 2.0" ).evaluate( new Object[0] ) );
+        Assert.assertEquals( -1L, BindingExpression.compile( "-(7L % 4 - 2)" ).evaluate( new Object[0] ) );
+        Assert.assertEquals( "a1", BindingExpression.compile( "'a' + 1" ).evaluate( new Object[0] ) );
+    }
+
+    @Test
+    public void testPathsAndComparisons() {
+        BindingExpression expression = BindingExpression.compile( "age >= 18 && name != null ? name : 'minor'" );
+        Assert.assertEquals( 2, expression.getPaths().length );
+        Assert.assertEquals( "age", expression.getPaths()[0] );
+        Assert.assertEquals( "name", expression.getPaths()[1] );
+        Assert.assertEquals( "John", expression.evaluate( new Object[] { 20, "John" } ) );
+        Assert.assertEquals( "minor", expression.evaluate( new Object[] { 17, "John" } ) );
+        Assert.assertEquals( "minor", expression.evaluate( new Object[] { 20, null } ) );
+    }
+
+    @Test
+    public void testNullSafeNavigation() {
+        Customer customer = new Customer();
+        customer.setName( "John" );
+        BindingExpression expression = BindingExpression.compile( "manager?.name == null ? 'none' : manager.name" );
+        Assert.assertEquals( 1, expression.getPaths().length );
+        Assert.assertEquals( "manager.name", expression.getPaths()[0] );
+        Assert.assertEquals( "none", expression.evaluate( customer ) );
+        Customer manager = new Customer();
+        manager.setName( "Bob" );
+        customer.setManager( manager );
+        Assert.assertEquals( "Bob", expression.evaluate( customer ) );
+
+        // member access on computed value
+        customer.setAge( 30 );
+        Assert.assertEquals( "Bob", BindingExpression.compile( "(age > 18 ? manager : null)?.name" ).evaluate( customer ) );
+        Assert.assertNull( BindingExpression.compile( "(age > 40 ? manager : null)?.name" ).evaluate( customer ) );
+    }
+
+    @Test
+    public void testFormat() {
+        Customer customer = new Customer();
+        customer.setName( "John" );
+        customer.setAge( 30 );
+        Assert.assertEquals( "John (30)", BindingExpression.compile( "format('%s (%d)', name, age)" ).evaluate( customer ) );
+    }
+
+    @Test
+    public void testCaching() {
+        Assert.assertSame( BindingExpression.compile( "age + 1" ), BindingExpression.compile( "age + 1" ) );
+    }
+
+    @Test
+    public void testSyntaxError() {
+        try {
+            BindingExpression.compile( "age + * 2" );
+            Assert.fail();
+        } catch ( ExpressionSyntaxException e ) {
+            Assert.assertEquals( 6, e.getOffset() );
+        }
+        try {
+            BindingExpression.compile( "(age + 2" );
+            Assert.fail();
+        } catch ( ExpressionSyntaxException e ) {
+            Assert.assertEquals( 8, e.getOffset() );
+        }
+    }
+
+    @Test
+    public void testBinding() {
+        Customer customer = new Customer();
+        customer.setName( "John" );
+        customer.setAge( 30 );
+        MultiBindingTest.Label label = new MultiBindingTest.Label();
+        MultiBinding binding = MultiBinding.forExpression( label, "text", customer, "name + ', ' + (age + 1)" );
+        binding.bind();
+        Assert.assertEquals( "John, 31", label.getText() );
+        customer.setAge( 40 );
+        Assert.assertEquals( "John, 41", label.getText() );
+        binding.unbind();
+        Assert.assertEquals( 0, customer.getListenersCount() );
+
+        // non-string result is converted to string target property
+        MultiBinding ageBinding = MultiBinding.forExpression( label, "text", customer, "age * 2" );
+        ageBinding.bind();
+        Assert.assertEquals( "80", label.getText() );
+        ageBinding.unbind();
+    }
+}
@@ -0,0 +1,80 @@
+import binding.BindingMode;
+import binding.UpdateSourceTrigger;
+import binding.expressions.BindingMarkup;
+import binding.expressions.ExpressionSyntaxException;
+import junit.framework.Assert;
+import org.junit.Test;
+
+/**
+ * @author igor.kostromin
+ *         24.07.13 13:05
+ */
+public class BindingMarkupTest {
+    @Test
+    public void testParse() {
+        BindingMarkup markup = BindingMarkup.parse( "{Path=customer.name, mode=twoway, UpdateSourceTrigger = LostFocus}" );
+        Assert.assertEquals( "customer.name", markup.path );
+        Assert.assertNull( markup.expression );
+        Assert.assertEquals( BindingMode.TwoWay, markup.mode );
+        Assert.assertEquals( "LostFocus", markup.updateSourceTrigger );
+
+        markup = BindingMarkup.parse( "{ Path = name }" );
+        Assert.assertEquals( "name", markup.path );
+        Assert.assertEquals( BindingMode.Default, markup.mode );
+        Assert.assertEquals( BindingMarkup.DEFAULT_TRIGGER, markup.updateSourceTrigger );
+
+        // whitespace before separator does not make path an expression
+        markup = BindingMarkup.parse( "{Path=customer.name , Mode=TwoWay }" );
+        Assert.assertEquals( "customer.name", markup.path );
+        Assert.assertNull( markup.expression );
+        Assert.assertEquals( BindingMode.TwoWay, markup.mode );
+    }
+
+    @Test
+    public void testDelayedTriggers() {
+        BindingMarkup markup = BindingMarkup.parse( "{Path=name, Mode=TwoWay, UpdateSourceTrigger=Debounce}" );
+        Assert.assertEquals( "Debounce", markup.updateSourceTrigger );
+        Assert.assertEquals( UpdateSourceTrigger.Debounce, UpdateSourceTrigger.valueOf( markup.updateSourceTrigger ) );
+
+        markup = BindingMarkup.parse( "{Path=name, UpdateSourceTrigger=throttle}" );
+        Assert.assertEquals( UpdateSourceTrigger.Throttle, UpdateSourceTrigger.valueOf( markup.updateSourceTrigger ) );
+    }
+
+    @Test
+    public void testExpression() {
+        BindingMarkup markup = BindingMarkup.parse( "{Path=format('%s, %s', lastName, firstName), Mode=OneWay}" );
+        Assert.assertEquals( "format('%s, %s', lastName, firstName)", markup.path );
+        Assert.assertNotNull( markup.expression );
+        Assert.assertEquals( "Doe, John", markup.expression.evaluate( new Object[] { "Doe", "John" } ) );
+        Assert.assertEquals( BindingMode.OneWay, markup.mode );
+    }
+
+    @Test
+    public void testCaching() {
+        Assert.assertSame( BindingMarkup.parse( "{Path=age}" ), BindingMarkup.parse( "{Path=age}" ) );
+    }
+
+    private static void assertError( String text, String reason, int offset ) {
+        try {
+            BindingMarkup.parse( text );
+            Assert.fail();
+        } catch ( ExpressionSyntaxException e ) {
+            Assert.assertEquals( offset, e.getOffset() );
+            Assert.assertEquals( reason, e.getReason() );
+            Assert.assertEquals( String.format( "%s at offset %d in expression %s", reason, offset, text ), e.getMessage() );
+        }
+    }
+
+    @Test
+    public void testErrorOffsets() {
+        assertError( "Path=name}", "Expected '{'", 0 );
+        assertError( "{Path=name", "Expected '}'", 10 );
+        assertError( "{Path=name, Mode=Sometimes}", "Unknown mode", 17 );
+        assertError( "{Path=name, Color=red}", "Unknown property", 12 );
+        assertError( "{Path=name, Path=age}", "Path redefinition", 12 );
+        assertError( "{Path name}", "Expected '='", 6 );
+        assertError( "{Mode=OneWay}", "Path should be defined", 13 );
+        // error inside expression is reported relative to whole markup
+        assertError( "{Path=age + * 2}", "Unexpected character '*'", 12 );
+    }
+}
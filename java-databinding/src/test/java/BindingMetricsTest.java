@@ -0,0 +1,186 @@
+import binding.*;
+import binding.metrics.*;
+import binding.validators.RequiredValidator;
+import junit.framework.Assert;
+import org.junit.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+/**
+ * @author igor.kostromin
+ *         02.08.13 19:40
+ */
+public class BindingMetricsTest {
+    public static class Source extends PropertyChangedSupport {
+        private Integer i;
+
+        public Integer getI() {
+            return i;
+        }
+
+        public void setI( Integer i ) {
+            this.i = i;
+            raisePropertyChange( "i" );
+        }
+    }
+
+    public static class Target extends PropertyChangedSupport {
+        private String text;
+
+        public String getText() {
+            return text;
+        }
+
+        public void setText( String text ) {
+            this.text = text;
+            raisePropertyChange( "text" );
+        }
+    }
+
+    private static BindingSettingsBase createSettings( BindingMetricsRegistry registry ) {
+        BindingSettingsBase settings = new BindingSettingsBase();
+        settings.initializeDefault();
+        settings.setMetricsRegistry( registry );
+        return settings;
+    }
+
+    @Test
+    public void testDisabledByDefault() {
+        BindingBase binding = new BindingBase( new Target(), "text", new Source(), "i", BindingMode.TwoWay,
+                createSettings( null ) );
+        binding.bind();
+        Assert.assertNull( binding.getMetrics() );
+        binding.unbind();
+    }
+
+    @Test
+    public void testCounters() {
+        BindingMetricsRegistry registry = new BindingMetricsRegistry();
+        Source source = new Source();
+        Target target = new Target();
+        BindingBase binding = new BindingBase( target, "text", source, "i", BindingMode.TwoWay, createSettings( registry ) );
+        binding.setValidator( new RequiredValidator() );
+        source.setI( 1 );
+        binding.bind();
+        BindingMetrics metrics = binding.getMetrics();
+        Assert.assertSame( metrics, registry.getMetrics( Source.class, "i" ) );
+        // initial flush in both directions
+        Assert.assertEquals( 1, metrics.getTargetUpdates() );
+        Assert.assertEquals( 1, metrics.getSourceUpdates() );
+
+        source.setI( 2 );
+        Assert.assertEquals( 2, metrics.getTargetUpdates() );
+        target.setText( "3" );
+        Assert.assertEquals( 2, metrics.getSourceUpdates() );
+        target.setText( "abc" );
+        Assert.assertEquals( 1, metrics.getConversionFailures() );
+        target.setText( null );
+        Assert.assertEquals( 1, metrics.getValidationFailures() );
+        Assert.assertEquals( 2, metrics.getSourceUpdates() );
+
+        Assert.assertEquals( 6, metrics.getLatency( BindingMetrics.Stage.Getter ).getCount() );
+        Assert.assertEquals( 6, metrics.getLatency( BindingMetrics.Stage.Converter ).getCount() );
+        Assert.assertEquals( 3, metrics.getLatency( BindingMetrics.Stage.Validator ).getCount() );
+        Assert.assertEquals( metrics.getTargetUpdates() + metrics.getSourceUpdates(),
+                metrics.getLatency( BindingMetrics.Stage.Setter ).getCount() );
+        binding.unbind();
+
+        metrics.reset();
+        Assert.assertEquals( 0, metrics.getTargetUpdates() );
+        Assert.assertEquals( 0, metrics.getLatency( BindingMetrics.Stage.Setter ).getCount() );
+    }
+
+    @Test
+    public void testCoalescedUpdatesAreCountedAsSkipped() {
+        BindingMetricsRegistry registry = new BindingMetricsRegistry();
+        final List<Runnable> tasks = new ArrayList<Runnable>(  );
+        Source source = new Source();
+        BindingBase binding = new BindingBase( new Target(), "text", source, "i", BindingMode.OneWay,
+                createSettings( registry ) );
+        binding.setUpdateExecutor( new Executor() {
+            public void execute( Runnable command ) {
+                tasks.add( command );
+            }
+        } );
+        binding.bind();
+        for ( int i = 0; i < 10; i++ ) {
+            source.setI( i );
+        }
+        Assert.assertEquals( 1, tasks.size() );
+        tasks.get( 0 ).run();
+        BindingMetrics metrics = binding.getMetrics();
+        Assert.assertEquals( 9, metrics.getSkippedUpdates() );
+        Assert.assertEquals( 2, metrics.getTargetUpdates() );
+        binding.unbind();
+    }
+
+    @Test
+    public void testRegistryIsKeyedBySourceClassAndProperty() {
+        BindingMetricsRegistry registry = new BindingMetricsRegistry();
+        final List<BindingMetrics> created = new ArrayList<BindingMetrics>(  );
+        registry.addMetricsListener( new IBindingMetricsListener() {
+            public void metricsCreated( BindingMetrics metrics ) {
+                created.add( metrics );
+            }
+        } );
+        BindingSettingsBase settings = createSettings( registry );
+        for ( int i = 0; i < 3; i++ ) {
+            new BindingBase( new Target(), "text", new Source(), "i", BindingMode.OneWay, settings ).bind();
+        }
+        Assert.assertEquals( 1, created.size() );
+        Assert.assertEquals( 3, created.get( 0 ).getTargetUpdates() );
+        Assert.assertNotSame( created.get( 0 ), registry.getMetrics( Target.class, "text" ) );
+        Assert.assertEquals( 2, registry.getAll().size() );
+    }
+
+    @Test
+    public void testHistogram() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        Assert.assertEquals( 0, histogram.getValueAtPercentile( 99 ) );
+        for ( int i = 1; i <= 1000; i++ ) {
+            histogram.record( i * 1000L );
+        }
+        Assert.assertEquals( 1000, histogram.getCount() );
+        Assert.assertEquals( 1000000, histogram.getMaxNanos() );
+        Assert.assertEquals( 500500, histogram.getMeanNanos() );
+        // relative error is bounded by bucket width
+        long p50 = histogram.getValueAtPercentile( 50 );
+        Assert.assertTrue( p50 >= 500000 && p50 <= 500000 * 9 / 8 );
+        long p99 = histogram.getValueAtPercentile( 99 );
+        Assert.assertTrue( p99 >= 990000 && p99 <= 1000000 );
+        Assert.assertEquals( 1000000, histogram.getValueAtPercentile( 100 ) );
+        histogram.record( Long.MAX_VALUE );
+        Assert.assertEquals( Long.MAX_VALUE, histogram.getValueAtPercentile( 100 ) );
+        histogram.reset();
+        Assert.assertEquals( 0, histogram.getCount() );
+    }
+
+    @Test
+    public void testJmxExport() throws Exception {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        BindingMetricsRegistry registry = new BindingMetricsRegistry();
+        BindingMetrics before = registry.getMetrics( Source.class, "i" );
+        BindingMetricsJmxExporter exporter = new BindingMetricsJmxExporter( registry, server );
+        exporter.export();
+        try {
+            ObjectName name = BindingMetricsJmxExporter.getObjectName( before );
+            Assert.assertTrue( server.isRegistered( name ) );
+            // metrics created after export are registered too
+            new BindingBase( new Source(), "i", new Target(), "text", BindingMode.OneWay, createSettings( registry ) ).bind();
+            ObjectName created = BindingMetricsJmxExporter.getObjectName( registry.getMetrics( Target.class, "text" ) );
+            Assert.assertTrue( server.isRegistered( created ) );
+            Assert.assertEquals( 1L, server.getAttribute( created, "TargetUpdates" ) );
+            Assert.assertEquals( Target.class.getName(), server.getAttribute( created, "SourceClass" ) );
+            server.invoke( created, "reset", new Object[0], new String[0] );
+            Assert.assertEquals( 0L, server.getAttribute( created, "TargetUpdates" ) );
+        } finally {
+            exporter.unexport();
+        }
+        Assert.assertTrue( server.queryNames( new ObjectName( "binding:type=BindingMetrics,*" ), null ).isEmpty() );
+    }
+}
@@ -5,6 +5,7 @@ import org.junit.Test;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 /**
  * @author igor.kostromin
@@ -153,4 +154,97 @@ public class BindingTest {
         target.setText( "10" );
         Assert.assertTrue( source.getI() == 1 );
     }
+
+    @Test
+    public void testDeferredTargetUpdate() {
+        final List<Runnable> tasks = new ArrayList<Runnable>(  );
+        Source source = new Source();
+        Target target = new Target();
+        source.setI( 1 );
+        BindingBase binding = new BindingBase( target, "text", source, "i", BindingMode.TwoWay );
+        binding.setUpdateExecutor( new Executor() {
+            public void execute( Runnable command ) {
+                tasks.add( command );
+            }
+        } );
+        binding.bind();
+        // initial flush is not deferred
+        Assert.assertEquals( "1", target.getText() );
+        source.setI( 2 );
+        source.setI( 3 );
+        source.setI( 4 );
+        Assert.assertEquals( "1", target.getText() );
+        Assert.assertEquals( 1, tasks.size() );
+        tasks.remove( 0 ).run();
+        Assert.assertEquals( "4", target.getText() );
+        // target to source direction is not deferred
+        target.setText( "5" );
+        Assert.assertTrue( source.getI() == 5 );
+        Assert.assertEquals( 0, tasks.size() );
+        // task scheduled before unbind does nothing
+        source.setI( 6 );
+        binding.unbind();
+        tasks.remove( 0 ).run();
+        Assert.assertEquals( "5", target.getText() );
+    }
+
+    @Test
+    public void testThreadAffinity() {
+        final List<Runnable> tasks = new ArrayList<Runnable>(  );
+        BindingSettingsBase settings = new BindingSettingsBase();
+        settings.initializeDefault();
+        settings.setThreadAffinity( ThreadAffinity.forExecutor( new Executor() {
+            public void execute( Runnable command ) {
+                tasks.add( command );
+            }
+        } ) );
+        Source source = new Source();
+        final Target target = new Target();
+        source.setI( 1 );
+        BindingBase binding = new BindingBase( target, "text", source, "i", BindingMode.TwoWay, settings );
+        binding.bind();
+        Assert.assertEquals( "1", target.getText() );
+        // changes made outside of target thread are posted to it and coalesced
+        source.setI( 2 );
+        source.setI( 3 );
+        Assert.assertEquals( "1", target.getText() );
+        Assert.assertEquals( 1, tasks.size() );
+        tasks.remove( 0 ).run();
+        Assert.assertEquals( "3", target.getText() );
+        // target to source flow is not affected
+        target.setText( "4" );
+        Assert.assertTrue( source.getI() == 4 );
+        Assert.assertEquals( 0, tasks.size() );
+        binding.unbind();
+    }
+
+    @Test
+    public void testResolvedBindingMatchesModeAndSettings() {
+        BindingBase oneWay = new BindingBase( new Target(), "text", new Source(), "i", BindingMode.OneWay );
+        oneWay.bind();
+        ResolvedBinding resolved = oneWay.getResolvedBinding();
+        oneWay.unbind();
+
+        BindingBase sameMode = new BindingBase( new Target(), "text", new Source(), "i", BindingMode.OneWay );
+        sameMode.bind( resolved );
+        sameMode.unbind();
+
+        BindingBase twoWay = new BindingBase( new Target(), "text", new Source(), "i", BindingMode.TwoWay );
+        try {
+            twoWay.bind( resolved );
+            Assert.fail();
+        } catch ( IllegalArgumentException e ) {
+            // metadata resolved for another mode
+        }
+
+        BindingSettingsBase settings = new BindingSettingsBase();
+        settings.initializeDefault();
+        BindingBase otherSettings = new BindingBase( new Target(), "text", new Source(), "i", BindingMode.OneWay, settings );
+        try {
+            otherSettings.bind( resolved );
+            Assert.fail();
+        } catch ( IllegalArgumentException e ) {
+            // adapters and converters of another settings may differ
+        }
+    }
 }
@@ -0,0 +1,179 @@
+import binding.*;
+import junit.framework.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * @author igor.kostromin
+ *         21.07.13 14:10
+ */
+public class ComputedPropertyTest {
+    public static class Order implements INotifyPropertyChanged {
+        private Integer price = 0;
+        private Integer qty = 0;
+        private String comment;
+        private int computations;
+        private int totalNotifications;
+        private boolean failing;
+
+        private final ComputedProperty<Integer> total = new ComputedProperty<Integer>( "total",
+                new IPropertyChangedListener() {
+                    public void propertyChanged( String propertyName ) {
+                        totalNotifications++;
+                        raisePropertyChange( propertyName );
+                    }
+                } ) {
+            @Override
+            protected Integer compute() {
+                computations++;
+                if (failing) throw new IllegalStateException( "failed" );
+                Integer price = read( Order.this, "price" );
+                Integer qty = read( Order.this, "qty" );
+                return price * qty;
+            }
+        };
+
+        public Integer getPrice() {
+            return price;
+        }
+
+        public void setPrice( Integer price ) {
+            this.price = price;
+            raisePropertyChange( "price" );
+        }
+
+        public Integer getQty() {
+            return qty;
+        }
+
+        public void setQty( Integer qty ) {
+            this.qty = qty;
+            raisePropertyChange( "qty" );
+        }
+
+        public String getComment() {
+            return comment;
+        }
+
+        public void setComment( String comment ) {
+            this.comment = comment;
+            raisePropertyChange( "comment" );
+        }
+
+        public Integer getTotal() {
+            return total.get();
+        }
+
+        private void raisePropertyChange( String propName) {
+            for ( IPropertyChangedListener listener : new ArrayList<IPropertyChangedListener>( listeners ) ) {
+                listener.propertyChanged( propName );
+            }
+        }
+
+        private List<IPropertyChangedListener> listeners = new ArrayList<IPropertyChangedListener>(  );
+
+        public void addPropertyChangedListener( IPropertyChangedListener listener ) {
+            listeners.add( listener );
+        }
+
+        public void removePropertyChangedListener( IPropertyChangedListener listener ) {
+            listeners.remove( listener );
+        }
+    }
+
+    @Test
+    public void testDependencyTracking() {
+        Order order = new Order();
+        order.setPrice( 2 );
+        order.setQty( 3 );
+        // nothing is computed until value is requested
+        Assert.assertEquals( 0, order.computations );
+        Assert.assertEquals( 6, (int) order.getTotal() );
+        Assert.assertEquals( 6, (int) order.getTotal() );
+        Assert.assertEquals( 1, order.computations );
+
+        // unrelated property does not cause recomputation
+        order.setComment( "comment" );
+        Assert.assertEquals( 1, order.computations );
+
+        // dependency changed, but value is the same : no notification
+        order.setPrice( 2 );
+        Assert.assertEquals( 2, order.computations );
+        Assert.assertEquals( 0, order.totalNotifications );
+
+        order.setQty( 4 );
+        Assert.assertEquals( 1, order.totalNotifications );
+        Assert.assertEquals( 8, (int) order.getTotal() );
+        Assert.assertEquals( 3, order.computations );
+
+        order.setQty( 5 );
+        Assert.assertEquals( 2, order.totalNotifications );
+    }
+
+    @Test
+    public void testNotRequestedValueIsNotComputed() {
+        Order order = new Order();
+        order.setPrice( 2 );
+        order.setQty( 3 );
+        order.setQty( 4 );
+        Assert.assertEquals( 0, order.computations );
+        Assert.assertEquals( 0, order.totalNotifications );
+    }
+
+    @Test
+    public void testFailedComputationKeepsDependencies() {
+        Order order = new Order();
+        order.setPrice( 2 );
+        order.setQty( 3 );
+        Assert.assertEquals( 6, (int) order.getTotal() );
+        order.failing = true;
+        // failure is not thrown to dependency setter, value is marked as stale
+        order.setQty( 4 );
+        Assert.assertEquals( 1, order.totalNotifications );
+        try {
+            order.getTotal();
+            Assert.fail();
+        } catch ( IllegalStateException e ) {
+            Assert.assertEquals( "failed", e.getMessage() );
+        }
+        // value is still stale and recomputed in next call
+        order.failing = false;
+        Assert.assertEquals( 8, (int) order.getTotal() );
+        Assert.assertEquals( 4, order.computations );
+        // dependencies are still observed
+        order.setPrice( 3 );
+        Assert.assertEquals( 2, order.totalNotifications );
+        Assert.assertEquals( 12, (int) order.getTotal() );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public void testPropertyPathIsRejected() {
+        final Order order = new Order();
+        ComputedProperty<Object> property = new ComputedProperty<Object>( "path", new IPropertyChangedListener() {
+            public void propertyChanged( String propertyName ) {
+            }
+        } ) {
+            @Override
+            protected Object compute() {
+                return read( order, "price.class" );
+            }
+        };
+        property.get();
+    }
+
+    @Test
+    public void testBindComputedProperty() {
+        Order order = new Order();
+        order.setPrice( 5 );
+        order.setQty( 1 );
+        BindingTest.Target target = new BindingTest.Target();
+        BindingBase binding = new BindingBase( target, "text", order, "total", BindingMode.OneWay );
+        binding.bind();
+        Assert.assertEquals( "5", target.getText() );
+        order.setQty( 3 );
+        Assert.assertEquals( "15", target.getText() );
+        binding.unbind();
+    }
+}
@@ -0,0 +1,124 @@
+import binding.utils.ListenerList;
+import junit.framework.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * @author igor.kostromin
+ *         30.07.13 18:10
+ */
+public class ListenerListTest {
+    private static List<String> listeners( ListenerList<String> list ) {
+        List<String> result = new ArrayList<String>(  );
+        ListenerList.Snapshot<String> snapshot = list.snapshot();
+        for ( int i = 0; i < snapshot.size(); i++ ) {
+            String listener = snapshot.get( i );
+            if (null != listener) result.add( listener );
+        }
+        return result;
+    }
+
+    @Test
+    public void testAddRemove() {
+        ListenerList<String> list = new ListenerList<String>(  );
+        String a = "a";
+        String b = "b";
+        String c = "c";
+        Assert.assertTrue( list.add( a ) );
+        Assert.assertTrue( list.add( b ) );
+        Assert.assertFalse( list.add( a ) );
+        Assert.assertTrue( list.add( c ) );
+        Assert.assertEquals( "[a, b, c]", listeners( list ).toString() );
+        Assert.assertTrue( list.remove( b ) );
+        Assert.assertFalse( list.remove( b ) );
+        Assert.assertEquals( 2, list.getCount() );
+        Assert.assertEquals( "[a, c]", listeners( list ).toString() );
+        list.clear();
+        Assert.assertTrue( list.isEmpty() );
+        Assert.assertEquals( 0, list.snapshot().size() );
+    }
+
+    @Test
+    public void testCompaction() {
+        ListenerList<String> list = new ListenerList<String>(  );
+        List<String> expected = new ArrayList<String>(  );
+        String[] items = new String[1000];
+        for ( int i = 0; i < items.length; i++ ) {
+            items[i] = String.valueOf( i );
+            list.add( items[i] );
+        }
+        for ( int i = 0; i < items.length; i++ ) {
+            if (i % 10 == 0) expected.add( items[i] );
+            else list.remove( items[i] );
+        }
+        Assert.assertEquals( expected, listeners( list ) );
+        // array has been shrunk
+        Assert.assertTrue( list.snapshot().size() < 2 * expected.size() );
+        for ( String item : expected ) {
+            Assert.assertTrue( list.remove( item ) );
+        }
+        Assert.assertTrue( list.isEmpty() );
+    }
+
+    @Test
+    public void testSnapshot() {
+        ListenerList<String> list = new ListenerList<String>(  );
+        String[] items = new String[10];
+        for ( int i = 0; i < items.length; i++ ) {
+            items[i] = String.valueOf( i );
+            list.add( items[i] );
+        }
+        ListenerList.Snapshot<String> snapshot = list.snapshot();
+        list.add( "new" );
+        // causes compaction into new array
+        for ( int i = 0; i < 8; i++ ) list.remove( items[i] );
+        list.remove( items[9] );
+        Assert.assertEquals( 10, snapshot.size() );
+        Assert.assertEquals( null, snapshot.get( 0 ) );
+        Assert.assertEquals( null, snapshot.get( 9 ) );
+        Assert.assertEquals( "8", snapshot.get( 8 ) );
+        Assert.assertEquals( "[8, new]", listeners( list ).toString() );
+    }
+
+    @Test
+    public void testConcurrentRegistration() throws Exception {
+        final ListenerList<Object> list = new ListenerList<Object>(  );
+        final int threadsCount = 4;
+        final CountDownLatch done = new CountDownLatch( threadsCount );
+        final AtomicReference<Throwable> error = new AtomicReference<Throwable>(  );
+        for ( int t = 0; t < threadsCount; t++ ) {
+            new Thread( new Runnable() {
+                public void run() {
+                    try {
+                        Object[] own = new Object[100];
+                        for ( int round = 0; round < 100; round++ ) {
+                            for ( int i = 0; i < own.length; i++ ) {
+                                own[i] = new Object();
+                                list.add( own[i] );
+                            }
+                            for ( Object listener : own ) {
+                                if (!list.remove( listener )) throw new IllegalStateException( "listener lost" );
+                            }
+                        }
+                    } catch ( Throwable e ) {
+                        error.set( e );
+                    } finally {
+                        done.countDown();
+                    }
+                }
+            } ).start();
+        }
+        while ( done.getCount() > 0 ) {
+            ListenerList.Snapshot<Object> snapshot = list.snapshot();
+            for ( int i = 0; i < snapshot.size(); i++ ) {
+                snapshot.get( i );
+            }
+        }
+        Assert.assertNull( error.get() );
+        Assert.assertTrue( list.isEmpty() );
+    }
+}
@@ -0,0 +1,24 @@
+import binding.utils.LruCache;
+import junit.framework.Assert;
+import org.junit.Test;
+
+/**
+ * @author igor.kostromin
+ *         03.08.13 14:40
+ */
+public class LruCacheTest {
+    @Test
+    public void testEviction() {
+        LruCache<String, Integer> cache = new LruCache<String, Integer>( 2 );
+        Assert.assertEquals( 1, (int) cache.putIfAbsent( "a", 1 ) );
+        Assert.assertEquals( 1, (int) cache.putIfAbsent( "a", 10 ) );
+        cache.putIfAbsent( "b", 2 );
+        // "a" becomes the most recently used
+        Assert.assertEquals( 1, (int) cache.get( "a" ) );
+        cache.putIfAbsent( "c", 3 );
+        Assert.assertEquals( 2, cache.size() );
+        Assert.assertNull( cache.get( "b" ) );
+        Assert.assertEquals( 1, (int) cache.get( "a" ) );
+        Assert.assertEquals( 3, (int) cache.get( "c" ) );
+    }
+}
@@ -0,0 +1,126 @@
+import binding.*;
+import binding.converters.ConversionResult;
+import binding.converters.IMultiValueConverter;
+import junit.framework.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+/**
+ * @author igor.kostromin
+ *         22.07.13 13:40
+ */
+public class MultiBindingTest {
+    public static class Person extends PropertyPathTest.Notifier {
+        private String firstName;
+        private String lastName;
+        private Integer age;
+
+        public String getFirstName() {
+            return firstName;
+        }
+
+        public void setFirstName( String firstName ) {
+            this.firstName = firstName;
+            raisePropertyChange( "firstName" );
+        }
+
+        public String getLastName() {
+            return lastName;
+        }
+
+        public void setLastName( String lastName ) {
+            this.lastName = lastName;
+            raisePropertyChange( "lastName" );
+        }
+
+        public Integer getAge() {
+            return age;
+        }
+
+        public void setAge( Integer age ) {
+            this.age = age;
+            raisePropertyChange( "age" );
+        }
+    }
+
+    public static class Label {
+        private String text;
+        private int writes;
+
+        public String getText() {
+            return text;
+        }
+
+        public void setText( String text ) {
+            this.text = text;
+            writes++;
+        }
+    }
+
+    private static class QueueExecutor implements Executor {
+        List<Runnable> tasks = new ArrayList<Runnable>(  );
+
+        public void execute( Runnable command ) {
+            tasks.add( command );
+        }
+
+        void runAll() {
+            List<Runnable> current = tasks;
+            tasks = new ArrayList<Runnable>(  );
+            for ( Runnable task : current ) task.run();
+        }
+    }
+
+    private static final IMultiValueConverter<String> FORMAT_CONVERTER = new IMultiValueConverter<String>() {
+        public ConversionResult<String> convert( Object[] values ) {
+            return new ConversionResult<String>( String.format( "%s %s (%s)", values[0], values[1], values[2] ) );
+        }
+    };
+
+    @Test
+    public void testMultiBinding() {
+        Person person = new Person();
+        person.setFirstName( "Igor" );
+        person.setLastName( "Kostromin" );
+        Person details = new Person();
+        details.setAge( 25 );
+        Label label = new Label();
+        MultiBinding binding = new MultiBinding( label, "text", FORMAT_CONVERTER );
+        binding.addSource( person, "firstName" );
+        binding.addSource( person, "lastName" );
+        binding.addSource( details, "age" );
+        binding.bind();
+        Assert.assertEquals( "Igor Kostromin (25)", label.getText() );
+        details.setAge( 26 );
+        Assert.assertEquals( "Igor Kostromin (26)", label.getText() );
+        binding.unbind();
+        Assert.assertEquals( 0, person.getListenersCount() );
+        Assert.assertEquals( 0, details.getListenersCount() );
+    }
+
+    @Test
+    public void testCoalescing() {
+        Person person = new Person();
+        Label label = new Label();
+        QueueExecutor executor = new QueueExecutor();
+        MultiBinding binding = new MultiBinding( label, "text", FORMAT_CONVERTER );
+        binding.addSource( person, "firstName" );
+        binding.addSource( person, "lastName" );
+        binding.addSource( person, "age" );
+        binding.setUpdateExecutor( executor );
+        binding.bind();
+        int writes = label.writes;
+        person.setFirstName( "Ivan" );
+        person.setLastName( "Petrov" );
+        person.setAge( 30 );
+        Assert.assertEquals( writes, label.writes );
+        Assert.assertEquals( 1, executor.tasks.size() );
+        executor.runAll();
+        Assert.assertEquals( writes + 1, label.writes );
+        Assert.assertEquals( "Ivan Petrov (30)", label.getText() );
+        binding.unbind();
+    }
+}
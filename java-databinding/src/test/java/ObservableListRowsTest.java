@@ -0,0 +1,106 @@
+import binding.PropertyChangedSupport;
+import binding.observables.IListRowsListener;
+import binding.observables.ObservableList;
+import binding.observables.ObservableListRows;
+import junit.framework.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * @author igor.kostromin
+ *         02.08.13 15:00
+ */
+public class ObservableListRowsTest {
+    private static final int ITEMS_COUNT = 10000;
+    private static final int VIEWS_COUNT = 8;
+
+    public static class Item extends PropertyChangedSupport {
+        private String name;
+
+        public Item( String name ) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName( String name ) {
+            this.name = name;
+            raisePropertyChange( "name" );
+        }
+    }
+
+    /**
+     * Row view, shows name of item.
+     */
+    private static class View {
+        String text;
+    }
+
+    private static class Recorder implements IListRowsListener<View> {
+        final List<String> events = new ArrayList<String>(  );
+
+        public void rowsInserted( int position, int count ) {
+            events.add( "inserted " + position + "+" + count );
+        }
+
+        public void rowsRemoved( int position, int count ) {
+            events.add( "removed " + position + "+" + count );
+        }
+
+        public void rowsChanged( int position, int count ) {
+            events.add( "changed " + position + "+" + count );
+        }
+
+        public void rowPropertyChanged( View view, Object item, String propertyName ) {
+            view.text = ((Item) item).getName();
+            events.add( "property " + propertyName );
+        }
+    }
+
+    @Test
+    public void testRangesAndRecycledViews() {
+        List<Item> items = new ArrayList<Item>( ITEMS_COUNT );
+        for ( int i = 0; i < ITEMS_COUNT; i++ ) items.add( new Item( "item" + i ) );
+        ObservableList<Item> list = new ObservableList<Item>( new ArrayList<Item>( items ) );
+        Recorder recorder = new Recorder();
+        ObservableListRows<View> rows = new ObservableListRows<View>( list, recorder );
+        rows.attach();
+
+        // scroll through the whole list reusing views
+        View[] views = new View[VIEWS_COUNT];
+        for ( int i = 0; i < VIEWS_COUNT; i++ ) views[i] = new View();
+        for ( int position = 0; position < ITEMS_COUNT; position++ ) {
+            View view = views[position % VIEWS_COUNT];
+            view.text = ((Item) rows.bindView( view, position )).getName();
+        }
+        Assert.assertEquals( VIEWS_COUNT, rows.getBoundViewsCount() );
+        Assert.assertEquals( 0, items.get( 0 ).getListenersCount() );
+        Assert.assertEquals( 1, items.get( ITEMS_COUNT - 1 ).getListenersCount() );
+
+        // only view showing item is updated
+        items.get( 0 ).setName( "hidden" );
+        items.get( ITEMS_COUNT - 1 ).setName( "visible" );
+        Assert.assertEquals( "[property name]", recorder.events.toString() );
+        Assert.assertEquals( "visible", views[(ITEMS_COUNT - 1) % VIEWS_COUNT].text );
+
+        recorder.events.clear();
+        list.addAll( 5, Arrays.asList( new Item( "a" ), new Item( "b" ) ) );
+        list.subList( 10, 20 ).clear();
+        list.set( 3, new Item( "c" ) );
+        Assert.assertEquals( "[inserted 5+2, removed 10+10, changed 3+1]", recorder.events.toString() );
+
+        rows.unbindView( views[0] );
+        Assert.assertEquals( VIEWS_COUNT - 1, rows.getBoundViewsCount() );
+        rows.detach();
+        Assert.assertEquals( 0, rows.getBoundViewsCount() );
+        Assert.assertEquals( 0, items.get( ITEMS_COUNT - 1 ).getListenersCount() );
+        recorder.events.clear();
+        list.add( new Item( "d" ) );
+        Assert.assertTrue( recorder.events.isEmpty() );
+    }
+}
@@ -0,0 +1,72 @@
+import binding.observables.IObservableTextListener;
+import binding.observables.ObservableText;
+import junit.framework.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * @author igor.kostromin
+ *         02.08.13 11:00
+ */
+public class ObservableTextTest {
+    private static class Recorder implements IObservableTextListener {
+        final List<String> events = new ArrayList<String>(  );
+
+        public void textInserted( ObservableText text, int offset, int length ) {
+            events.add( "+" + offset + ":" + text.getText( offset, length ) );
+        }
+
+        public void textRemoved( ObservableText text, int offset, String removed ) {
+            events.add( "-" + offset + ":" + removed );
+        }
+    }
+
+    @Test
+    public void testEvents() {
+        ObservableText text = new ObservableText( "hello world" );
+        Recorder recorder = new Recorder();
+        text.addObservableTextListener( recorder );
+        text.insert( 5, "," );
+        text.remove( 0, 1 );
+        text.replace( 0, 4, "Hell" );
+        text.append( "!" );
+        text.insert( 0, "" );
+        Assert.assertEquals( "Hell, world!", text.toString() );
+        Assert.assertEquals( "[+5:,, -0:h, -0:ello, +0:Hell, +11:!]", recorder.events.toString() );
+        text.removeObservableTextListener( recorder );
+        text.setText( "" );
+        Assert.assertEquals( 5, recorder.events.size() );
+        Assert.assertEquals( 0, text.length() );
+    }
+
+    @Test
+    public void testRandomEdits() {
+        Random random = new Random( 42 );
+        ObservableText text = new ObservableText(  );
+        StringBuilder expected = new StringBuilder(  );
+        for ( int i = 0; i < 5000; i++ ) {
+            int offset = random.nextInt( expected.length() + 1 );
+            if (random.nextInt( 3 ) > 0 || expected.length() == 0) {
+                String inserted = Integer.toString( random.nextInt( 100000 ), 36 );
+                text.insert( offset, inserted );
+                expected.insert( offset, inserted );
+            } else {
+                int length = random.nextInt( Math.min( 5, expected.length() - offset ) + 1 );
+                text.remove( offset, length );
+                expected.delete( offset, offset + length );
+            }
+            Assert.assertEquals( expected.length(), text.length() );
+        }
+        Assert.assertEquals( expected.toString(), text.toString() );
+        Assert.assertEquals( expected.charAt( 100 ), text.charAt( 100 ) );
+        Assert.assertEquals( expected.substring( 10, 2000 ), text.subSequence( 10, 2000 ).toString() );
+    }
+
+    @Test( expected = IndexOutOfBoundsException.class )
+    public void testInvalidRange() {
+        new ObservableText( "abc" ).remove( 2, 2 );
+    }
+}
@@ -67,4 +67,26 @@ public class ObservablesTest {
         source.getList().add( "1" );
         Assert.assertTrue(target.getList().get( 0 ).equals( "1" ));
     }
+
+    @Test
+    public void testRemoveRange() {
+        ObservableList<String> list = new ObservableList<String>( new ArrayList<String>(  ) );
+        for ( int i = 0; i < 10; i++ ) list.add( String.valueOf( i ) );
+        final List<String> events = new ArrayList<String>(  );
+        list.addObservableListListener( new IObservableListListener() {
+            public void listElementsAdded( IObservableList list, int index, int length ) {
+            }
+
+            public void listElementsRemoved( IObservableList list, int index, List oldElements ) {
+                events.add( index + " " + oldElements );
+            }
+
+            public void listElementReplaced( IObservableList list, int index, Object oldElement ) {
+            }
+        } );
+        list.removeRange( 2, 5 );
+        list.subList( 5, 7 ).clear();
+        Assert.assertEquals( "[2 [2, 3, 4], 5 [8, 9]]", events.toString() );
+        Assert.assertEquals( "[0, 1, 5, 6, 7]", list.toString() );
+    }
 }
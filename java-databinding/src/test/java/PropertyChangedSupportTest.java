@@ -0,0 +1,62 @@
+import binding.IPropertyChangedListener;
+import binding.PropertyChangedSupport;
+import junit.framework.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * @author igor.kostromin
+ *         03.08.13 12:30
+ */
+public class PropertyChangedSupportTest {
+    @Test
+    public void testRaisePropertyChange() {
+        PropertyChangedSupport support = new PropertyChangedSupport();
+        final List<String> log = new ArrayList<String>(  );
+        IPropertyChangedListener listener = new IPropertyChangedListener() {
+            public void propertyChanged( String propertyName ) {
+                log.add( propertyName );
+            }
+        };
+        support.addPropertyChangedListener( listener );
+        support.addPropertyChangedListener( listener );
+        Assert.assertEquals( 1, support.getListenersCount() );
+        support.raisePropertyChange( "a" );
+        support.removePropertyChangedListener( listener );
+        support.raisePropertyChange( "b" );
+        Assert.assertEquals( "[a]", log.toString() );
+        Assert.assertEquals( 0, support.getListenersCount() );
+    }
+
+    @Test
+    public void testModificationDuringDispatch() {
+        final PropertyChangedSupport support = new PropertyChangedSupport();
+        final List<String> log = new ArrayList<String>(  );
+        final IPropertyChangedListener second = new IPropertyChangedListener() {
+            public void propertyChanged( String propertyName ) {
+                log.add( "second" );
+            }
+        };
+        final IPropertyChangedListener added = new IPropertyChangedListener() {
+            public void propertyChanged( String propertyName ) {
+                log.add( "added" );
+            }
+        };
+        support.addPropertyChangedListener( new IPropertyChangedListener() {
+            public void propertyChanged( String propertyName ) {
+                log.add( "first" );
+                support.removePropertyChangedListener( this );
+                support.removePropertyChangedListener( second );
+                support.addPropertyChangedListener( added );
+            }
+        } );
+        support.addPropertyChangedListener( second );
+        support.raisePropertyChange( "p" );
+        Assert.assertEquals( "[first]", log.toString() );
+        support.raisePropertyChange( "p" );
+        Assert.assertEquals( "[first, added]", log.toString() );
+        Assert.assertEquals( 1, support.getListenersCount() );
+    }
+}
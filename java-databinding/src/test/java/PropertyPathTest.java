@@ -0,0 +1,171 @@
+import binding.*;
+import binding.utils.PropertyInfo;
+import binding.utils.PropertyUtils;
+import junit.framework.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * @author igor.kostromin
+ *         20.07.13 14:05
+ */
+public class PropertyPathTest {
+    public static class Notifier implements INotifyPropertyChanged {
+        protected void raisePropertyChange( String propName) {
+            for ( IPropertyChangedListener listener : new ArrayList<IPropertyChangedListener>( listeners ) ) {
+                listener.propertyChanged( propName );
+            }
+        }
+
+        private List<IPropertyChangedListener> listeners = new ArrayList<IPropertyChangedListener>(  );
+
+        public int getListenersCount() {
+            return listeners.size();
+        }
+
+        public void addPropertyChangedListener( IPropertyChangedListener listener ) {
+            listeners.add( listener );
+        }
+
+        public void removePropertyChangedListener( IPropertyChangedListener listener ) {
+            listeners.remove( listener );
+        }
+    }
+
+    public static class Address extends Notifier {
+        private String city;
+
+        public String getCity() {
+            return city;
+        }
+
+        public void setCity( String city ) {
+            this.city = city;
+            raisePropertyChange( "city" );
+        }
+    }
+
+    public static class Customer extends Notifier {
+        private Address address;
+
+        public Address getAddress() {
+            return address;
+        }
+
+        public void setAddress( Address address ) {
+            this.address = address;
+            raisePropertyChange( "address" );
+        }
+    }
+
+    public static class Order extends Notifier {
+        private Customer customer;
+
+        public Customer getCustomer() {
+            return customer;
+        }
+
+        public void setCustomer( Customer customer ) {
+            this.customer = customer;
+            raisePropertyChange( "customer" );
+        }
+    }
+
+    public static class Target {
+        private String text;
+
+        public String getText() {
+            return text;
+        }
+
+        public void setText( String text ) {
+            this.text = text;
+        }
+    }
+
+    private static Customer createCustomer( String city ) {
+        Address address = new Address();
+        address.setCity( city );
+        Customer customer = new Customer();
+        customer.setAddress( address );
+        return customer;
+    }
+
+    @Test
+    public void testResolvePath() {
+        PropertyInfo[] chain = PropertyUtils.getPropertyPath( Order.class, "customer.address.city" );
+        Assert.assertEquals( 3, chain.length );
+        Assert.assertEquals( String.class, chain[2].clazz );
+        Assert.assertSame( chain, PropertyUtils.getPropertyPath( Order.class, "customer.address.city" ) );
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testEmptyPathElement() {
+        PropertyUtils.getPropertyPath( Order.class, "customer..city" );
+    }
+
+    @Test
+    public void testPathBinding() {
+        Order order = new Order();
+        Customer first = createCustomer( "Moscow" );
+        order.setCustomer( first );
+        Target target = new Target();
+        BindingBase binding = new BindingBase( target, "text", order, "customer.address.city", BindingMode.OneWay );
+        binding.bind();
+        Assert.assertEquals( "Moscow", target.getText() );
+
+        first.getAddress().setCity( "Omsk" );
+        Assert.assertEquals( "Omsk", target.getText() );
+
+        Address oldAddress = first.getAddress();
+        Address newAddress = new Address();
+        newAddress.setCity( "Tomsk" );
+        first.setAddress( newAddress );
+        Assert.assertEquals( "Tomsk", target.getText() );
+        // only the suffix of chain is re-subscribed
+        Assert.assertEquals( 0, oldAddress.getListenersCount() );
+        Assert.assertEquals( 1, newAddress.getListenersCount() );
+        Assert.assertEquals( 1, first.getListenersCount() );
+
+        Customer second = createCustomer( "Kazan" );
+        order.setCustomer( second );
+        Assert.assertEquals( "Kazan", target.getText() );
+        Assert.assertEquals( 0, first.getListenersCount() );
+        Assert.assertEquals( 0, newAddress.getListenersCount() );
+
+        order.setCustomer( null );
+        Assert.assertNull( target.getText() );
+
+        binding.unbind();
+        Assert.assertEquals( 0, order.getListenersCount() );
+    }
+
+    @Test
+    public void testPathBindingToSource() {
+        Order order = new Order();
+        order.setCustomer( createCustomer( null ) );
+        BindingTest.Target target = new BindingTest.Target();
+        BindingBase binding = new BindingBase( target, "text", order, "customer.address.city", BindingMode.TwoWay );
+        final List<BindingResult> results = new ArrayList<BindingResult>(  );
+        binding.setResultListener( new IBindingResultListener() {
+            public void onBinding( BindingResult result ) {
+                results.add( result );
+            }
+        } );
+        binding.bind();
+        target.setText( "Perm" );
+        Assert.assertEquals( "Perm", order.getCustomer().getAddress().getCity() );
+        Assert.assertFalse( results.get( results.size() - 1 ).hasError );
+        order.setCustomer( null );
+        // nothing to update, intermediate property is null
+        target.setText( "Ufa" );
+        BindingResult result = results.get( results.size() - 1 );
+        Assert.assertTrue( result.hasError );
+        Assert.assertFalse( result.hasConversionError );
+        Assert.assertFalse( result.hasValidationError );
+        Assert.assertNotNull( result.message );
+        binding.unbind();
+    }
+}
@@ -0,0 +1,103 @@
+import binding.BindingBase;
+import binding.BindingMode;
+import binding.INotifyPropertyChanged;
+import binding.IPropertyChangedListener;
+import junit.framework.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Checks {@link BindingBase#setSource(INotifyPropertyChanged)} fast path moving bound binding
+ * to another Source of the same class, latency is measured by SetSourceBenchmark.
+ *
+ * @author igor.kostromin
+ *         19.07.13 16:02
+ */
+public class SetSourceTest {
+    public static class Model implements INotifyPropertyChanged {
+        private Integer value;
+
+        public Integer getValue() {
+            return value;
+        }
+
+        public void setValue( Integer value ) {
+            this.value = value;
+            raisePropertyChange( "value" );
+        }
+
+        private void raisePropertyChange( String propName) {
+            for ( IPropertyChangedListener listener : listeners ) {
+                listener.propertyChanged( propName );
+            }
+        }
+
+        private List<IPropertyChangedListener> listeners = new ArrayList<IPropertyChangedListener>(  );
+
+        public int getListenersCount() {
+            return listeners.size();
+        }
+
+        public void addPropertyChangedListener( IPropertyChangedListener listener ) {
+            listeners.add( listener );
+        }
+
+        public void removePropertyChangedListener( IPropertyChangedListener listener ) {
+            listeners.remove( listener );
+        }
+    }
+
+    public static class Editor implements INotifyPropertyChanged {
+        private String text;
+
+        public String getText() {
+            return text;
+        }
+
+        public void setText( String text ) {
+            this.text = text;
+            raisePropertyChange( "text" );
+        }
+
+        private void raisePropertyChange( String propName) {
+            for ( IPropertyChangedListener listener : listeners ) {
+                listener.propertyChanged( propName );
+            }
+        }
+
+        private List<IPropertyChangedListener> listeners = new ArrayList<IPropertyChangedListener>(  );
+
+        public void addPropertyChangedListener( IPropertyChangedListener listener ) {
+            listeners.add( listener );
+        }
+
+        public void removePropertyChangedListener( IPropertyChangedListener listener ) {
+            listeners.remove( listener );
+        }
+    }
+
+    @Test
+    public void testSetSource() {
+        Model[] models = new Model[2];
+        for ( int i = 0; i < models.length; i++ ) {
+            models[i] = new Model();
+            models[i].setValue( i );
+        }
+        Editor editor = new Editor();
+
+        BindingBase binding = new BindingBase( editor, "text", models[0], "value", BindingMode.OneWay );
+        binding.bind();
+        binding.setSource( models[1] );
+        Assert.assertEquals( "1", editor.getText() );
+        Assert.assertEquals( 0, models[0].getListenersCount() );
+        Assert.assertEquals( 1, models[1].getListenersCount() );
+        models[1].setValue( 42 );
+        Assert.assertEquals( "42", editor.getText() );
+        models[0].setValue( 43 );
+        Assert.assertEquals( "42", editor.getText() );
+        binding.unbind();
+        Assert.assertEquals( 0, models[1].getListenersCount() );
+    }
+}
@@ -0,0 +1,53 @@
+import binding.utils.ThreadGuard;
+import junit.framework.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * @author igor.kostromin
+ *         03.08.13 11:40
+ */
+public class ThreadGuardTest {
+    @Test
+    public void testNestedEnter() {
+        ThreadGuard guard = new ThreadGuard();
+        Assert.assertFalse( guard.isEntered() );
+        Assert.assertTrue( guard.enter() );
+        Assert.assertFalse( guard.enter() );
+        Assert.assertTrue( guard.isEntered() );
+        guard.exit();
+        Assert.assertFalse( guard.isEntered() );
+    }
+
+    @Test
+    public void testConcurrentExitDoesNotClearOtherThread() throws InterruptedException {
+        final ThreadGuard guard = new ThreadGuard();
+        final CountDownLatch entered = new CountDownLatch( 1 );
+        final CountDownLatch exited = new CountDownLatch( 1 );
+        final AtomicBoolean stillEntered = new AtomicBoolean(  );
+        Assert.assertTrue( guard.enter() );
+        Thread other = new Thread( new Runnable() {
+            public void run() {
+                boolean result = guard.enter();
+                entered.countDown();
+                try {
+                    exited.await();
+                } catch ( InterruptedException e ) {
+                    throw new RuntimeException( e );
+                }
+                stillEntered.set( guard.isEntered() );
+                if (result) guard.exit();
+            }
+        } );
+        other.start();
+        entered.await();
+        // first thread leaves while second one is inside
+        guard.exit();
+        Assert.assertFalse( guard.isEntered() );
+        exited.countDown();
+        other.join();
+        Assert.assertTrue( stillEntered.get() );
+    }
+}
@@ -0,0 +1,111 @@
+import binding.utils.TimerWheel;
+import junit.framework.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * @author igor.kostromin
+ *         29.07.13 15:40
+ */
+public class TimerWheelTest {
+    private static class ManualTimerWheel extends TimerWheel {
+        long now;
+        boolean ticking;
+
+        ManualTimerWheel() {
+            super( 10, 8 );
+        }
+
+        void advanceTo( long now ) {
+            this.now = now;
+            advance();
+        }
+
+        @Override
+        protected long currentTimeMillis() {
+            return now;
+        }
+
+        @Override
+        protected void startTicking() {
+            ticking = true;
+        }
+
+        @Override
+        protected void stopTicking() {
+            ticking = false;
+        }
+    }
+
+    private static TimerWheel.Timeout timeout( final List<String> fired, final String name ) {
+        return new TimerWheel.Timeout( new Runnable() {
+            public void run() {
+                fired.add( name );
+            }
+        } );
+    }
+
+    @Test
+    public void testScheduling() {
+        ManualTimerWheel wheel = new ManualTimerWheel();
+        List<String> fired = new ArrayList<String>(  );
+        TimerWheel.Timeout a = timeout( fired, "a" );
+        TimerWheel.Timeout b = timeout( fired, "b" );
+        TimerWheel.Timeout c = timeout( fired, "c" );
+        wheel.schedule( a, 25 );
+        // more than one round of 8 slots
+        wheel.schedule( b, 200 );
+        wheel.schedule( c, 50 );
+        Assert.assertTrue( wheel.ticking );
+        Assert.assertEquals( 3, wheel.getScheduledCount() );
+
+        wheel.advanceTo( 20 );
+        Assert.assertTrue( fired.isEmpty() );
+        wheel.advanceTo( 30 );
+        Assert.assertEquals( "[a]", fired.toString() );
+        wheel.cancel( c );
+        Assert.assertFalse( c.isScheduled() );
+        wheel.advanceTo( 190 );
+        Assert.assertEquals( "[a]", fired.toString() );
+        wheel.advanceTo( 200 );
+        Assert.assertEquals( "[a, b]", fired.toString() );
+        Assert.assertEquals( 0, wheel.getScheduledCount() );
+        Assert.assertFalse( wheel.ticking );
+    }
+
+    @Test
+    public void testRescheduling() {
+        ManualTimerWheel wheel = new ManualTimerWheel();
+        List<String> fired = new ArrayList<String>(  );
+        TimerWheel.Timeout a = timeout( fired, "a" );
+        // debounce : each event postpones the timeout
+        for ( int t = 0; t <= 100; t += 20 ) {
+            wheel.advanceTo( t );
+            wheel.schedule( a, 50 );
+        }
+        Assert.assertEquals( 1, wheel.getScheduledCount() );
+        wheel.advanceTo( 140 );
+        Assert.assertTrue( fired.isEmpty() );
+        wheel.advanceTo( 150 );
+        Assert.assertEquals( "[a]", fired.toString() );
+    }
+
+    @Test
+    public void testManyTimeouts() {
+        ManualTimerWheel wheel = new ManualTimerWheel();
+        final int[] fired = new int[1];
+        Runnable task = new Runnable() {
+            public void run() {
+                fired[0]++;
+            }
+        };
+        for ( int i = 0; i < 10000; i++ ) wheel.schedule( new TimerWheel.Timeout( task ), i % 300 );
+        wheel.advanceTo( 150 );
+        Assert.assertTrue( fired[0] > 0 && fired[0] < 10000 );
+        wheel.advanceTo( 300 );
+        Assert.assertEquals( 10000, fired[0] );
+        Assert.assertFalse( wheel.ticking );
+    }
+}
@@ -0,0 +1,89 @@
+import binding.*;
+import junit.framework.Assert;
+import org.junit.Test;
+
+import java.lang.ref.WeakReference;
+
+/**
+ * Leak regression tests : long-lived Source should not keep bindings that have not been unbound
+ * (and their Targets) in memory if weak listeners mode is on.
+ *
+ * @author igor.kostromin
+ *         30.07.13 14:20
+ */
+public class WeakListenersTest {
+    private static BindingSettingsBase createSettings( boolean weak ) {
+        BindingSettingsBase settings = new BindingSettingsBase();
+        settings.initializeDefault();
+        settings.setWeakListeners( weak );
+        return settings;
+    }
+
+    /**
+     * Creates form (Target and binding) bound to Source and forgets it without unbinding.
+     */
+    private static WeakReference<Object> bindAndForget( INotifyPropertyChanged source, BindingSettingsBase settings,
+                                                        String sourceProperty ) {
+        BindingTest.Target target = new BindingTest.Target();
+        BindingBase binding = new BindingBase( target, "text", source, sourceProperty, BindingMode.OneWay, settings );
+        binding.bind();
+        return new WeakReference<Object>( target );
+    }
+
+    private static boolean collect( WeakReference<?> reference ) throws InterruptedException {
+        for ( int i = 0; i < 50 && null != reference.get(); i++ ) {
+            System.gc();
+            Thread.sleep( 10 );
+        }
+        return null == reference.get();
+    }
+
+    @Test
+    public void testWeakBindingIsCollected() throws Exception {
+        PropertyPathTest.Customer customer = new PropertyPathTest.Customer();
+        customer.setAddress( new PropertyPathTest.Address() );
+        BindingSettingsBase settings = createSettings( true );
+        WeakReference<Object> target = bindAndForget( customer.getAddress(), settings, "city" );
+        WeakReference<Object> pathTarget = bindAndForget( customer, settings, "address.city" );
+        Assert.assertEquals( 1, customer.getListenersCount() );
+        Assert.assertEquals( 2, customer.getAddress().getListenersCount() );
+
+        Assert.assertTrue( collect( target ) );
+        Assert.assertTrue( collect( pathTarget ) );
+        // dead wrappers are purged lazily
+        WeakListeners.purge();
+        Assert.assertEquals( 0, customer.getListenersCount() );
+        Assert.assertEquals( 0, customer.getAddress().getListenersCount() );
+        // changes are still delivered without errors
+        customer.getAddress().setCity( "city" );
+    }
+
+    @Test
+    public void testStrongBindingIsNotCollected() throws Exception {
+        PropertyPathTest.Address address = new PropertyPathTest.Address();
+        WeakReference<Object> target = bindAndForget( address, createSettings( false ), "city" );
+        Assert.assertFalse( collect( target ) );
+        Assert.assertEquals( 1, address.getListenersCount() );
+    }
+
+    @Test
+    public void testReferencedWeakBindingWorks() throws Exception {
+        PropertyPathTest.Address address = new PropertyPathTest.Address();
+        BindingTest.Target target = new BindingTest.Target();
+        BindingBase binding = new BindingBase( target, "text", address, "city", BindingMode.OneWay, createSettings( true ) );
+        binding.bind();
+        for ( int i = 0; i < 3; i++ ) {
+            System.gc();
+            Thread.sleep( 10 );
+        }
+        address.setCity( "Moscow" );
+        Assert.assertEquals( "Moscow", target.getText() );
+        PropertyPathTest.Address other = new PropertyPathTest.Address();
+        other.setCity( "London" );
+        binding.setSource( other );
+        Assert.assertEquals( 0, address.getListenersCount() );
+        Assert.assertEquals( "London", target.getText() );
+        binding.unbind();
+        Assert.assertEquals( 0, other.getListenersCount() );
+    }
+}